@@ -68,6 +68,8 @@ import static org.apache.camel.util.ObjectHelper.asString;
  */
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
+    // the number of invocations before generating the invoker, so methods which are rarely called uses reflection
+    private static final int INVOKER_THRESHOLD = 10;
 
     private CamelContext camelContext;
     private Class<?> type;
@@ -77,6 +79,10 @@ public class MethodInfo {
     private final boolean hasCustomAnnotation;
     private final boolean hasHandlerAnnotation;
     private Expression parametersExpression;
+    private volatile boolean parametersExpressionInitialized;
+    private MethodInvoker invoker;
+    private boolean invokerUnsupported;
+    private int invocations;
     private ExchangePattern pattern = ExchangePattern.InOut;
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
@@ -257,7 +263,10 @@ public class MethodInfo {
     private Object[] initializeArguments(boolean hasParameters, Exchange exchange) {
         if (hasParameters) {
             if (parametersExpression != null) {
-                parametersExpression.init(camelContext);
+                if (!parametersExpressionInitialized) {
+                    parametersExpression.init(camelContext);
+                    parametersExpressionInitialized = true;
+                }
 
                 return parametersExpression.evaluate(exchange, Object[].class);
             }
@@ -489,6 +498,17 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            MethodInvoker invoker = getInvoker();
+            if (invoker != null && invoker.canInvoke(pojo, arguments)) {
+                try {
+                    return invoker.invoke(pojo, arguments);
+                } catch (Throwable e) {
+                    // report the exception the same way as reflection
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -502,6 +522,21 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Gets the invoker which calls the method directly, which is created when the method has been invoked a number of
+     * times.
+     *
+     * @return the invoker, or <tt>null</tt> if reflection should be used
+     */
+    private MethodInvoker getInvoker() {
+        // the fields are not guarded, as at worst the invoker is created more than once
+        if (invoker == null && !invokerUnsupported && ++invocations >= INVOKER_THRESHOLD) {
+            invoker = MethodInvoker.create(method);
+            invokerUnsupported = invoker == null;
+        }
+        return invoker;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -545,9 +580,16 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        // the parameters which are bound to the message body, which can be used as-is if the body is of the same type
+        private final boolean[] bodyBindings;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.bodyBindings = new boolean[expressions.length];
+            for (int i = 0; i < expressions.length; i++) {
+                ParameterInfo parameter = parameters.get(i);
+                bodyBindings[i] = bodyParameters.contains(parameter) && !Exchange.class.isAssignableFrom(parameter.getType());
+            }
         }
 
         @Override
@@ -568,9 +610,12 @@ public class MethodInfo {
 
             // if there was an explicit method name to invoke, then we should support using
             // any provided parameter values in the method name
-            String methodName = exchange.getIn().getHeader(Exchange.BEAN_METHOD_NAME, String.class);
+            String methodName = null;
+            if (exchange.getIn().getHeader(Exchange.BEAN_METHOD_NAME) != null) {
+                methodName = exchange.getIn().getHeader(Exchange.BEAN_METHOD_NAME, String.class);
+            }
             // the parameter values is between the parenthesis
-            String methodParameters = StringHelper.betweenOuterPair(methodName, '(', ')');
+            String methodParameters = methodName != null ? StringHelper.betweenOuterPair(methodName, '(', ')') : null;
             // use an iterator to walk the parameter values
             Iterator<?> it = null;
             if (methodParameters != null) {
@@ -617,6 +662,10 @@ public class MethodInfo {
                     // evaluate the parameter value binding
                     value = evaluateParameterValue(exchange, i, parameterValue, parameterType);
                 }
+                // use the body as-is if its already the same type
+                if (value == null && bodyBindings[i] && parameterType.isInstance(body)) {
+                    value = body;
+                }
                 // use bean parameter binding, if still no value
                 Expression expression = expressions[i];
                 if (value == null && expression != null) {
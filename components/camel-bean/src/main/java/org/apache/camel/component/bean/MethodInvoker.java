@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a bean method without reflection, using a class generated by the {@link LambdaMetafactory} which calls the
+ * method directly.
+ * <p/>
+ * Only public instance methods, with up to {@link #MAX_PARAMETERS} parameters, on public classes which are visible from
+ * the class loader of the bean component are supported. Use {@link #canInvoke(Object, Object[])} to check whether the
+ * given arguments can be used, as otherwise the reflective invocation should be used, which reports invalid arguments
+ * accordingly.
+ */
+final class MethodInvoker {
+
+    static final int MAX_PARAMETERS = 3;
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodInvoker.class);
+
+    // the functional interfaces implemented by the generated classes, by number of parameters
+    private static final Class<?>[] FUNCTIONS = { Function0.class, Function1.class, Function2.class, Function3.class };
+    private static final Class<?>[] PROCEDURES
+            = { Procedure0.class, Procedure1.class, Procedure2.class, Procedure3.class };
+
+    interface Function0 {
+        Object apply(Object target);
+    }
+
+    interface Function1 {
+        Object apply(Object target, Object arg0);
+    }
+
+    interface Function2 {
+        Object apply(Object target, Object arg0, Object arg1);
+    }
+
+    interface Function3 {
+        Object apply(Object target, Object arg0, Object arg1, Object arg2);
+    }
+
+    interface Procedure0 {
+        void apply(Object target);
+    }
+
+    interface Procedure1 {
+        void apply(Object target, Object arg0);
+    }
+
+    interface Procedure2 {
+        void apply(Object target, Object arg0, Object arg1);
+    }
+
+    interface Procedure3 {
+        void apply(Object target, Object arg0, Object arg1, Object arg2);
+    }
+
+    private interface Invoker {
+        Object invoke(Object target, Object[] arguments);
+    }
+
+    private final Class<?> type;
+    private final Class<?>[] parameterTypes;
+    private final boolean[] primitives;
+    private final Invoker invoker;
+
+    private MethodInvoker(Class<?> type, Class<?>[] parameterTypes, Invoker invoker) {
+        this.type = type;
+        this.parameterTypes = new Class<?>[parameterTypes.length];
+        this.primitives = new boolean[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            this.parameterTypes[i] = MethodType.methodType(parameterTypes[i]).wrap().returnType();
+            this.primitives[i] = parameterTypes[i].isPrimitive();
+        }
+        this.invoker = invoker;
+    }
+
+    /**
+     * Creates the invoker for the given method
+     *
+     * @return the invoker, or <tt>null</tt> if the method is not supported
+     */
+    static MethodInvoker create(Method method) {
+        Class<?> type = method.getDeclaringClass();
+        int count = method.getParameterCount();
+        if (count > MAX_PARAMETERS || Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers())
+                || !Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+        // the generated class refers to the types of the method, which must therefore be visible from this class loader
+        if (!isVisible(type) || !isVisible(method.getReturnType())) {
+            return null;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType)) {
+                return null;
+            }
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            boolean isVoid = method.getReturnType() == void.class;
+            Class<?> functionType = isVoid ? PROCEDURES[count] : FUNCTIONS[count];
+
+            // the generated class takes care of casting, boxing and unboxing the target, arguments and result
+            MethodType samType = MethodType.genericMethodType(count + 1);
+            MethodType instantiatedType = handle.type().wrap();
+            if (isVoid) {
+                samType = samType.changeReturnType(void.class);
+                instantiatedType = instantiatedType.changeReturnType(void.class);
+            }
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(functionType), samType,
+                    handle, instantiatedType);
+            Object function = site.getTarget().invoke();
+
+            return new MethodInvoker(type, method.getParameterTypes(), createInvoker(function, count, isVoid));
+        } catch (Throwable e) {
+            LOG.debug("Cannot create invoker for method: {} due to: {}. Reflection is used instead.", method,
+                    e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static Invoker createInvoker(Object function, int count, boolean isVoid) {
+        if (isVoid) {
+            switch (count) {
+                case 0:
+                    Procedure0 p0 = (Procedure0) function;
+                    return (target, args) -> {
+                        p0.apply(target);
+                        return null;
+                    };
+                case 1:
+                    Procedure1 p1 = (Procedure1) function;
+                    return (target, args) -> {
+                        p1.apply(target, args[0]);
+                        return null;
+                    };
+                case 2:
+                    Procedure2 p2 = (Procedure2) function;
+                    return (target, args) -> {
+                        p2.apply(target, args[0], args[1]);
+                        return null;
+                    };
+                default:
+                    Procedure3 p3 = (Procedure3) function;
+                    return (target, args) -> {
+                        p3.apply(target, args[0], args[1], args[2]);
+                        return null;
+                    };
+            }
+        }
+        switch (count) {
+            case 0:
+                Function0 f0 = (Function0) function;
+                return (target, args) -> f0.apply(target);
+            case 1:
+                Function1 f1 = (Function1) function;
+                return (target, args) -> f1.apply(target, args[0]);
+            case 2:
+                Function2 f2 = (Function2) function;
+                return (target, args) -> f2.apply(target, args[0], args[1]);
+            default:
+                Function3 f3 = (Function3) function;
+                return (target, args) -> f3.apply(target, args[0], args[1], args[2]);
+        }
+    }
+
+    private static boolean isVisible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, MethodInvoker.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether the method can be invoked on the target with the given arguments, which must be of the parameter types
+     * (and not <tt>null</tt> for primitive parameters).
+     */
+    boolean canInvoke(Object target, Object[] arguments) {
+        if (!type.isInstance(target)) {
+            return false;
+        }
+        int length = arguments != null ? arguments.length : 0;
+        if (length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            Object argument = arguments[i];
+            if (argument == null ? primitives[i] : !parameterTypes[i].isInstance(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invokes the method, where any exception thrown by the method is thrown as-is.
+     */
+    Object invoke(Object target, Object[] arguments) {
+        return invoker.invoke(target, arguments);
+    }
+
+}
@@ -129,6 +129,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "probeContentType": target.setProbeContentType(property(camelContext, boolean.class, value)); return true;
         case "processstrategy":
         case "processStrategy": target.setProcessStrategy(property(camelContext, org.apache.camel.component.file.GenericFileProcessStrategy.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": target.setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "readlock":
         case "readLock": target.setReadLock(property(camelContext, java.lang.String.class, value)); return true;
         case "readlockcheckinterval":
@@ -151,6 +153,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "readLockMinAge": target.setReadLockMinAge(property(camelContext, long.class, value)); return true;
         case "readlockminlength":
         case "readLockMinLength": target.setReadLockMinLength(property(camelContext, long.class, value)); return true;
+        case "readlocknonblocking":
+        case "readLockNonBlocking": target.setReadLockNonBlocking(property(camelContext, boolean.class, value)); return true;
         case "readlockremoveoncommit":
         case "readLockRemoveOnCommit": target.setReadLockRemoveOnCommit(property(camelContext, boolean.class, value)); return true;
         case "readlockremoveonrollback":
@@ -190,6 +194,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "watchservice":
+        case "watchService": target.setWatchService(property(camelContext, boolean.class, value)); return true;
+        case "watchservicefullpollinterval":
+        case "watchServiceFullPollInterval": target.setWatchServiceFullPollInterval(property(camelContext, long.class, value)); return true;
         default: return false;
         }
     }
@@ -305,6 +313,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "probeContentType": return boolean.class;
         case "processstrategy":
         case "processStrategy": return org.apache.camel.component.file.GenericFileProcessStrategy.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "readlock":
         case "readLock": return java.lang.String.class;
         case "readlockcheckinterval":
@@ -327,6 +337,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "readLockMinAge": return long.class;
         case "readlockminlength":
         case "readLockMinLength": return long.class;
+        case "readlocknonblocking":
+        case "readLockNonBlocking": return boolean.class;
         case "readlockremoveoncommit":
         case "readLockRemoveOnCommit": return boolean.class;
         case "readlockremoveonrollback":
@@ -366,6 +378,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "watchservice":
+        case "watchService": return boolean.class;
+        case "watchservicefullpollinterval":
+        case "watchServiceFullPollInterval": return long.class;
         default: return null;
         }
     }
@@ -482,6 +498,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "probeContentType": return target.isProbeContentType();
         case "processstrategy":
         case "processStrategy": return target.getProcessStrategy();
+        case "processingthreads":
+        case "processingThreads": return target.getProcessingThreads();
         case "readlock":
         case "readLock": return target.getReadLock();
         case "readlockcheckinterval":
@@ -504,6 +522,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "readLockMinAge": return target.getReadLockMinAge();
         case "readlockminlength":
         case "readLockMinLength": return target.getReadLockMinLength();
+        case "readlocknonblocking":
+        case "readLockNonBlocking": return target.isReadLockNonBlocking();
         case "readlockremoveoncommit":
         case "readLockRemoveOnCommit": return target.isReadLockRemoveOnCommit();
         case "readlockremoveonrollback":
@@ -543,6 +563,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "watchservice":
+        case "watchService": return target.isWatchService();
+        case "watchservicefullpollinterval":
+        case "watchServiceFullPollInterval": return target.getWatchServiceFullPollInterval();
         default: return null;
         }
     }
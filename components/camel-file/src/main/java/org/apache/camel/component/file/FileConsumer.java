@@ -20,10 +20,16 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,6 +38,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +52,16 @@ public class FileConsumer extends GenericFileConsumer<File> {
     private String endpointPath;
     private Set<String> extendedAttributes;
 
+    // state when using a watch service to only list the directories which have changed
+    private WatchService watchService;
+    private final Map<WatchKey, String> watchKeys = new HashMap<>();
+    private final Map<String, Integer> watchedDirectories = new HashMap<>();
+    private final Set<String> unwatchedDirectories = new HashSet<>();
+    private final Set<String> changedDirectories = new LinkedHashSet<>();
+    private boolean fullPollRequired = true;
+    private boolean fullPoll;
+    private long lastFullPoll;
+
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -58,9 +75,112 @@ public class FileConsumer extends GenericFileConsumer<File> {
 
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
-        LOG.trace("pollDirectory from fileName: {}", fileName);
+        if (watchService != null && depth == 0) {
+            return pollChangedDirectories(fileName, fileList);
+        }
+        return doPollDirectory(fileName, fileList, depth);
+    }
 
-        depth++;
+    /**
+     * Polls the directories which the watch service has reported as changed, or which had files to consume in the
+     * previous poll, as those files may not have been consumed, such as when their read lock could not be acquired. The
+     * entire directory tree is polled on the first poll, after the watch service lost events and at the configured full
+     * poll interval.
+     */
+    protected boolean pollChangedDirectories(String fileName, List<GenericFile<File>> fileList) {
+        drainWatchEvents();
+
+        long now = System.currentTimeMillis();
+        long interval = getEndpoint().getWatchServiceFullPollInterval();
+        if (fullPollRequired || !watchedDirectories.containsKey(fileName)
+                || (interval > 0 && now - lastFullPoll >= interval)) {
+            LOG.trace("Polling entire directory tree: {}", fileName);
+            fullPollRequired = false;
+            lastFullPoll = now;
+            changedDirectories.clear();
+            fullPoll = true;
+            try {
+                return doPollDirectory(fileName, fileList, 0);
+            } finally {
+                fullPoll = false;
+            }
+        }
+
+        // directories which could not be watched must be polled every time
+        changedDirectories.addAll(unwatchedDirectories);
+        if (changedDirectories.isEmpty()) {
+            LOG.trace("No changed directories to poll in: {}", fileName);
+            return true;
+        }
+
+        for (String directory : new ArrayList<>(changedDirectories)) {
+            Integer depth = watchedDirectories.get(directory);
+            changedDirectories.remove(directory);
+            if (depth == null) {
+                // the directory has been deleted in the meantime
+                continue;
+            }
+            if (depth > 0 && !new File(directory).isDirectory()) {
+                watchedDirectories.remove(directory);
+                unwatchedDirectories.remove(directory);
+                continue;
+            }
+            if (!doPollDirectory(directory, fileList, depth)) {
+                // the limit was hit so this directory must be polled again
+                changedDirectories.add(directory);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void drainWatchEvents() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            String directory = watchKeys.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    LOG.debug("Events overflowed when watching directory: {}. Polling the entire directory tree.", directory);
+                    fullPollRequired = true;
+                }
+            }
+            if (directory != null) {
+                if (key.reset()) {
+                    changedDirectories.add(directory);
+                } else {
+                    // the directory is no longer accessible, such as when it has been deleted, so poll
+                    // its parent directory which picks up the directory again if it has been re-created
+                    LOG.trace("Stopped watching directory: {}", directory);
+                    watchKeys.remove(key);
+                    watchedDirectories.remove(directory);
+                    changedDirectories.remove(directory);
+                    int pos = directory.lastIndexOf(File.separator);
+                    if (pos > 0 && watchedDirectories.containsKey(directory.substring(0, pos))) {
+                        changedDirectories.add(directory.substring(0, pos));
+                    }
+                }
+            }
+        }
+    }
+
+    private void watchDirectory(File directory, String fileName, int depth) {
+        if (watchedDirectories.containsKey(fileName)) {
+            return;
+        }
+        try {
+            WatchKey key = directory.toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            watchKeys.put(key, fileName);
+            LOG.trace("Watching directory: {}", fileName);
+        } catch (IOException e) {
+            LOG.warn("Cannot watch directory: {} due {}. This directory will be polled instead.", fileName, e.getMessage());
+            unwatchedDirectories.add(fileName);
+        }
+        watchedDirectories.put(fileName, depth);
+    }
+
+    protected boolean doPollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
+        LOG.trace("pollDirectory from fileName: {}", fileName);
 
         File directory = new File(fileName);
         if (!directory.exists() || !directory.isDirectory()) {
@@ -71,6 +191,13 @@ public class FileConsumer extends GenericFileConsumer<File> {
             return true;
         }
 
+        if (watchService != null) {
+            // watch the directory before listing it so changes made after the listing are not missed
+            watchDirectory(directory, fileName, depth);
+        }
+
+        depth++;
+
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
@@ -114,9 +241,12 @@ public class FileConsumer extends GenericFileConsumer<File> {
                 if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
                     // recursive scan and add the sub files and folders
                     String subDirectory = fileName + File.separator + file.getName();
-                    boolean canPollMore = pollDirectory(subDirectory, fileList, depth);
-                    if (!canPollMore) {
-                        return false;
+                    // a watched sub directory is polled by itself when it has changed
+                    if (watchService == null || fullPoll || !watchedDirectories.containsKey(subDirectory)) {
+                        boolean canPollMore = doPollDirectory(subDirectory, fileList, depth);
+                        if (!canPollMore) {
+                            return false;
+                        }
                     }
                 }
             } else {
@@ -160,6 +290,10 @@ public class FileConsumer extends GenericFileConsumer<File> {
                     }
 
                     fileList.add(gf);
+                    if (watchService != null) {
+                        // poll this directory again in case the file is not consumed
+                        changedDirectories.add(fileName);
+                    }
                 }
 
             }
@@ -168,6 +302,28 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return true;
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().isWatchService() && watchService == null) {
+            watchService = getEndpoint().getFile().toPath().getFileSystem().newWatchService();
+            fullPollRequired = true;
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (watchService != null) {
+            IOHelper.close(watchService, "watchService", LOG);
+            watchService = null;
+            watchKeys.clear();
+            watchedDirectories.clear();
+            unwatchedDirectories.clear();
+            changedDirectories.clear();
+        }
+    }
+
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, List<File> files) {
         String onlyName = FileUtil.stripPath(doneFileName);
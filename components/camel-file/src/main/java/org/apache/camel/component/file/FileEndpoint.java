@@ -23,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.camel.Category;
@@ -75,6 +76,14 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private int processingThreads;
+    @UriParam(label = "consumer,advanced")
+    private boolean watchService;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchServiceFullPollInterval = 60000;
+    @UriParam(label = "consumer,lock")
+    private boolean readLockNonBlocking;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -146,6 +155,7 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         // set max messages per poll
         result.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         result.setEagerLimitMaxMessagesPerPoll(isEagerMaxMessagesPerPoll());
+        result.setProcessingThreads(getProcessingThreads());
 
         configureConsumer(result);
         return result;
@@ -226,6 +236,13 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         return new FileProcessStrategyFactory().createGenericFileProcessStrategy(getCamelContext(), getParamsAsMap());
     }
 
+    @Override
+    protected Map<String, Object> getParamsAsMap() {
+        Map<String, Object> params = super.getParamsAsMap();
+        params.put("readLockNonBlocking", readLockNonBlocking);
+        return params;
+    }
+
     public File getFile() {
         return file;
     }
@@ -348,6 +365,62 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.probeContentType = probeContentType;
     }
 
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * The number of threads to process the files of a poll concurrently. By default the files are processed one by one
+     * by the polling thread. When set then the files are processed by a thread pool of this size, which includes
+     * acquiring the read lock and retrieving the file, and the next poll happens when all the files of the current poll
+     * have been processed. Notice that the files are then no longer processed in the order they are sorted.
+     */
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
+    public boolean isWatchService() {
+        return watchService;
+    }
+
+    /**
+     * Whether to use a java.nio.file.WatchService to detect new and changed files. When enabled then the consumer only
+     * lists the directories which have been reported as changed, instead of listing the entire directory tree on every
+     * poll, which reduces the cost of polling large directory trees where only a few files change. The files are
+     * otherwise consumed as usual, including read locks, the move and done file options and idempotency.
+     */
+    public void setWatchService(boolean watchService) {
+        this.watchService = watchService;
+    }
+
+    public long getWatchServiceFullPollInterval() {
+        return watchServiceFullPollInterval;
+    }
+
+    /**
+     * The interval in millis at which the consumer lists the entire directory tree when watchService is enabled, as a
+     * safety net for changes the watch service did not report, such as when its events overflowed. Use zero or a
+     * negative value to only do this on the first poll and after the events overflowed.
+     */
+    public void setWatchServiceFullPollInterval(long watchServiceFullPollInterval) {
+        this.watchServiceFullPollInterval = watchServiceFullPollInterval;
+    }
+
+    public boolean isReadLockNonBlocking() {
+        return readLockNonBlocking;
+    }
+
+    /**
+     * This option is applied only for readLock=changed, readLock=idempotent-changed, readLock=rename and
+     * readLock=fileLock. Whether to check the read lock only once per poll, instead of blocking the consumer while
+     * waiting for the read lock to be granted. A file whose read lock cannot be granted yet is skipped and checked
+     * again on the next poll, which allows the consumer to continue with the files which are ready in the meantime. For
+     * readLock=changed the file must be unchanged between two polls, which are at least readLockCheckInterval apart.
+     */
+    public void setReadLockNonBlocking(boolean readLockNonBlocking) {
+        this.readLockNonBlocking = readLockNonBlocking;
+    }
+
     public String getExtendedAttributes() {
         return extendedAttributes;
     }
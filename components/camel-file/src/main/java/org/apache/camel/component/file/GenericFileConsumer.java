@@ -22,6 +22,11 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContextAware;
@@ -31,7 +36,6 @@ import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ShutdownRunningTask;
-import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ScheduledBatchPollingConsumer;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.CastUtils;
@@ -57,6 +61,8 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected Processor customProcessor;
     protected boolean eagerLimitMaxMessagesPerPoll = true;
     protected volatile boolean prepareOnStartup;
+    protected int processingThreads;
+    protected ExecutorService processingExecutorService;
     private final Pattern includePattern;
     private final Pattern excludePattern;
     private final String[] includeExt;
@@ -101,6 +107,23 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         this.eagerLimitMaxMessagesPerPoll = eagerLimitMaxMessagesPerPoll;
     }
 
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * The number of threads to process the files of a poll concurrently. By default the files are processed one by one
+     * by the polling thread. When set then each file (acquiring the read lock, retrieving the file and routing the
+     * exchange) is processed by a thread pool of this size, and the poll completes when all its files have been
+     * processed.
+     * <p/>
+     * The file operations must be thread-safe, which is the case for the file component, whereas the remote file
+     * components use a connection per processing thread.
+     */
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
     /**
      * Poll for files
      */
@@ -164,7 +187,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         // use a linked list so we can dequeue the exchanges
         LinkedList<Exchange> exchanges = new LinkedList<>();
         for (GenericFile<T> file : files) {
-            Exchange exchange = endpoint.createExchange(file);
+            Exchange exchange = createExchange(file);
             endpoint.configureExchange(exchange);
             endpoint.configureMessage(file, exchange.getIn());
             exchanges.add(exchange);
@@ -217,6 +240,17 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             total = maxMessagesPerPoll;
         }
 
+        if (processingExecutorService != null && customProcessor == null) {
+            try {
+                answer -= processBatchConcurrently(exchanges, total);
+            } finally {
+                // drain any in progress files as we are done with this batch
+                removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
+            }
+
+            return answer;
+        }
+
         for (int index = 0; index < total && isBatchAllowed(); index++) {
             // only loop if we are started (allowed to run)
             // use poll to remove the head so it does not consume memory even
@@ -252,6 +286,74 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return answer;
     }
 
+    /**
+     * Processes the exchanges using the processing thread pool, where at most processingThreads exchanges are
+     * dispatched at any time, and waits for the dispatched exchanges to be processed before returning.
+     * <p/>
+     * If processing an exchange fails with an exception then no more exchanges are dispatched, and the exception is
+     * thrown when the dispatched exchanges have been processed, so it is handled by the poll strategy as when
+     * processing the exchanges one by one.
+     *
+     * @return the number of exchanges which did not start processing the file
+     */
+    protected int processBatchConcurrently(Queue<Object> exchanges, int total) {
+        final Semaphore permits = new Semaphore(processingThreads);
+        final AtomicInteger notStarted = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int index = 0; index < total && isBatchAllowed() && failure.get() == null; index++) {
+            // wait for a free processing thread
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (!isBatchAllowed() || failure.get() != null) {
+                permits.release();
+                break;
+            }
+
+            Exchange exchange = (Exchange) exchanges.poll();
+            exchange.setProperty(Exchange.BATCH_INDEX, index);
+            exchange.setProperty(Exchange.BATCH_SIZE, total);
+            exchange.setProperty(Exchange.BATCH_COMPLETE, index == total - 1);
+
+            // update pending number of exchanges
+            pendingExchanges = total - index - 1;
+
+            try {
+                processingExecutorService.execute(() -> {
+                    try {
+                        if (!processExchange(exchange)) {
+                            notStarted.incrementAndGet();
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // we are stopping so put back the exchange so its removed from the in progress files
+                permits.release();
+                CastUtils.cast((Deque<?>) exchanges, Exchange.class).addFirst(exchange);
+                LOG.debug("Cannot process file as processing thread pool is stopping");
+                break;
+            }
+        }
+
+        // wait for the dispatched exchanges to be processed (the routing may continue asynchronously)
+        permits.acquireUninterruptibly(processingThreads);
+        permits.release(processingThreads);
+
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw RuntimeCamelException.wrapRuntimeException(cause);
+        }
+        return notStarted.get();
+    }
+
     /**
      * Drain any in progress files as we are done with this batch
      *
@@ -267,6 +369,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
             String key = file.getAbsoluteFilePath();
             endpoint.getInProgressRepository().remove(key);
+            releaseExchange(exchange, false);
         }
     }
 
@@ -367,6 +470,19 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
      *                  started to be processed, for some reason (not found, or aborted etc)
      */
     protected boolean processExchange(final Exchange exchange) {
+        return processExchange(exchange, operations);
+    }
+
+    /**
+     * Processes the exchange using the given operations to acquire the read lock, retrieve the file and complete the
+     * file when the exchange is done.
+     *
+     * @param  exchange       the exchange
+     * @param  fileOperations the operations to use for this file
+     * @return                <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not
+     *                        started to be processed, for some reason (not found, or aborted etc)
+     */
+    protected boolean processExchange(final Exchange exchange, final GenericFileOperations<T> fileOperations) {
         GenericFile<T> file = getExchangeFileProperty(exchange);
         LOG.trace("Processing file: {}", file);
 
@@ -379,7 +495,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         Exception beginCause = null;
         boolean begin = false;
         try {
-            begin = processStrategy.begin(operations, endpoint, exchange, file);
+            begin = processStrategy.begin(fileOperations, endpoint, exchange, file);
         } catch (Exception e) {
             beginCause = e;
         }
@@ -391,7 +507,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             LOG.debug("{} cannot begin processing file: {}", endpoint, file);
             try {
                 // abort
-                processStrategy.abort(operations, endpoint, exchange, file);
+                processStrategy.abort(fileOperations, endpoint, exchange, file);
             } catch (Exception e) {
                 abortCause = e;
             } finally {
@@ -407,6 +523,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                 String msg2 = endpoint + " cannot abort processing file: " + file + " due to: " + abortCause.getMessage();
                 handleException(msg2, abortCause);
             }
+            releaseExchange(exchange, false);
             return false;
         }
 
@@ -432,7 +549,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                 boolean retrieved;
                 Exception cause = null;
                 try {
-                    retrieved = operations.retrieveFile(name, exchange, target.getFileLength());
+                    retrieved = fileOperations.retrieveFile(name, exchange, target.getFileLength());
                 } catch (Exception e) {
                     retrieved = false;
                     cause = e;
@@ -444,6 +561,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                         // remove file from the in progress list as we could not
                         // retrieve it, but should ignore
                         endpoint.getInProgressRepository().remove(absoluteFileName);
+                        releaseExchange(exchange, false);
                         return false;
                     } else {
                         // throw exception to handle the problem with retrieving
@@ -470,20 +588,21 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             // strategies
             // (for instance to move the file after we have processed it)
             exchange.adapt(ExtendedExchange.class).addOnCompletion(
-                    new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName));
+                    new GenericFileOnCompletion<>(endpoint, fileOperations, processStrategy, target, absoluteFileName));
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
             if (endpoint.isSynchronous()) {
                 // process synchronously
                 getProcessor().process(exchange);
+                releaseExchange(exchange, false);
             } else {
                 // process the exchange using the async consumer to support
                 // async routing engine
                 // which can be supported by this file consumer as all the done
                 // work is
                 // provided in the GenericFileOnCompletion
-                getAsyncProcessor().process(exchange, EmptyAsyncCallback.get());
+                getAsyncProcessor().process(exchange, doneSync -> releaseExchange(exchange, false));
             }
 
         } catch (Exception e) {
@@ -498,11 +617,27 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
             String msg = "Error processing file " + file + " due to " + e.getMessage();
             handleException(msg, e);
+            // the exchange was not routed so we are done with it
+            releaseExchange(exchange, false);
         }
 
         return true;
     }
 
+    /**
+     * Creates the {@link Exchange} for the given file using the exchange factory of this consumer.
+     *
+     * @param  file the file
+     * @return      the exchange
+     */
+    protected Exchange createExchange(GenericFile<T> file) {
+        Exchange answer = createExchange(false);
+        if (file != null) {
+            file.bindToExchange(answer);
+        }
+        return answer;
+    }
+
     /**
      * Updates the information on {@link Message} after we have acquired read-lock and can begin process the file.
      *
@@ -550,6 +685,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             // repository
             // as the name can be different when using preMove option
             endpoint.getInProgressRepository().remove(absoluteFileName);
+            releaseExchange(exchange, false);
         }
 
         return true;
@@ -755,7 +891,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     }
 
     @SuppressWarnings("unchecked")
-    private GenericFile<T> getExchangeFileProperty(Exchange exchange) {
+    protected GenericFile<T> getExchangeFileProperty(Exchange exchange) {
         return (GenericFile<T>) exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE);
     }
 
@@ -771,6 +907,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(processStrategy);
+        if (processingThreads > 0 && processingExecutorService == null) {
+            processingExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "FileConsumerProcessing[" + endpoint.getConfiguration().getDirectory() + "]", processingThreads);
+        }
         super.doStart();
     }
 
@@ -778,6 +918,11 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected void doStop() throws Exception {
         prepareOnStartup = false;
         super.doStop();
+        if (processingExecutorService != null) {
+            // the poll waits for the files being processed, so let them complete
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(processingExecutorService);
+            processingExecutorService = null;
+        }
         ServiceHelper.stopService(processStrategy);
     }
 
@@ -48,6 +48,8 @@ public class GenericFilePollingConsumer extends EventDrivenPollingConsumer {
         // however do not limit eager as we may sort the files and thus need to
         // do a full scan so we can sort afterwards
         consumer.setEagerLimitMaxMessagesPerPoll(false);
+        // and process the file by the polling thread
+        consumer.setProcessingThreads(0);
         // we only want to poll once so disconnect by default
         return consumer;
     }
@@ -18,10 +18,13 @@ package org.apache.camel.component.file.strategy;
 
 import java.io.File;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.component.file.GenericFileEndpoint;
 import org.apache.camel.component.file.GenericFileOperations;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.util.StopWatch;
@@ -33,15 +36,29 @@ import org.slf4j.LoggerFactory;
  * different intervals (to detect changes).
  * <p/>
  * Setting the option {@link #setMarkerFiler(boolean)} to <tt>false</tt> allows to turn off using marker files.
+ * <p/>
+ * Setting the option {@link #setNonBlocking(boolean)} to <tt>true</tt> checks the file only once per poll, instead of
+ * sleeping until the file is no longer changed. The file is then skipped and checked again on the next poll, so the
+ * consumer can continue with the other files in the meantime.
  */
 public class FileChangedExclusiveReadLockStrategy extends MarkerFileExclusiveReadLockStrategy {
     private static final Logger LOG = LoggerFactory.getLogger(FileChangedExclusiveReadLockStrategy.class);
+    private static final int PENDING_FILES_PRUNE_SIZE = 1000;
+    private final Map<String, PendingFile> pendingFiles = new ConcurrentHashMap<>();
+    private volatile int pendingFilesPruneSize = PENDING_FILES_PRUNE_SIZE;
+    private boolean nonBlocking;
     private long timeout;
     private long checkInterval = 1000;
     private long minLength = 1;
     private long minAge;
     private LoggingLevel readLockLoggingLevel = LoggingLevel.DEBUG;
 
+    @Override
+    public void prepareOnStartup(GenericFileOperations<File> operations, GenericFileEndpoint<File> endpoint) {
+        super.prepareOnStartup(operations, endpoint);
+        pendingFiles.clear();
+    }
+
     @Override
     public boolean acquireExclusiveReadLock(GenericFileOperations<File> operations, GenericFile<File> file, Exchange exchange)
             throws Exception {
@@ -51,6 +68,10 @@ public class FileChangedExclusiveReadLockStrategy extends MarkerFileExclusiveRea
         }
 
         File target = new File(file.getAbsoluteFilePath());
+        if (nonBlocking) {
+            return acquireExclusiveReadLockNonBlocking(file, target);
+        }
+
         boolean exclusive = false;
 
         LOG.trace("Waiting for exclusive read lock to file: {}", file);
@@ -108,6 +129,57 @@ public class FileChangedExclusiveReadLockStrategy extends MarkerFileExclusiveRea
         return exclusive;
     }
 
+    private boolean acquireExclusiveReadLockNonBlocking(GenericFile<File> file, File target) {
+        String key = file.getAbsoluteFilePath();
+        if (!target.exists()) {
+            pendingFiles.remove(key);
+            CamelLogger.log(LOG, readLockLoggingLevel,
+                    "Cannot acquire read lock as file no longer exists. Will skip the file: " + file);
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        PendingFile pending = pendingFiles.get(key);
+        if (minAge == 0 && pending != null && now - pending.checked < checkInterval) {
+            LOG.trace("Exclusive read lock not granted as file was checked less than {} millis ago: {}", checkInterval, file);
+            return false;
+        }
+
+        long newLastModified = target.lastModified();
+        long newLength = target.length();
+
+        if (pending != null) {
+            LOG.trace("Previous last modified: {}, new last modified: {}", pending.lastModified, newLastModified);
+            LOG.trace("Previous length: {}, new length: {}", pending.length, newLength);
+        }
+
+        if (newLength >= minLength && ((minAge == 0 && pending != null && newLastModified == pending.lastModified
+                && newLength == pending.length) || (minAge != 0 && newLastModified < now - minAge))) {
+            LOG.trace("Read lock acquired.");
+            pendingFiles.remove(key);
+            return true;
+        }
+
+        long since = now;
+        if (pending != null) {
+            if (timeout > 0 && now - pending.since > timeout) {
+                CamelLogger.log(LOG, readLockLoggingLevel,
+                        "Cannot acquire read lock within " + timeout + " millis. Will skip the file: " + file);
+            } else {
+                since = pending.since;
+            }
+        }
+        pendingFiles.put(key, new PendingFile(newLastModified, newLength, now, since));
+        LOG.trace("Exclusive read lock not granted. Will check the file again on the next poll: {}", file);
+
+        if (pendingFiles.size() > pendingFilesPruneSize) {
+            // remove the files which have been consumed or deleted by others in the meantime
+            pendingFiles.keySet().removeIf(name -> !new File(name).exists());
+            pendingFilesPruneSize = Math.max(PENDING_FILES_PRUNE_SIZE, pendingFiles.size() * 2);
+        }
+        return false;
+    }
+
     private boolean sleep() {
         LOG.trace("Exclusive read lock not granted. Sleeping for {} millis.", checkInterval);
         try {
@@ -157,4 +229,29 @@ public class FileChangedExclusiveReadLockStrategy extends MarkerFileExclusiveRea
     public void setMinAge(long minAge) {
         this.minAge = minAge;
     }
+
+    public boolean isNonBlocking() {
+        return nonBlocking;
+    }
+
+    public void setNonBlocking(boolean nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
+
+    /**
+     * The last seen state of a file which is not yet ready to be consumed.
+     */
+    private static final class PendingFile {
+        private final long lastModified;
+        private final long length;
+        private final long checked;
+        private final long since;
+
+        private PendingFile(long lastModified, long length, long checked, long since) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.checked = checked;
+            this.since = since;
+        }
+    }
 }
@@ -210,6 +210,10 @@ public class FileIdempotentChangedRepositoryReadLockStrategy extends ServiceSupp
         changed.setMinAge(minAge);
     }
 
+    public void setNonBlocking(boolean nonBlocking) {
+        changed.setNonBlocking(nonBlocking);
+    }
+
     @Override
     public CamelContext getCamelContext() {
         return camelContext;
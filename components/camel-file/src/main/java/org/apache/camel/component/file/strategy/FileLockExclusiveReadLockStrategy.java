@@ -46,6 +46,7 @@ public class FileLockExclusiveReadLockStrategy extends MarkerFileExclusiveReadLo
     private long timeout;
     private long checkInterval = 1000;
     private LoggingLevel readLockLoggingLevel = LoggingLevel.DEBUG;
+    private boolean nonBlocking;
 
     @Override
     public void prepareOnStartup(GenericFileOperations<File> operations, GenericFileEndpoint<File> endpoint) {
@@ -99,7 +100,7 @@ public class FileLockExclusiveReadLockStrategy extends MarkerFileExclusiveReadLo
                 // get the lock using either try lock or not depending on if we
                 // are using timeout or not
                 try {
-                    lock = timeout > 0 ? channel.tryLock() : channel.lock();
+                    lock = timeout > 0 || nonBlocking ? channel.tryLock() : channel.lock();
                 } catch (IllegalStateException ex) {
                     // Also catch the OverlappingFileLockException here. Do
                     // nothing here
@@ -107,6 +108,10 @@ public class FileLockExclusiveReadLockStrategy extends MarkerFileExclusiveReadLo
                 if (lock != null) {
                     LOG.trace("Acquired exclusive read lock: {} to file: {}", lock, target);
                     exclusive = true;
+                } else if (nonBlocking) {
+                    CamelLogger.log(LOG, readLockLoggingLevel,
+                            "Cannot acquire read lock. Will skip the file and try again on the next poll: " + target);
+                    return false;
                 } else {
                     boolean interrupted = sleep();
                     if (interrupted) {
@@ -121,7 +126,7 @@ public class FileLockExclusiveReadLockStrategy extends MarkerFileExclusiveReadLo
             // somehow hold a lock to a file
             // such as AntiVirus or MS Office that has special locks for it's
             // supported files
-            if (timeout == 0) {
+            if (timeout == 0 || nonBlocking) {
                 // if not using timeout, then we cant retry, so return false
                 return false;
             }
@@ -208,4 +213,11 @@ public class FileLockExclusiveReadLockStrategy extends MarkerFileExclusiveReadLo
         this.readLockLoggingLevel = readLockLoggingLevel;
     }
 
+    public boolean isNonBlocking() {
+        return nonBlocking;
+    }
+
+    public void setNonBlocking(boolean nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
 }
@@ -116,9 +116,19 @@ public final class FileProcessStrategyFactory implements GenericFileProcessStrat
             } else if ("markerFile".equals(readLock)) {
                 strategy = new MarkerFileExclusiveReadLockStrategy();
             } else if ("fileLock".equals(readLock)) {
-                strategy = new FileLockExclusiveReadLockStrategy();
+                FileLockExclusiveReadLockStrategy readLockStrategy = new FileLockExclusiveReadLockStrategy();
+                Boolean nonBlocking = (Boolean) params.get("readLockNonBlocking");
+                if (nonBlocking != null) {
+                    readLockStrategy.setNonBlocking(nonBlocking);
+                }
+                strategy = readLockStrategy;
             } else if ("rename".equals(readLock)) {
-                strategy = new FileRenameExclusiveReadLockStrategy();
+                FileRenameExclusiveReadLockStrategy readLockStrategy = new FileRenameExclusiveReadLockStrategy();
+                Boolean nonBlocking = (Boolean) params.get("readLockNonBlocking");
+                if (nonBlocking != null) {
+                    readLockStrategy.setNonBlocking(nonBlocking);
+                }
+                strategy = readLockStrategy;
             } else if ("changed".equals(readLock)) {
                 FileChangedExclusiveReadLockStrategy readLockStrategy = new FileChangedExclusiveReadLockStrategy();
                 Long minLength = (Long) params.get("readLockMinLength");
@@ -129,6 +139,10 @@ public final class FileProcessStrategyFactory implements GenericFileProcessStrat
                 if (null != minAge) {
                     readLockStrategy.setMinAge(minAge);
                 }
+                Boolean nonBlocking = (Boolean) params.get("readLockNonBlocking");
+                if (nonBlocking != null) {
+                    readLockStrategy.setNonBlocking(nonBlocking);
+                }
                 strategy = readLockStrategy;
             } else if ("idempotent".equals(readLock)) {
                 FileIdempotentRepositoryReadLockStrategy readLockStrategy = new FileIdempotentRepositoryReadLockStrategy();
@@ -185,6 +199,10 @@ public final class FileProcessStrategyFactory implements GenericFileProcessStrat
                 if (null != minAge) {
                     readLockStrategy.setMinAge(minAge);
                 }
+                Boolean nonBlocking = (Boolean) params.get("readLockNonBlocking");
+                if (nonBlocking != null) {
+                    readLockStrategy.setNonBlocking(nonBlocking);
+                }
                 Integer readLockIdempotentReleaseDelay = (Integer) params.get("readLockIdempotentReleaseDelay");
                 if (readLockIdempotentReleaseDelay != null) {
                     readLockStrategy.setReadLockIdempotentReleaseDelay(readLockIdempotentReleaseDelay);
@@ -40,6 +40,7 @@ public class GenericFileRenameExclusiveReadLockStrategy<T> implements GenericFil
     private long timeout;
     private long checkInterval;
     private LoggingLevel readLockLoggingLevel = LoggingLevel.DEBUG;
+    private boolean nonBlocking;
 
     @Override
     public void prepareOnStartup(GenericFileOperations<T> operations, GenericFileEndpoint<T> endpoint) throws Exception {
@@ -89,6 +90,10 @@ public class GenericFileRenameExclusiveReadLockStrategy<T> implements GenericFil
                 LOG.trace("Acquired exclusive read lock to file: {}", file);
                 // rename it back so we can read it
                 operations.renameFile(newFile.getAbsoluteFilePath(), file.getAbsoluteFilePath());
+            } else if (nonBlocking) {
+                CamelLogger.log(LOG, readLockLoggingLevel,
+                        "Cannot acquire read lock. Will skip the file and try again on the next poll: " + file);
+                return false;
             } else {
                 boolean interrupted = sleep();
                 if (interrupted) {
@@ -150,6 +155,14 @@ public class GenericFileRenameExclusiveReadLockStrategy<T> implements GenericFil
         this.readLockLoggingLevel = readLockLoggingLevel;
     }
 
+    public boolean isNonBlocking() {
+        return nonBlocking;
+    }
+
+    public void setNonBlocking(boolean nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
+
     @Override
     public void setMarkerFiler(boolean markerFile) {
         // noop - we do not use marker file with the rename strategy
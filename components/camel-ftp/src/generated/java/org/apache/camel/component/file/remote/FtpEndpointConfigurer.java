@@ -144,6 +144,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "preSort": target.setPreSort(property(camelContext, boolean.class, value)); return true;
         case "processstrategy":
         case "processStrategy": target.setProcessStrategy(property(camelContext, org.apache.camel.component.file.GenericFileProcessStrategy.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": target.setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "readlock":
         case "readLock": target.setReadLock(property(camelContext, java.lang.String.class, value)); return true;
         case "readlockcheckinterval":
@@ -347,6 +349,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "preSort": return boolean.class;
         case "processstrategy":
         case "processStrategy": return org.apache.camel.component.file.GenericFileProcessStrategy.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "readlock":
         case "readLock": return java.lang.String.class;
         case "readlockcheckinterval":
@@ -551,6 +555,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "preSort": return target.isPreSort();
         case "processstrategy":
         case "processStrategy": return target.getProcessStrategy();
+        case "processingthreads":
+        case "processingThreads": return target.getProcessingThreads();
         case "readlock":
         case "readLock": return target.getReadLock();
         case "readlockcheckinterval":
@@ -20,13 +20,14 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(114);
+        Set<String> props = new HashSet<>(115);
         props.add("disconnect");
         props.add("moveExistingFileStrategy");
         props.add("fileName");
         props.add("synchronous");
         props.add("idempotent");
         props.add("password");
+        props.add("processingThreads");
         props.add("preSort");
         props.add("sortBy");
         props.add("scheduledExecutorService");
@@ -157,6 +157,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "privateKeyUri": target.getConfiguration().setPrivateKeyUri(property(camelContext, java.lang.String.class, value)); return true;
         case "processstrategy":
         case "processStrategy": target.setProcessStrategy(property(camelContext, org.apache.camel.component.file.GenericFileProcessStrategy.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": target.setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "proxy": target.setProxy(property(camelContext, com.jcraft.jsch.Proxy.class, value)); return true;
         case "readlock":
         case "readLock": target.setReadLock(property(camelContext, java.lang.String.class, value)); return true;
@@ -380,6 +382,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "privateKeyUri": return java.lang.String.class;
         case "processstrategy":
         case "processStrategy": return org.apache.camel.component.file.GenericFileProcessStrategy.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "proxy": return com.jcraft.jsch.Proxy.class;
         case "readlock":
         case "readLock": return java.lang.String.class;
@@ -604,6 +608,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "privateKeyUri": return target.getConfiguration().getPrivateKeyUri();
         case "processstrategy":
         case "processStrategy": return target.getProcessStrategy();
+        case "processingthreads":
+        case "processingThreads": return target.getProcessingThreads();
         case "proxy": return target.getProxy();
         case "readlock":
         case "readLock": return target.getReadLock();
@@ -20,7 +20,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(125);
+        Set<String> props = new HashSet<>(126);
         props.add("disconnect");
         props.add("moveExistingFileStrategy");
         props.add("fileName");
@@ -29,6 +29,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("idempotent");
         props.add("password");
         props.add("privateKeyPassphrase");
+        props.add("processingThreads");
         props.add("existDirCheckUsingLs");
         props.add("preSort");
         props.add("sortBy");
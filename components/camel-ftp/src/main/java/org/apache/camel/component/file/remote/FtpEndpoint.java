@@ -103,6 +103,10 @@ public class FtpEndpoint<T extends FTPFile> extends RemoteFileEndpoint<FTPFile>
         if (isResumeDownload() && !getConfiguration().isBinary()) {
             throw new IllegalArgumentException("The option binary must be enabled when resumeDownload=true");
         }
+        if (getProcessingThreads() > 0 && getFtpClient() != null) {
+            throw new IllegalArgumentException(
+                    "The option ftpClient cannot be used when processingThreads is set, as each processing thread uses its own client");
+        }
         return super.createConsumer(processor);
     }
 
@@ -18,6 +18,9 @@ package org.apache.camel.component.file.remote;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
@@ -41,6 +44,7 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
 
     protected transient boolean loggedIn;
     protected transient boolean loggedInWarning;
+    protected volatile BlockingQueue<RemoteFileOperations<T>> pooledOperations;
 
     public RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations,
                               GenericFileProcessStrategy processStrategy) {
@@ -144,9 +148,58 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
             });
         }
 
+        if (pooledOperations != null) {
+            return processExchangeWithPooledOperations(exchange);
+        }
         return super.processExchange(exchange);
     }
 
+    /**
+     * Processes the exchange by a processing thread using a connection from the pool. The connection is used by the
+     * exchange until it is done, as the file is committed or rolled back (and possibly streamed) using the connection,
+     * and then returned to the pool.
+     */
+    protected boolean processExchangeWithPooledOperations(Exchange exchange) {
+        RemoteFileOperations<T> pooled;
+        try {
+            pooled = pooledOperations.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortExchange(exchange, "Interrupted while waiting for a connection to: " + remoteServer(), e);
+            return false;
+        }
+
+        PooledOperationsOnCompletion onCompletion = new PooledOperationsOnCompletion(pooledOperations, pooled);
+        try {
+            connectIfNecessary(pooled);
+        } catch (Exception e) {
+            onCompletion.release();
+            abortExchange(exchange, "Cannot connect/login to: " + remoteServer(), e);
+            return false;
+        }
+
+        // return the connection when the exchange is done, which is after the file has been committed or rolled back
+        exchange.adapt(ExtendedExchange.class).addOnCompletion(onCompletion);
+        boolean started = false;
+        try {
+            started = super.processExchange(exchange, pooled);
+        } finally {
+            if (!started) {
+                // the exchange was not routed so the on completion is not executed
+                onCompletion.release();
+            }
+        }
+        return started;
+    }
+
+    private void abortExchange(Exchange exchange, String message, Exception cause) {
+        // the file is not processed so remove it from the in progress list
+        GenericFile<T> file = getExchangeFileProperty(exchange);
+        endpoint.getInProgressRepository().remove(file.getAbsoluteFilePath());
+        handleException(message + " to process file: " + file, cause);
+        releaseExchange(exchange, false);
+    }
+
     @Override
     protected boolean isRetrieveFile() {
         return getEndpoint().isDownload();
@@ -164,10 +217,28 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         return !dir.equals("/") && !dir.equals("\\");
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (processingThreads > 0 && pooledOperations == null) {
+            // the remote file operations are not thread safe so each processing thread uses its own connection
+            pooledOperations = new ArrayBlockingQueue<>(processingThreads);
+            for (int i = 0; i < processingThreads; i++) {
+                pooledOperations.add(getEndpoint().createRemoteFileOperations());
+            }
+        }
+        super.doStart();
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
         disconnect();
+        if (pooledOperations != null) {
+            for (RemoteFileOperations<T> pooled : pooledOperations) {
+                disconnect(pooled);
+            }
+            pooledOperations = null;
+        }
     }
 
     protected void disconnect() {
@@ -189,6 +260,64 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         }
     }
 
+    /**
+     * Returns the pooled connection when the exchange is done.
+     */
+    private final class PooledOperationsOnCompletion extends SynchronizationAdapter {
+
+        private final BlockingQueue<RemoteFileOperations<T>> pool;
+        private final RemoteFileOperations<T> pooled;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PooledOperationsOnCompletion(BlockingQueue<RemoteFileOperations<T>> pool, RemoteFileOperations<T> pooled) {
+            this.pool = pool;
+            this.pooled = pooled;
+        }
+
+        @Override
+        public void onDone(Exchange exchange) {
+            release();
+        }
+
+        void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            // the pool is discarded when the consumer is stopped
+            boolean stopped = pool != pooledOperations;
+            if (getEndpoint().isDisconnect() || stopped) {
+                disconnect(pooled);
+            }
+            if (!stopped) {
+                pool.add(pooled);
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            // the connection is used by the other on completions, so we want to return it last
+            return Ordered.LOWEST;
+        }
+
+        @Override
+        public String toString() {
+            return "ReturnPooledConnection";
+        }
+    }
+
+    private void disconnect(RemoteFileOperations<T> pooled) {
+        try {
+            if (pooled.isConnected()) {
+                LOG.debug("Disconnecting pooled connection from: {}", remoteServer());
+                pooled.disconnect();
+            }
+        } catch (GenericFileOperationFailedException e) {
+            // ignore just log a warning
+            LOG.warn("Error occurred while disconnecting from {} due: {} This exception will be ignored.",
+                    remoteServer(), e.getMessage());
+        }
+    }
+
     protected void forceDisconnect() {
         // eager indicate we are no longer logged in
         loggedIn = false;
@@ -229,6 +358,27 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         }
     }
 
+    /**
+     * Checks that the pooled connection is still open (as the server may have closed it since it was last used), and
+     * connects again if not.
+     */
+    protected void connectIfNecessary(RemoteFileOperations<T> pooled) throws IOException {
+        boolean isConnected = false;
+        try {
+            isConnected = pooled.isConnected() && pooled.sendNoop();
+        } catch (Exception ex) {
+            // here we just ignore the exception and try to reconnect
+            LOG.debug("Exception checking pooled connection status: {}", ex.getMessage());
+        }
+
+        if (!isConnected) {
+            LOG.debug("Pooled connection not connected/logged in, connecting to: {}", remoteServer());
+            if (!pooled.connect((RemoteFileConfiguration) endpoint.getConfiguration(), null)) {
+                throw new GenericFileOperationFailedException("Cannot connect/login to: " + remoteServer());
+            }
+        }
+    }
+
     /**
      * Returns human readable server information for logging purpose
      */
@@ -65,6 +65,14 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
                                                          + "Exchange that has details about the file such as file name, file size, etc. It's just that the file will "
                                                          + "not be downloaded.")
     private boolean download = true;
+    @UriParam(label = "consumer,advanced", description = "The number of files of a poll to download and process "
+                                                         + "concurrently. By default the files are processed one by one using the single connection of the "
+                                                         + "consumer. When set then the files are processed by a thread pool of this size, where each thread "
+                                                         + "uses its own connection to the remote server (which is reconnected if needed) for acquiring the read "
+                                                         + "lock, downloading the file, and moving or deleting the file when done. The directory is still listed "
+                                                         + "using the connection of the consumer, and the next poll happens when all the files of the current "
+                                                         + "poll have been processed.")
+    private int processingThreads;
 
     public RemoteFileEndpoint() {
         // no args constructor for spring bean endpoint configuration
@@ -155,6 +163,7 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
         // set max messages per poll
         consumer.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         consumer.setEagerLimitMaxMessagesPerPoll(isEagerMaxMessagesPerPoll());
+        consumer.setProcessingThreads(getProcessingThreads());
 
         configureConsumer(consumer);
         return consumer;
@@ -310,4 +319,20 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
         this.download = download;
     }
 
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * The number of files of a poll to download and process concurrently. By default the files are processed one by one
+     * using the single connection of the consumer. When set then the files are processed by a thread pool of this size,
+     * where each thread uses its own connection to the remote server (which is reconnected if needed) for acquiring the
+     * read lock, downloading the file, and moving or deleting the file when done. The directory is still listed using
+     * the connection of the consumer, and the next poll happens when all the files of the current poll have been
+     * processed.
+     */
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
 }
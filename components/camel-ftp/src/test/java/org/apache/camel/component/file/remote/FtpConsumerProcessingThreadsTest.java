@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for the processingThreads option to download the files of a poll concurrently using a connection per
+ * processing thread
+ */
+public class FtpConsumerProcessingThreadsTest extends FtpServerTestSupport {
+
+    private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    private String getFtpUrl() {
+        return getFtpUrl("processing");
+    }
+
+    private String getFtpUrl(String directory) {
+        return "ftp://admin@localhost:{{ftp.server.port}}/" + directory + "?password=admin&processingThreads=3"
+               + "&streamDownload=true&stepwise=false&delete=true&initialDelay=0&delay=100";
+    }
+
+    @Test
+    public void testProcessingThreads() throws Exception {
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(10).create();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedPropertyReceived(Exchange.BATCH_SIZE, 10);
+
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            bodies.add("Message " + i);
+            template.sendBodyAndHeader("file:" + service.getFtpRootDir() + "/processing", "Message " + i,
+                    Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+        mock.expectedBodiesReceivedInAnyOrder(bodies);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(threadNames.size() > 1, "Should process files on several threads: " + threadNames);
+
+        // the files should be deleted using the pooled connections
+        assertTrue(notify.matchesWaitTime());
+        File[] files = new File(service.getFtpRootDir() + "/processing").listFiles(File::isFile);
+        assertEquals(0, files.length, "Should have deleted all the files");
+        assertPooledConnectionsReturned("foo");
+    }
+
+    @Test
+    public void testProcessingThreadsHandover() throws Exception {
+        NotifyBuilder notify = new NotifyBuilder(context).from("seda:*").whenDone(10).create();
+
+        MockEndpoint mock = getMockEndpoint("mock:handover");
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            bodies.add("Message " + i);
+            template.sendBodyAndHeader("file:" + service.getFtpRootDir() + "/handover", "Message " + i,
+                    Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+        mock.expectedBodiesReceivedInAnyOrder(bodies);
+
+        context.getRouteController().startRoute("bar");
+
+        // the streamed files are read and deleted after being handed over to another thread
+        assertMockEndpointsSatisfied();
+        assertTrue(notify.matchesWaitTime());
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> new File(service.getFtpRootDir() + "/handover").listFiles(File::isFile).length == 0);
+        assertPooledConnectionsReturned("bar");
+    }
+
+    private void assertPooledConnectionsReturned(String routeId) {
+        RemoteFileConsumer<?> consumer = (RemoteFileConsumer<?>) context.getRoute(routeId).getConsumer();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> consumer.pooledOperations.size() == 3);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(getFtpUrl()).routeId("foo").noAutoStartup()
+                        .process(e -> threadNames.add(Thread.currentThread().getName()))
+                        .delay(50)
+                        .convertBodyTo(String.class).to("mock:result");
+
+                // the connection is in use until the handed over exchange is done
+                from(getFtpUrl("handover")).routeId("bar").noAutoStartup()
+                        .to("seda:handover");
+
+                from("seda:handover")
+                        .delay(50)
+                        .convertBodyTo(String.class).to("mock:handover");
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote.sftp;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for the processingThreads option to download the files of a poll concurrently using a connection per
+ * processing thread
+ */
+@EnabledIf(value = "org.apache.camel.component.file.remote.services.SftpEmbeddedService#hasRequiredAlgorithms")
+public class SftpConsumerProcessingThreadsTest extends SftpServerTestSupport {
+
+    private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    private String getSftpUrl() {
+        return "sftp://localhost:{{ftp.server.port}}/" + service.getFtpRootDir() + "/processing"
+               + "?username=admin&password=admin&processingThreads=3&streamDownload=true&delete=true&initialDelay=0&delay=100";
+    }
+
+    @Test
+    public void testProcessingThreads() throws Exception {
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(10).create();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedPropertyReceived(Exchange.BATCH_SIZE, 10);
+
+        List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            bodies.add("Message " + i);
+            template.sendBodyAndHeader("file:" + service.getFtpRootDir() + "/processing", "Message " + i,
+                    Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+        mock.expectedBodiesReceivedInAnyOrder(bodies);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(threadNames.size() > 1, "Should process files on several threads: " + threadNames);
+
+        // the files should be deleted using the pooled connections
+        assertTrue(notify.matchesWaitTime());
+        File[] files = new File(service.getFtpRootDir() + "/processing").listFiles(File::isFile);
+        assertEquals(0, files.length, "Should have deleted all the files");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(getSftpUrl()).routeId("foo").noAutoStartup()
+                        .process(e -> threadNames.add(Thread.currentThread().getName()))
+                        .delay(50)
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
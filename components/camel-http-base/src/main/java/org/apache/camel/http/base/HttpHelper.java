@@ -16,12 +16,14 @@
  */
 package org.apache.camel.http.base;
 
+import java.io.File;
 import java.net.ProtocolException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
@@ -74,6 +76,30 @@ public final class HttpHelper {
         }
     }
 
+    /**
+     * Gets the file of the message body, when the body is a {@link File} or wraps a {@link File} such as a message
+     * consumed by the file component, which allows to send the file content without reading it into memory first.
+     *
+     * @param  body     the message body
+     * @param  exchange the exchange
+     * @return          the file, or <tt>null</tt> if the body is not a file, or the content of the file is to be
+     *                  converted with a charset
+     */
+    public static File getFileBody(Object body, Exchange exchange) {
+        Object file = body;
+        if (body instanceof WrappedFile) {
+            // the file component stores the charset of the file to convert its content with
+            if (exchange.getProperty(Exchange.CHARSET_NAME) != null) {
+                return null;
+            }
+            file = ((WrappedFile<?>) body).getFile();
+        }
+        if (file instanceof File && ((File) file).isFile()) {
+            return (File) file;
+        }
+        return null;
+    }
+
     /**
      * @deprecated use {@link IOHelper#getCharsetNameFromContentType(String)}
      */
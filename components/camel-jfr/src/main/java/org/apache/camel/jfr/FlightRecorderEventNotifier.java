@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.FlightRecorder;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.Route;
+import org.apache.camel.Service;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelInternalProcessorAdvice;
+import org.apache.camel.spi.ProcessorAdviceFactory;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.LifecycleStrategySupport;
+
+/**
+ * To emit exchange, processor, redelivery, producer and type converter events to Java Flight Recorder.
+ * <p/>
+ * To keep the overhead low then only exchanges and processors which are slower than the configured thresholds are
+ * emitted, and no events are created when there is no recording in progress. Failed exchanges and redelivery attempts
+ * are always emitted.
+ * <p/>
+ * The notifier is also a {@link ProcessorAdviceFactory}, which must be bound in the registry before the routes are
+ * initialized, to record the processor steps. This is done automatic when the notifier is added to Camel.
+ */
+public class FlightRecorderEventNotifier extends EventNotifierSupport implements CamelContextAware, ProcessorAdviceFactory {
+
+    private CamelContext camelContext;
+    private long exchangeThreshold = 100;
+    private long stepThreshold = 10;
+    private boolean typeConverterStatistics = true;
+    private Runnable typeConverterHook;
+
+    public FlightRecorderEventNotifier() {
+        setIgnoreCamelContextEvents(true);
+        setIgnoreRouteEvents(true);
+        setIgnoreServiceEvents(true);
+        setIgnoreExchangeCreatedEvent(true);
+        setIgnoreExchangeSendingEvents(true);
+        setIgnoreExchangeSentEvents(true);
+        setIgnoreStepEvents(true);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public long getExchangeThreshold() {
+        return exchangeThreshold;
+    }
+
+    /**
+     * The minimum time in millis an exchange must take before it is emitted when completed. Failed exchanges are always
+     * emitted. The default is 100 millis.
+     */
+    public void setExchangeThreshold(long exchangeThreshold) {
+        this.exchangeThreshold = exchangeThreshold;
+    }
+
+    public long getStepThreshold() {
+        return stepThreshold;
+    }
+
+    /**
+     * The minimum time in millis a processor must take processing an exchange before the step is emitted. The default
+     * is 10 millis.
+     */
+    public void setStepThreshold(long stepThreshold) {
+        this.stepThreshold = stepThreshold;
+    }
+
+    public boolean isTypeConverterStatistics() {
+        return typeConverterStatistics;
+    }
+
+    /**
+     * Whether to enable type converter statistics, which are periodically emitted. This is enabled by default.
+     */
+    public void setTypeConverterStatistics(boolean typeConverterStatistics) {
+        this.typeConverterStatistics = typeConverterStatistics;
+    }
+
+    @Override
+    public CamelInternalProcessorAdvice<?> createProcessorAdvice(Route route, NamedNode definition, Processor processor) {
+        return new FlightRecorderProcessorAdvice(
+                route.getCamelContext().getName(), route.getRouteId(), definition.getId(), definition.getLabel(),
+                TimeUnit.MILLISECONDS.toNanos(stepThreshold));
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        switch (event.getType()) {
+            case ExchangeCreated:
+                onExchangeCreated(((CamelEvent.ExchangeEvent) event).getExchange());
+                break;
+            case ExchangeCompleted:
+            case ExchangeFailed:
+                onExchangeDone(((CamelEvent.ExchangeEvent) event).getExchange());
+                break;
+            case ExchangeRedelivery:
+                onExchangeRedelivery((CamelEvent.ExchangeRedeliveryEvent) event);
+                break;
+            default:
+                break;
+        }
+    }
+
+    protected void onExchangeCreated(Exchange exchange) {
+        FlightRecorderExchangeCreatedEvent event = new FlightRecorderExchangeCreatedEvent();
+        if (event.shouldCommit()) {
+            event.camelContext = exchange.getContext().getName();
+            event.exchangeId = exchange.getExchangeId();
+            event.routeId = exchange.getFromRouteId();
+            event.endpointUri = endpointUri(exchange.getFromEndpoint());
+            event.commit();
+        }
+    }
+
+    protected void onExchangeDone(Exchange exchange) {
+        long elapsed = System.currentTimeMillis() - exchange.getCreated();
+        boolean failed = exchange.isFailed();
+        if (!failed && elapsed < exchangeThreshold) {
+            return;
+        }
+        FlightRecorderExchangeEvent event = new FlightRecorderExchangeEvent();
+        if (event.shouldCommit()) {
+            event.camelContext = exchange.getContext().getName();
+            event.exchangeId = exchange.getExchangeId();
+            event.routeId = exchange.getFromRouteId();
+            event.endpointUri = endpointUri(exchange.getFromEndpoint());
+            event.elapsed = elapsed;
+            event.failed = failed;
+            if (exchange.getException() != null) {
+                event.exception = exchange.getException().getClass().getName();
+            }
+            event.commit();
+        }
+    }
+
+    protected void onExchangeRedelivery(CamelEvent.ExchangeRedeliveryEvent redelivery) {
+        FlightRecorderRedeliveryEvent event = new FlightRecorderRedeliveryEvent();
+        if (event.shouldCommit()) {
+            Exchange exchange = redelivery.getExchange();
+            event.camelContext = exchange.getContext().getName();
+            event.exchangeId = exchange.getExchangeId();
+            event.routeId = exchange.getFromRouteId();
+            event.attempt = redelivery.getAttempt();
+            // the exception is cleared before the redelivery attempt
+            Exception cause = exchange.getException() != null
+                    ? exchange.getException() : exchange.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
+            if (cause != null) {
+                event.exception = cause.getClass().getName();
+            }
+            event.commit();
+        }
+    }
+
+    private static String endpointUri(Endpoint endpoint) {
+        return endpoint != null ? endpoint.getEndpointUri() : null;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+
+        // register the events up front, as the event classes may otherwise be loaded before flight recorder is initialized
+        FlightRecorder.register(FlightRecorderExchangeCreatedEvent.class);
+        FlightRecorder.register(FlightRecorderExchangeEvent.class);
+        FlightRecorder.register(FlightRecorderProcessorStepEvent.class);
+        FlightRecorder.register(FlightRecorderRedeliveryEvent.class);
+        FlightRecorder.register(FlightRecorderProducerCreatedEvent.class);
+        FlightRecorder.register(FlightRecorderTypeConverterStatisticsEvent.class);
+
+        if (camelContext != null) {
+            // the processor advices are looked up from the registry when the routes are initialized
+            if (!camelContext.getRegistry().findByType(ProcessorAdviceFactory.class).contains(this)) {
+                camelContext.getRegistry().bind("camelFlightRecorderEventNotifier", this);
+            }
+            camelContext.addLifecycleStrategy(new ProducerLifecycleStrategy());
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (camelContext != null && typeConverterStatistics) {
+            final String name = camelContext.getName();
+            final TypeConverterRegistry.Statistics statistics = camelContext.getTypeConverterRegistry().getStatistics();
+            statistics.setStatisticsEnabled(true);
+            typeConverterHook = () -> {
+                FlightRecorderTypeConverterStatisticsEvent event = new FlightRecorderTypeConverterStatisticsEvent();
+                event.camelContext = name;
+                event.attemptCounter = statistics.getAttemptCounter();
+                event.hitCounter = statistics.getHitCounter();
+                event.missCounter = statistics.getMissCounter();
+                event.failedCounter = statistics.getFailedCounter();
+                event.noopCounter = statistics.getNoopCounter();
+                event.commit();
+            };
+            FlightRecorder.addPeriodicEvent(FlightRecorderTypeConverterStatisticsEvent.class, typeConverterHook);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (typeConverterHook != null) {
+            FlightRecorder.removePeriodicEvent(typeConverterHook);
+            typeConverterHook = null;
+        }
+    }
+
+    /**
+     * Producers are added as services to Camel when they are created (such as a miss in the producer cache).
+     */
+    private final class ProducerLifecycleStrategy extends LifecycleStrategySupport {
+
+        @Override
+        public void onServiceAdd(CamelContext context, Service service, Route route) {
+            if (service instanceof Producer) {
+                FlightRecorderProducerCreatedEvent event = new FlightRecorderProducerCreatedEvent();
+                if (event.shouldCommit()) {
+                    Producer producer = (Producer) service;
+                    event.camelContext = context.getName();
+                    event.routeId = route != null ? route.getRouteId() : null;
+                    event.endpointUri = endpointUri(producer.getEndpoint());
+                    event.singleton = producer.isSingleton();
+                    event.commit();
+                }
+            }
+        }
+    }
+
+}
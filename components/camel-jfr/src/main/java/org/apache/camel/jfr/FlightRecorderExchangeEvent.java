@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(FlightRecorderExchangeEvent.NAME)
+@Category({ "Camel Application", "Routing" })
+@Label("Exchange")
+@Description("Exchange completed or failed")
+@StackTrace(false)
+public class FlightRecorderExchangeEvent extends Event {
+
+    public static final String NAME = "org.apache.camel.Exchange";
+
+    @Label("Camel Context")
+    public String camelContext;
+    @Label("Exchange Id")
+    public String exchangeId;
+    @Label("Route Id")
+    public String routeId;
+    @Label("Endpoint Uri")
+    public String endpointUri;
+    @Label("Elapsed")
+    @Timespan(Timespan.MILLISECONDS)
+    public long elapsed;
+    @Label("Failed")
+    public boolean failed;
+    @Label("Exception")
+    public String exception;
+
+}
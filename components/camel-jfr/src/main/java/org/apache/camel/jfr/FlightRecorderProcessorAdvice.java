@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.CamelInternalProcessorAdvice;
+
+/**
+ * Advice which emits a {@link FlightRecorderProcessorStepEvent} when a processor is slower than the threshold.
+ */
+class FlightRecorderProcessorAdvice implements CamelInternalProcessorAdvice<FlightRecorderProcessorAdvice.Step> {
+
+    private final String camelContext;
+    private final String routeId;
+    private final String processorId;
+    private final String processor;
+    private final long threshold;
+
+    FlightRecorderProcessorAdvice(String camelContext, String routeId, String processorId, String processor,
+                                  long threshold) {
+        this.camelContext = camelContext;
+        this.routeId = routeId;
+        this.processorId = processorId;
+        this.processor = processor;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Step before(Exchange exchange) throws Exception {
+        FlightRecorderProcessorStepEvent event = new FlightRecorderProcessorStepEvent();
+        if (!event.isEnabled()) {
+            // no recording in progress
+            return null;
+        }
+        event.begin();
+        return new Step(event, System.nanoTime());
+    }
+
+    @Override
+    public void after(Exchange exchange, Step step) throws Exception {
+        if (step == null || System.nanoTime() - step.start < threshold) {
+            return;
+        }
+        FlightRecorderProcessorStepEvent event = step.event;
+        event.end();
+        if (event.shouldCommit()) {
+            event.camelContext = camelContext;
+            event.routeId = routeId;
+            event.processorId = processorId;
+            event.processor = processor;
+            event.exchangeId = exchange.getExchangeId();
+            event.failed = exchange.isFailed();
+            event.commit();
+        }
+    }
+
+    /**
+     * The event in progress and when it was started (events cannot keep any additional state)
+     */
+    static final class Step {
+        private final FlightRecorderProcessorStepEvent event;
+        private final long start;
+
+        Step(FlightRecorderProcessorStepEvent event, long start) {
+            this.event = event;
+            this.start = start;
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.startup.jfr.FlightRecorderStartupStepRecorder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderEventNotifierTest extends CamelTestSupport {
+
+    private int counter;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        // do not record the startup steps to disk
+        DefaultCamelContext context = new DefaultCamelContext(false);
+        FlightRecorderStartupStepRecorder recorder = new FlightRecorderStartupStepRecorder();
+        recorder.setRecording(false);
+        context.adapt(ExtendedCamelContext.class).setStartupStepRecorder(recorder);
+        context.build();
+
+        FlightRecorderEventNotifier notifier = new FlightRecorderEventNotifier();
+        notifier.setExchangeThreshold(50);
+        notifier.setStepThreshold(50);
+        context.getManagementStrategy().addEventNotifier(notifier);
+        return context;
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(FlightRecorderExchangeEvent.NAME);
+            recording.enable(FlightRecorderProcessorStepEvent.NAME);
+            recording.enable(FlightRecorderRedeliveryEvent.NAME);
+            recording.start();
+
+            template.sendBody("direct:start", "Hello");
+            template.sendBody("direct:start", "World");
+            // will be redelivered once before it succeeds
+            template.sendBody("direct:redeliver", "Bye");
+
+            recording.stop();
+            Path file = Files.createTempFile("camel-jfr-test", ".jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+            Files.delete(file);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // only the slow delay step is recorded
+        List<RecordedEvent> steps = filter(events, FlightRecorderProcessorStepEvent.NAME);
+        assertEquals(2, steps.size());
+        for (RecordedEvent step : steps) {
+            assertEquals("start", step.getString("routeId"));
+            assertEquals("slow", step.getString("processorId"));
+            assertFalse(step.getBoolean("failed"));
+            assertTrue(step.getDuration().toMillis() >= 50);
+        }
+
+        List<RecordedEvent> exchanges = filter(events, FlightRecorderExchangeEvent.NAME);
+        assertEquals(2, exchanges.size());
+        for (RecordedEvent exchange : exchanges) {
+            assertEquals("start", exchange.getString("routeId"));
+            assertEquals("direct://start", exchange.getString("endpointUri"));
+            assertTrue(exchange.getLong("elapsed") >= 50);
+        }
+
+        List<RecordedEvent> redeliveries = filter(events, FlightRecorderRedeliveryEvent.NAME);
+        assertEquals(1, redeliveries.size());
+        assertEquals(1, redeliveries.get(0).getInt("attempt"));
+        assertEquals("redeliver", redeliveries.get(0).getString("routeId"));
+        assertEquals(IllegalStateException.class.getName(), redeliveries.get(0).getString("exception"));
+    }
+
+    @Test
+    public void testTypeConverterStatistics() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(FlightRecorderTypeConverterStatisticsEvent.NAME).withPeriod(Duration.ofMillis(100));
+            recording.start();
+
+            context.getTypeConverter().convertTo(Integer.class, "123");
+            Thread.sleep(500);
+
+            recording.stop();
+            Path file = Files.createTempFile("camel-jfr-test", ".jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+            Files.delete(file);
+        }
+
+        List<RecordedEvent> statistics = filter(events, FlightRecorderTypeConverterStatisticsEvent.NAME);
+        assertFalse(statistics.isEmpty());
+        RecordedEvent last = statistics.get(statistics.size() - 1);
+        assertEquals(context.getName(), last.getString("camelContext"));
+        assertTrue(last.getLong("attemptCounter") > 0);
+    }
+
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> name.equals(e.getEventType().getName())).collect(Collectors.toList());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                errorHandler(defaultErrorHandler().maximumRedeliveries(2).redeliveryDelay(0));
+
+                from("direct:start").routeId("start")
+                        .to("log:foo").id("fast")
+                        .delay(100).id("slow")
+                        .to("mock:result").id("result");
+
+                from("direct:redeliver").routeId("redeliver")
+                        .process(e -> {
+                            if (counter++ == 0) {
+                                throw new IllegalStateException("Forced");
+                            }
+                        });
+            }
+        };
+    }
+}
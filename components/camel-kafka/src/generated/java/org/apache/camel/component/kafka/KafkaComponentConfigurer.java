@@ -42,6 +42,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": getOrCreateConfiguration(target).setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": getOrCreateConfiguration(target).setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -107,6 +108,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "lingerms":
         case "lingerMs": getOrCreateConfiguration(target).setLingerMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxbatchsize":
+        case "maxBatchSize": getOrCreateConfiguration(target).setMaxBatchSize(property(camelContext, int.class, value)); return true;
+        case "maxbatchtimems":
+        case "maxBatchTimeMs": getOrCreateConfiguration(target).setMaxBatchTimeMs(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "maxblockms":
         case "maxBlockMs": getOrCreateConfiguration(target).setMaxBlockMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxinflightrequest":
@@ -136,6 +141,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "partitioner": getOrCreateConfiguration(target).setPartitioner(property(camelContext, java.lang.String.class, value)); return true;
         case "polltimeoutms":
         case "pollTimeoutMs": getOrCreateConfiguration(target).setPollTimeoutMs(property(camelContext, java.lang.Long.class, value)); return true;
+        case "processingorder":
+        case "processingOrder": getOrCreateConfiguration(target).setProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": getOrCreateConfiguration(target).setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "producerbatchsize":
         case "producerBatchSize": getOrCreateConfiguration(target).setProducerBatchSize(property(camelContext, java.lang.Integer.class, value)); return true;
         case "queuebufferingmaxmessages":
@@ -246,6 +255,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return java.lang.String.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "batching": return boolean.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -311,6 +321,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lazyStartProducer": return boolean.class;
         case "lingerms":
         case "lingerMs": return java.lang.Integer.class;
+        case "maxbatchsize":
+        case "maxBatchSize": return int.class;
+        case "maxbatchtimems":
+        case "maxBatchTimeMs": return long.class;
         case "maxblockms":
         case "maxBlockMs": return java.lang.Integer.class;
         case "maxinflightrequest":
@@ -340,6 +354,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "partitioner": return java.lang.String.class;
         case "polltimeoutms":
         case "pollTimeoutMs": return java.lang.Long.class;
+        case "processingorder":
+        case "processingOrder": return java.lang.String.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "producerbatchsize":
         case "producerBatchSize": return java.lang.Integer.class;
         case "queuebufferingmaxmessages":
@@ -446,6 +464,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return getOrCreateConfiguration(target).getAutoOffsetReset();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "batching": return getOrCreateConfiguration(target).isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return getOrCreateConfiguration(target).isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -511,6 +530,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "lingerms":
         case "lingerMs": return getOrCreateConfiguration(target).getLingerMs();
+        case "maxbatchsize":
+        case "maxBatchSize": return getOrCreateConfiguration(target).getMaxBatchSize();
+        case "maxbatchtimems":
+        case "maxBatchTimeMs": return getOrCreateConfiguration(target).getMaxBatchTimeMs();
         case "maxblockms":
         case "maxBlockMs": return getOrCreateConfiguration(target).getMaxBlockMs();
         case "maxinflightrequest":
@@ -540,6 +563,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "partitioner": return getOrCreateConfiguration(target).getPartitioner();
         case "polltimeoutms":
         case "pollTimeoutMs": return getOrCreateConfiguration(target).getPollTimeoutMs();
+        case "processingorder":
+        case "processingOrder": return getOrCreateConfiguration(target).getProcessingOrder();
+        case "processingthreads":
+        case "processingThreads": return getOrCreateConfiguration(target).getProcessingThreads();
         case "producerbatchsize":
         case "producerBatchSize": return getOrCreateConfiguration(target).getProducerBatchSize();
         case "queuebufferingmaxmessages":
@@ -33,6 +33,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": target.getConfiguration().setAutoCommitOnStop(property(camelContext, java.lang.String.class, value)); return true;
         case "autooffsetreset":
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": target.getConfiguration().setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -97,6 +98,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "lingerms":
         case "lingerMs": target.getConfiguration().setLingerMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxbatchsize":
+        case "maxBatchSize": target.getConfiguration().setMaxBatchSize(property(camelContext, int.class, value)); return true;
+        case "maxbatchtimems":
+        case "maxBatchTimeMs": target.getConfiguration().setMaxBatchTimeMs(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "maxblockms":
         case "maxBlockMs": target.getConfiguration().setMaxBlockMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxinflightrequest":
@@ -126,6 +131,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "partitioner": target.getConfiguration().setPartitioner(property(camelContext, java.lang.String.class, value)); return true;
         case "polltimeoutms":
         case "pollTimeoutMs": target.getConfiguration().setPollTimeoutMs(property(camelContext, java.lang.Long.class, value)); return true;
+        case "processingorder":
+        case "processingOrder": target.getConfiguration().setProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": target.getConfiguration().setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "producerbatchsize":
         case "producerBatchSize": target.getConfiguration().setProducerBatchSize(property(camelContext, java.lang.Integer.class, value)); return true;
         case "queuebufferingmaxmessages":
@@ -227,6 +236,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": return java.lang.String.class;
         case "autooffsetreset":
         case "autoOffsetReset": return java.lang.String.class;
+        case "batching": return boolean.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -291,6 +301,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": return boolean.class;
         case "lingerms":
         case "lingerMs": return java.lang.Integer.class;
+        case "maxbatchsize":
+        case "maxBatchSize": return int.class;
+        case "maxbatchtimems":
+        case "maxBatchTimeMs": return long.class;
         case "maxblockms":
         case "maxBlockMs": return java.lang.Integer.class;
         case "maxinflightrequest":
@@ -320,6 +334,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "partitioner": return java.lang.String.class;
         case "polltimeoutms":
         case "pollTimeoutMs": return java.lang.Long.class;
+        case "processingorder":
+        case "processingOrder": return java.lang.String.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "producerbatchsize":
         case "producerBatchSize": return java.lang.Integer.class;
         case "queuebufferingmaxmessages":
@@ -422,6 +440,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": return target.getConfiguration().getAutoCommitOnStop();
         case "autooffsetreset":
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
+        case "batching": return target.getConfiguration().isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return target.getConfiguration().isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -486,6 +505,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "lingerms":
         case "lingerMs": return target.getConfiguration().getLingerMs();
+        case "maxbatchsize":
+        case "maxBatchSize": return target.getConfiguration().getMaxBatchSize();
+        case "maxbatchtimems":
+        case "maxBatchTimeMs": return target.getConfiguration().getMaxBatchTimeMs();
         case "maxblockms":
         case "maxBlockMs": return target.getConfiguration().getMaxBlockMs();
         case "maxinflightrequest":
@@ -515,6 +538,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "partitioner": return target.getConfiguration().getPartitioner();
         case "polltimeoutms":
         case "pollTimeoutMs": return target.getConfiguration().getPollTimeoutMs();
+        case "processingorder":
+        case "processingOrder": return target.getConfiguration().getProcessingOrder();
+        case "processingthreads":
+        case "processingThreads": return target.getConfiguration().getProcessingThreads();
         case "producerbatchsize":
         case "producerBatchSize": return target.getConfiguration().getProducerBatchSize();
         case "queuebufferingmaxmessages":
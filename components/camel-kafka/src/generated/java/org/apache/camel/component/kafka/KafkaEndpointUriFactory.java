@@ -20,7 +20,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(97);
+        Set<String> props = new HashSet<>(102);
         props.add("synchronous");
         props.add("queueBufferingMaxMessages");
         props.add("allowManualCommit");
@@ -28,6 +28,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("receiveBufferBytes");
         props.add("reconnectBackoffMaxMs");
         props.add("valueDeserializer");
+        props.add("processingThreads");
         props.add("metricReporters");
         props.add("sslTruststoreType");
         props.add("sendBufferBytes");
@@ -39,10 +40,12 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("requestRequiredAcks");
         props.add("enableIdempotence");
         props.add("fetchWaitMaxMs");
+        props.add("processingOrder");
         props.add("retries");
         props.add("maxPollRecords");
         props.add("additionalProperties");
         props.add("keyDeserializer");
+        props.add("maxBatchTimeMs");
         props.add("producerBatchSize");
         props.add("retryBackoffMs");
         props.add("brokers");
@@ -62,6 +65,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("clientId");
         props.add("maxRequestSize");
         props.add("recordMetadata");
+        props.add("batching");
         props.add("sslTrustmanagerAlgorithm");
         props.add("compressionCodec");
         props.add("autoCommitOnStop");
@@ -70,6 +74,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("consumerRequestTimeoutMs");
         props.add("maxPollIntervalMs");
         props.add("kerberosInitCmd");
+        props.add("maxBatchSize");
         props.add("workerPoolMaxSize");
         props.add("reconnectBackoffMs");
         props.add("groupId");
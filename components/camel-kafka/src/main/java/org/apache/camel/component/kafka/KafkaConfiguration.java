@@ -139,6 +139,16 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     @UriParam(label = "consumer")
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer", defaultValue = "500")
+    private int maxBatchSize = 500;
+    @UriParam(label = "consumer", defaultValue = "0", javaType = "java.time.Duration")
+    private long maxBatchTimeMs;
+    @UriParam(label = "consumer")
+    private int processingThreads;
+    @UriParam(label = "consumer", defaultValue = "key", enums = "key,unordered")
+    private String processingOrder = "key";
+    @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
 
     // Producer configuration properties
@@ -779,6 +789,77 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether the consumer should process the records in batches. When enabled then the records polled from a partition
+     * are grouped into one exchange, where the message body is a {@link java.util.List} of exchanges (one per record).
+     * <p/>
+     * The offsets of the records in a batch are committed when the batch has been processed. Therefore Kafka auto
+     * commit is turned off, and the consumer instead commits the offsets after each batch when autoCommitEnable is
+     * true. Offsets are not committed by the consumer when using allowManualCommit, and an instance of
+     * {@link KafkaManualCommit} which commits the whole batch is stored on the message header.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The maximum number of records in a batch when batching is enabled.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getMaxBatchTimeMs() {
+        return maxBatchTimeMs;
+    }
+
+    /**
+     * The maximum time in millis to wait for more records to fill up a batch, when batching is enabled. The default
+     * value of 0 processes the records from a partition as a batch after each poll.
+     */
+    public void setMaxBatchTimeMs(long maxBatchTimeMs) {
+        this.maxBatchTimeMs = maxBatchTimeMs;
+    }
+
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * The number of threads to process the polled records concurrently. By default the records are processed one by one
+     * by the consumer thread, which means the throughput is bound by the number of consumers and partitions. When set
+     * then the records are processed by a thread pool of this size, and the consumer continues polling while the
+     * records are processed (it pauses fetching when about twice maxPollRecords records are in-flight).
+     * <p/>
+     * The consumer tracks per partition the offset up to which all the records have been processed, and only commits up
+     * to that offset. Therefore Kafka auto commit is turned off, and the consumer instead commits the offsets when
+     * autoCommitEnable is true. This option cannot be used together with batching or allowManualCommit.
+     */
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
+    public String getProcessingOrder() {
+        return processingOrder;
+    }
+
+    /**
+     * The order in which records are processed when processingThreads is in use. With key then records with the same
+     * key are processed in the order of their offsets, one at a time, and records with different keys (or without a
+     * key) are processed concurrently. With unordered then all records are processed concurrently.
+     */
+    public void setProcessingOrder(String processingOrder) {
+        this.processingOrder = processingOrder;
+    }
+
     public String getBrokers() {
         return brokers;
     }
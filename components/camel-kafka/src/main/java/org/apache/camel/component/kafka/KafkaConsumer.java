@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -29,10 +30,17 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.component.kafka.serde.KafkaHeaderDeserializer;
 import org.apache.camel.spi.HeaderFilterStrategy;
@@ -56,8 +64,12 @@ import org.slf4j.LoggerFactory;
 public class KafkaConsumer extends DefaultConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
+    // the max poll timeout while there are records in-flight, so their offsets are committed in a timely manner
+    private static final long IN_FLIGHT_POLL_TIMEOUT_MS = 100;
+    private static final int DEFAULT_MAX_POLL_RECORDS = 500;
 
     protected ExecutorService executor;
+    protected ExecutorService processingExecutor;
     private final KafkaEndpoint endpoint;
     private final Processor processor;
     private final Long pollTimeoutMs;
@@ -95,6 +107,10 @@ public class KafkaConsumer extends DefaultConsumer {
             props.put(ConsumerConfig.GROUP_ID_CONFIG, randomGroupId);
             LOG.debug("Kafka consumer groupId is {} (generated)", randomGroupId);
         }
+        if (endpoint.getConfiguration().isBatching() || endpoint.getConfiguration().getProcessingThreads() > 0) {
+            // the offsets must only be committed when the records have been processed, which the consumer does itself
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
         return props;
     }
 
@@ -116,6 +132,17 @@ public class KafkaConsumer extends DefaultConsumer {
             }
         }
 
+        if (endpoint.getConfiguration().getProcessingThreads() > 0) {
+            if (endpoint.getConfiguration().isBatching()) {
+                throw new IllegalArgumentException("The option processingThreads cannot be used together with batching");
+            }
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException(
+                        "The option processingThreads cannot be used together with allowManualCommit");
+            }
+            processingExecutor = endpoint.createProcessingExecutor();
+        }
+
         executor = endpoint.createExecutor();
 
         String topic = endpoint.getConfiguration().getTopic();
@@ -154,6 +181,17 @@ public class KafkaConsumer extends DefaultConsumer {
         tasks.clear();
         executor = null;
 
+        // the consumer threads wait for the records in-flight, so shutdown the processing threads afterwards
+        if (processingExecutor != null) {
+            if (getEndpoint() != null && getEndpoint().getCamelContext() != null) {
+                int timeout = getEndpoint().getConfiguration().getShutdownTimeout();
+                getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(processingExecutor, timeout);
+            } else {
+                processingExecutor.shutdownNow();
+            }
+        }
+        processingExecutor = null;
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -171,6 +209,11 @@ public class KafkaConsumer extends DefaultConsumer {
         private final String threadId;
         private final Properties kafkaProps;
         private final Map<String, Long> lastProcessedOffset = new ConcurrentHashMap<>();
+        private final Map<TopicPartition, RecordBatch> batches = new LinkedHashMap<>();
+        private final Map<TopicPartition, KafkaPartitionWatermark> watermarks = new LinkedHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Lock inFlightLock = new ReentrantLock();
+        private final Condition noneInFlight = inFlightLock.newCondition();
 
         KafkaFetchRecords(String topicName, Pattern topicPattern, String id, Properties kafkaProps) {
             this.topicName = topicName;
@@ -298,6 +341,21 @@ public class KafkaConsumer extends DefaultConsumer {
 
                 while (isRunAllowed() && !reConnect && !isStoppingOrStopped() && !isSuspendingOrSuspended()) {
 
+                    if (endpoint.getConfiguration().isBatching()) {
+                        if (pollBatches(offsetRepository)) {
+                            // force re-connect
+                            reConnect = true;
+                        }
+                        continue;
+                    }
+                    if (processingExecutor != null) {
+                        if (pollConcurrently(offsetRepository)) {
+                            // force re-connect
+                            reConnect = true;
+                        }
+                        continue;
+                    }
+
                     // flag to break out processing on the first exception
                     boolean breakOnErrorHit = false;
                     LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
@@ -320,7 +378,8 @@ public class KafkaConsumer extends DefaultConsumer {
                                     LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
                                             record.offset(), record.key(), record.value());
                                 }
-                                Exchange exchange = endpoint.createKafkaExchange(record);
+                                Exchange exchange = createExchange(false);
+                                endpoint.bindKafkaExchange(exchange, record);
 
                                 propagateHeaders(record, exchange, endpoint.getConfiguration());
 
@@ -380,6 +439,9 @@ public class KafkaConsumer extends DefaultConsumer {
                                     // offset state upon partition revoke
                                     lastProcessedOffset.put(serializeOffsetKey(partition), partitionLastOffset);
                                 }
+
+                                // the exchange is processed synchronously so we are done with it
+                                releaseExchange(exchange, false);
                             }
 
                             if (!breakOnErrorHit) {
@@ -396,8 +458,15 @@ public class KafkaConsumer extends DefaultConsumer {
                     }
                 }
 
-                if (!reConnect) {
-                    if (isAutoCommitEnabled()) {
+                if (!reConnect && processingExecutor != null) {
+                    // wait for the records in-flight so their offsets can be committed on stop
+                    awaitInFlight();
+                    if (!"none".equals(endpoint.getConfiguration().getAutoCommitOnStop())) {
+                        commitWatermarks(offsetRepository, true);
+                    }
+                } else if (!reConnect) {
+                    // when batching then the offsets are committed when each batch has been processed
+                    if (isAutoCommitEnabled() && !endpoint.getConfiguration().isBatching()) {
                         if ("async".equals(endpoint.getConfiguration().getAutoCommitOnStop())) {
                             LOG.info("Auto commitAsync on stop {} from topic {}", threadId, topicName);
                             consumer.commitAsync();
@@ -433,11 +502,343 @@ public class KafkaConsumer extends DefaultConsumer {
             } finally {
                 LOG.debug("Closing {}", threadId);
                 IOHelper.close(consumer);
+                // any records in pending batches are not committed and are polled again
+                batches.clear();
+                // any records in-flight beyond the committed watermark are polled again
+                watermarks.clear();
             }
 
             return reConnect;
         }
 
+        /**
+         * Polls the records and groups them into batches per partition, which are processed when they are full, or when
+         * the max batch time has elapsed.
+         *
+         * @return <tt>true</tt> if processing a batch failed and the consumer should break out and re-connect
+         */
+        private boolean pollBatches(StateRepository<String, String> offsetRepository) {
+            KafkaConfiguration configuration = endpoint.getConfiguration();
+
+            long timeout = pollTimeoutMs;
+            if (!batches.isEmpty()) {
+                // do not poll longer than when the oldest pending batch is due
+                long oldest = Long.MAX_VALUE;
+                for (RecordBatch batch : batches.values()) {
+                    oldest = Math.min(oldest, batch.started);
+                }
+                long due = oldest + configuration.getMaxBatchTimeMs() - System.currentTimeMillis();
+                timeout = Math.max(0, Math.min(timeout, due));
+            }
+            LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, timeout);
+            ConsumerRecords<Object, Object> allRecords = consumer.poll(Duration.ofMillis(timeout));
+
+            for (TopicPartition partition : allRecords.partitions()) {
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                LOG.debug("Records count {} received for partition {}", records.size(), partition);
+                for (ConsumerRecord<Object, Object> record : records) {
+                    RecordBatch batch = batches.computeIfAbsent(partition, p -> new RecordBatch());
+                    batch.records.add(record);
+                    if (batch.records.size() >= configuration.getMaxBatchSize()) {
+                        batches.remove(partition);
+                        if (!processBatch(offsetRepository, partition, batch.records)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            Iterator<Map.Entry<TopicPartition, RecordBatch>> it = batches.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<TopicPartition, RecordBatch> entry = it.next();
+                if (now - entry.getValue().started >= configuration.getMaxBatchTimeMs()) {
+                    it.remove();
+                    if (!processBatch(offsetRepository, entry.getKey(), entry.getValue().records)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Processes the records from the partition as a single exchange, and commits the offset of the last record when
+         * done.
+         *
+         * @return <tt>false</tt> if processing failed and the consumer should break out and re-connect
+         */
+        private boolean processBatch(
+                StateRepository<String, String> offsetRepository, TopicPartition partition,
+                List<ConsumerRecord<Object, Object>> records) {
+            KafkaConfiguration configuration = endpoint.getConfiguration();
+            long firstOffset = records.get(0).offset();
+            long lastOffset = records.get(records.size() - 1).offset();
+
+            List<Exchange> exchanges = new ArrayList<>(records.size());
+            for (ConsumerRecord<Object, Object> record : records) {
+                Exchange exchange = endpoint.createKafkaExchange(record);
+                propagateHeaders(record, exchange, configuration);
+                exchanges.add(exchange);
+            }
+
+            Exchange exchange = createExchange(false);
+            Message message = exchange.getIn();
+            message.setHeader(KafkaConstants.PARTITION, partition.partition());
+            message.setHeader(KafkaConstants.TOPIC, partition.topic());
+            message.setHeader(KafkaConstants.OFFSET, lastOffset);
+            message.setBody(exchanges);
+            exchange.setProperty(Exchange.BATCH_SIZE, exchanges.size());
+            if (configuration.isAllowManualCommit()) {
+                // the manual commit is for the whole batch
+                KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory()
+                        .newInstance(exchange, consumer, topicName, threadId, offsetRepository, partition, lastOffset);
+                message.setHeader(KafkaConstants.MANUAL_COMMIT, manual);
+            }
+
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            boolean answer = true;
+            if (exchange.getException() != null) {
+                if (configuration.isBreakOnFirstError()) {
+                    LOG.warn(
+                            "Error during processing batch {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.",
+                            exchange, topicName, firstOffset, exchange.getException());
+                    // force commit so we resume on next poll from the start of the batch
+                    commitOffset(offsetRepository, partition, firstOffset - 1, true);
+                    answer = false;
+                } else {
+                    getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                }
+            }
+            if (answer) {
+                lastProcessedOffset.put(serializeOffsetKey(partition), lastOffset);
+                commitBatchOffset(offsetRepository, partition, lastOffset);
+            }
+
+            // the exchange is processed synchronously so we are done with it
+            releaseExchange(exchange, false);
+            return answer;
+        }
+
+        /**
+         * Polls the records and hands them over to the processing threads. The offsets are committed up to the
+         * watermark of each partition, which is the offset up to which all the records have been processed.
+         *
+         * @return <tt>true</tt> if processing a record failed and the consumer should break out and re-connect
+         */
+        private boolean pollConcurrently(StateRepository<String, String> offsetRepository) {
+            KafkaConfiguration configuration = endpoint.getConfiguration();
+            int maxPollRecords = configuration.getMaxPollRecords() != null
+                    ? configuration.getMaxPollRecords() : DEFAULT_MAX_POLL_RECORDS;
+
+            // pause fetching while too many records are in-flight, but keep polling to remain in the consumer group
+            if (inFlight.get() >= maxPollRecords) {
+                consumer.pause(consumer.assignment());
+            } else if (!consumer.paused().isEmpty()) {
+                consumer.resume(consumer.paused());
+            }
+
+            long timeout = pollTimeoutMs;
+            if (inFlight.get() > 0) {
+                timeout = Math.min(timeout, IN_FLIGHT_POLL_TIMEOUT_MS);
+            }
+            LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, timeout);
+            ConsumerRecords<Object, Object> allRecords = consumer.poll(Duration.ofMillis(timeout));
+
+            boolean ordered = "key".equals(configuration.getProcessingOrder());
+            for (TopicPartition partition : allRecords.partitions()) {
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                LOG.debug("Records count {} received for partition {}", records.size(), partition);
+                KafkaPartitionWatermark watermark = watermarks.computeIfAbsent(partition, p -> new KafkaPartitionWatermark());
+                for (ConsumerRecord<Object, Object> record : records) {
+                    watermark.add(record.offset());
+                    inFlight.incrementAndGet();
+                    Runnable task = () -> processRecord(watermark, record);
+                    try {
+                        if (ordered && record.key() != null) {
+                            watermark.executeInOrder(record.key(), task, processingExecutor).whenComplete((r, e) -> {
+                                if (e != null && e.getCause() instanceof RejectedExecutionException) {
+                                    watermark.done(record.offset(), true);
+                                    decrementInFlight();
+                                }
+                            });
+                        } else {
+                            processingExecutor.execute(task);
+                        }
+                    } catch (RejectedExecutionException e) {
+                        // the consumer is stopping, and the record is polled again by the next consumer
+                        LOG.debug("Cannot process record from topic: {} with offset: {} as the consumer is stopping",
+                                topicName, record.offset());
+                        watermark.done(record.offset(), true);
+                        decrementInFlight();
+                    }
+                }
+            }
+
+            for (Map.Entry<TopicPartition, KafkaPartitionWatermark> entry : watermarks.entrySet()) {
+                if (entry.getValue().isFailed()) {
+                    // wait for the other records in-flight, and commit up to the record which failed
+                    awaitInFlight();
+                    for (Map.Entry<TopicPartition, KafkaPartitionWatermark> other : watermarks.entrySet()) {
+                        commitOffset(offsetRepository, other.getKey(), other.getValue().getWatermark(), true);
+                    }
+                    LOG.warn("Error during processing records from topic: {}. Will seek consumer to the offset of the"
+                             + " first failed record and re-connect and start polling again.",
+                            topicName);
+                    return true;
+                }
+            }
+
+            commitWatermarks(offsetRepository, false);
+            return false;
+        }
+
+        /**
+         * Processes a record, which is called by a processing thread.
+         */
+        private void processRecord(KafkaPartitionWatermark watermark, ConsumerRecord<Object, Object> record) {
+            boolean failed = false;
+            Exchange exchange = null;
+            try {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                            record.offset(), record.key(), record.value());
+                }
+                exchange = createExchange(false);
+                endpoint.bindKafkaExchange(exchange, record);
+                propagateHeaders(record, exchange, endpoint.getConfiguration());
+
+                try {
+                    processor.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (exchange.getException() != null) {
+                    if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                        LOG.warn("Error during processing {} from topic: {} with offset: {}", exchange, topicName,
+                                record.offset(), exchange.getException());
+                        failed = true;
+                    } else {
+                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                    }
+                }
+            } catch (Throwable e) {
+                LOG.warn("Error during processing record from topic: {} with offset: {}", topicName, record.offset(), e);
+                failed = true;
+            } finally {
+                if (exchange != null) {
+                    // the exchange is processed synchronously so we are done with it
+                    releaseExchange(exchange, false);
+                }
+                watermark.done(record.offset(), failed);
+                decrementInFlight();
+            }
+        }
+
+        /**
+         * Marks a record as no longer in-flight, and signals when there are no more records in-flight.
+         */
+        private void decrementInFlight() {
+            if (inFlight.decrementAndGet() == 0) {
+                inFlightLock.lock();
+                try {
+                    noneInFlight.signalAll();
+                } finally {
+                    inFlightLock.unlock();
+                }
+            }
+        }
+
+        /**
+         * Waits for the records in-flight to be processed, at most the shutdown timeout.
+         */
+        private void awaitInFlight() {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(endpoint.getConfiguration().getShutdownTimeout());
+            inFlightLock.lock();
+            try {
+                while (inFlight.get() > 0 && remaining > 0) {
+                    LOG.trace("Waiting for {} records in-flight from topic: {}", inFlight.get(), topicName);
+                    remaining = noneInFlight.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                inFlightLock.unlock();
+            }
+            if (inFlight.get() > 0) {
+                LOG.warn("Timeout waiting for {} records in-flight from topic: {}", inFlight.get(), topicName);
+            }
+        }
+
+        /**
+         * Commits the offset of each partition up to its watermark, if the watermark has moved.
+         */
+        private void commitWatermarks(StateRepository<String, String> offsetRepository, boolean sync) {
+            Map<TopicPartition, OffsetAndMetadata> offsets = new LinkedHashMap<>();
+            for (Map.Entry<TopicPartition, KafkaPartitionWatermark> entry : watermarks.entrySet()) {
+                TopicPartition partition = entry.getKey();
+                KafkaPartitionWatermark watermark = entry.getValue();
+                long offset = watermark.getWatermark();
+                if (offset <= watermark.getCommitted()) {
+                    continue;
+                }
+                watermark.setCommitted(offset);
+                // used by the consumer re-balance listener to preserve offset state upon partition revoke
+                lastProcessedOffset.put(serializeOffsetKey(partition), offset);
+                if (offsetRepository != null) {
+                    LOG.debug("Saving offset repository state {} [topic: {} partition: {} offset: {}]", threadId, topicName,
+                            partition.partition(), offset);
+                    offsetRepository.setState(serializeOffsetKey(partition), serializeOffsetValue(offset));
+                } else if (isAutoCommitEnabled()) {
+                    offsets.put(partition, new OffsetAndMetadata(offset + 1));
+                }
+            }
+            if (!offsets.isEmpty()) {
+                if (sync) {
+                    LOG.debug("CommitSync {} from topic: {} offsets: {}", threadId, topicName, offsets);
+                    consumer.commitSync(offsets);
+                } else {
+                    LOG.debug("CommitAsync {} from topic: {} offsets: {}", threadId, topicName, offsets);
+                    consumer.commitAsync(offsets, (committed, e) -> {
+                        if (e != null) {
+                            LOG.warn("Error committing offsets {} from topic {} due to: {}", committed, topicName,
+                                    e.getMessage(), e);
+                        }
+                    });
+                }
+            }
+        }
+
+        private void commitBatchOffset(
+                StateRepository<String, String> offsetRepository, TopicPartition partition, long lastOffset) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                // the offsets are committed by the end user
+                return;
+            }
+            if (offsetRepository != null) {
+                LOG.debug("Saving offset repository state {} [topic: {} partition: {} offset: {}]", threadId, topicName,
+                        partition.partition(), lastOffset);
+                offsetRepository.setState(serializeOffsetKey(partition), serializeOffsetValue(lastOffset));
+            } else if (isAutoCommitEnabled()) {
+                LOG.debug("CommitAsync {} [topic: {} partition: {} offset: {}]", threadId, topicName, partition.partition(),
+                        lastOffset);
+                consumer.commitAsync(Collections.singletonMap(partition, new OffsetAndMetadata(lastOffset + 1)),
+                        (offsets, e) -> {
+                            if (e != null) {
+                                LOG.warn("Error committing offsets {} from topic {} due to: {}", offsets, topicName,
+                                        e.getMessage(), e);
+                            }
+                        });
+            }
+        }
+
         private void commitOffset(
                 StateRepository<String, String> offsetRepository, TopicPartition partition, long partitionLastOffset,
                 boolean forceCommit) {
@@ -466,6 +867,16 @@ public class KafkaConsumer extends DefaultConsumer {
             LOG.debug("onPartitionsRevoked: {} from topic {}", threadId, topicName);
 
             StateRepository<String, String> offsetRepository = endpoint.getConfiguration().getOffsetRepository();
+            if (processingExecutor != null && !watermarks.isEmpty()) {
+                // wait for the records in-flight so the new owner of the partitions does not process them again
+                awaitInFlight();
+                for (TopicPartition partition : partitions) {
+                    KafkaPartitionWatermark watermark = watermarks.remove(partition);
+                    if (watermark != null && watermark.getWatermark() != -1) {
+                        lastProcessedOffset.put(serializeOffsetKey(partition), watermark.getWatermark());
+                    }
+                }
+            }
             for (TopicPartition partition : partitions) {
                 String offsetKey = serializeOffsetKey(partition);
                 Long offset = lastProcessedOffset.get(offsetKey);
@@ -481,6 +892,8 @@ public class KafkaConsumer extends DefaultConsumer {
                     throw e;
                 } finally {
                     lastProcessedOffset.remove(offsetKey);
+                    // any records in a pending batch are polled again by the new owner of the partition
+                    batches.remove(partition);
                 }
 
             }
@@ -506,6 +919,14 @@ public class KafkaConsumer extends DefaultConsumer {
         }
     }
 
+    /**
+     * The records polled from a partition which are pending to be processed as a batch.
+     */
+    private static final class RecordBatch {
+        private final List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        private final long started = System.currentTimeMillis();
+    }
+
     private void propagateHeaders(
             ConsumerRecord<Object, Object> record, Exchange exchange, KafkaConfiguration kafkaConfiguration) {
         HeaderFilterStrategy headerFilterStrategy = kafkaConfiguration.getHeaderFilterStrategy();
@@ -139,6 +139,11 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
                 "KafkaConsumer[" + configuration.getTopic() + "]", configuration.getConsumerStreams());
     }
 
+    public ExecutorService createProcessingExecutor() {
+        return getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                "KafkaConsumerProcessing[" + configuration.getTopic() + "]", configuration.getProcessingThreads());
+    }
+
     public ExecutorService createProducerExecutor() {
         int core = getConfiguration().getWorkerPoolCoreSize();
         int max = getConfiguration().getWorkerPoolMaxSize();
@@ -149,7 +154,18 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
     @SuppressWarnings("rawtypes")
     public Exchange createKafkaExchange(ConsumerRecord record) {
         Exchange exchange = super.createExchange();
+        bindKafkaExchange(exchange, record);
+        return exchange;
+    }
 
+    /**
+     * Binds the consumed record to the given exchange, which is created by the consumer.
+     *
+     * @param exchange the exchange
+     * @param record   the consumed record
+     */
+    @SuppressWarnings("rawtypes")
+    public void bindKafkaExchange(Exchange exchange, ConsumerRecord record) {
         Message message = exchange.getIn();
         message.setHeader(KafkaConstants.PARTITION, record.partition());
         message.setHeader(KafkaConstants.TOPIC, record.topic());
@@ -160,8 +176,6 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
             message.setHeader(KafkaConstants.KEY, record.key());
         }
         message.setBody(record.value());
-
-        return exchange;
     }
 
     protected KafkaProducer createProducer(KafkaEndpoint endpoint) {
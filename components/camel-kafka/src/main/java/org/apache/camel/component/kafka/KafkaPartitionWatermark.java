@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+
+/**
+ * Tracks the records from a partition which are processed concurrently, to know the offset up to which all the records
+ * have been processed (the watermark), and which is therefore safe to commit.
+ * <p/>
+ * The records must be added in offset order by the thread polling the records, and can be done in any order by the
+ * threads processing the records.
+ */
+final class KafkaPartitionWatermark {
+
+    private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private final Map<Object, CompletableFuture<Void>> keys = new ConcurrentHashMap<>();
+    private volatile long lastAdded = -1;
+    private volatile long failed = -1;
+    private long committed = -1;
+
+    /**
+     * Adds the record with the given offset which is about to be processed.
+     */
+    void add(long offset) {
+        inFlight.add(offset);
+        lastAdded = offset;
+    }
+
+    /**
+     * Marks the record with the given offset as done.
+     *
+     * @param offset the offset
+     * @param failed whether processing the record failed, which means the watermark cannot move beyond this record
+     */
+    void done(long offset, boolean failed) {
+        if (failed) {
+            synchronized (this) {
+                if (this.failed == -1 || offset < this.failed) {
+                    this.failed = offset;
+                }
+            }
+        }
+        inFlight.remove(offset);
+    }
+
+    /**
+     * Gets the offset up to which all the records have been processed, or <tt>-1</tt> if no records have been
+     * processed.
+     */
+    long getWatermark() {
+        // read the last added offset first, as the records are added in offset order
+        long answer = lastAdded;
+        Long first = inFlight.ceiling(Long.MIN_VALUE);
+        if (first != null) {
+            answer = first - 1;
+        }
+        if (failed != -1) {
+            answer = Math.min(answer, failed - 1);
+        }
+        return answer;
+    }
+
+    /**
+     * Whether processing any of the records failed
+     */
+    boolean isFailed() {
+        return failed != -1;
+    }
+
+    long getCommitted() {
+        return committed;
+    }
+
+    void setCommitted(long committed) {
+        this.committed = committed;
+    }
+
+    /**
+     * Executes the task when the previous task for the same key is done, so records with the same key are processed in
+     * order.
+     *
+     * @return the future of the task, which completes exceptionally with a
+     *         {@link java.util.concurrent.CompletionException} caused by a
+     *         {@link java.util.concurrent.RejectedExecutionException} if the executor rejected the task after the
+     *         previous task was done
+     */
+    CompletableFuture<Void> executeInOrder(Object key, Runnable task, Executor executor) {
+        CompletableFuture<Void> previous = keys.get(key);
+        CompletableFuture<Void> future;
+        if (previous != null) {
+            // continue with the task regardless of how the previous task completed
+            future = previous.handleAsync((r, e) -> {
+                task.run();
+                return null;
+            }, executor);
+        } else {
+            future = CompletableFuture.runAsync(task, executor);
+        }
+        keys.put(key, future);
+        future.whenComplete((r, e) -> keys.remove(key, future));
+        return future;
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaConsumerBatchingTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "batching";
+
+    @EndpointInject("kafka:" + TOPIC
+                    + "?groupId=batching&autoOffsetReset=earliest&batching=true&maxBatchSize=4&maxBatchTimeMs=1000")
+    private Endpoint from;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("foo").to(to);
+            }
+        };
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void kafkaMessagesAreConsumedInBatches() throws Exception {
+        // 10 records in batches of at most 4 records
+        to.expectedMinimumMessageCount(3);
+
+        for (int k = 0; k < 10; k++) {
+            ProducerRecord<String, String> data = new ProducerRecord<>(TOPIC, "1", "message-" + k);
+            producer.send(data);
+        }
+        producer.flush();
+
+        to.assertIsSatisfied(5000);
+
+        List<String> bodies = new ArrayList<>();
+        for (Exchange exchange : to.getReceivedExchanges()) {
+            assertEquals(TOPIC, exchange.getIn().getHeader(KafkaConstants.TOPIC));
+            List<Exchange> records = exchange.getIn().getBody(List.class);
+            assertNotNull(records);
+            assertTrue(records.size() <= 4, "Batch should have at most 4 records");
+            assertEquals(records.size(), exchange.getProperty(Exchange.BATCH_SIZE, Integer.class));
+            // the offset header of the batch is from the last record
+            assertEquals(records.get(records.size() - 1).getIn().getHeader(KafkaConstants.OFFSET),
+                    exchange.getIn().getHeader(KafkaConstants.OFFSET));
+            for (Exchange record : records) {
+                assertEquals("1", record.getIn().getHeader(KafkaConstants.KEY));
+                bodies.add(record.getIn().getBody(String.class));
+            }
+        }
+
+        // records from a partition are in order
+        List<String> expected = new ArrayList<>();
+        for (int k = 0; k < 10; k++) {
+            expected.add("message-" + k);
+        }
+        assertEquals(expected, bodies);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.StopWatch;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the throughput of consuming records one by one with consuming the records in batches.
+ */
+public class KafkaConsumerBatchingThroughputTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "batching-throughput";
+
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumerBatchingThroughputTest.class);
+
+    private static final int RECORDS = 20000;
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+    private volatile CountDownLatch latch;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("kafka:" + TOPIC + "?groupId=single&autoOffsetReset=earliest").routeId("single").autoStartup(false)
+                        .process(e -> latch.countDown());
+
+                from("kafka:" + TOPIC + "?groupId=batch&autoOffsetReset=earliest&batching=true&maxBatchSize=500")
+                        .routeId("batch").autoStartup(false)
+                        .process(e -> {
+                            List<?> records = e.getIn().getBody(List.class);
+                            for (int i = 0; i < records.size(); i++) {
+                                latch.countDown();
+                            }
+                        });
+            }
+        };
+    }
+
+    @Test
+    public void compareThroughput() throws Exception {
+        for (int k = 0; k < RECORDS; k++) {
+            producer.send(new ProducerRecord<>(TOPIC, String.valueOf(k % 10), "message-" + k));
+        }
+        producer.flush();
+
+        long single = consume("single");
+        long batch = consume("batch");
+
+        LOG.info("Consumed {} records one by one in {} millis, and in batches in {} millis", RECORDS, single, batch);
+    }
+
+    private long consume(String routeId) throws Exception {
+        latch = new CountDownLatch(RECORDS);
+
+        StopWatch watch = new StopWatch();
+        context.getRouteController().startRoute(routeId);
+        assertTrue(latch.await(60, TimeUnit.SECONDS), "Should consume all records from route " + routeId);
+        long taken = watch.taken();
+        context.getRouteController().stopRoute(routeId);
+        return taken;
+    }
+
+}
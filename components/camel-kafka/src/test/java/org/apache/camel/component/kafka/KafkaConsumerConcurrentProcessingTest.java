@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaConsumerConcurrentProcessingTest extends BaseEmbeddedKafkaTest {
+
+    public static final String TOPIC = "concurrent";
+
+    @EndpointInject("kafka:" + TOPIC
+                    + "?groupId=concurrent&autoOffsetReset=earliest&processingThreads=5&processingOrder=key")
+    private Endpoint from;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final Map<String, List<String>> bodiesByKey = new ConcurrentHashMap<>();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("foo")
+                        .process(exchange -> {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            // simulate a slow downstream call
+                            Thread.sleep(50);
+                            String key = exchange.getIn().getHeader(KafkaConstants.KEY, String.class);
+                            bodiesByKey.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+                                    .add(exchange.getIn().getBody(String.class));
+                            active.decrementAndGet();
+                        })
+                        .to(to);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaMessagesAreProcessedConcurrentlyInOrderByKey() throws Exception {
+        to.expectedMessageCount(50);
+
+        for (int k = 0; k < 50; k++) {
+            ProducerRecord<String, String> data = new ProducerRecord<>(TOPIC, "key-" + (k % 5), "message-" + k);
+            producer.send(data);
+        }
+        producer.flush();
+
+        to.assertIsSatisfied(10000);
+
+        assertTrue(maxActive.get() > 1, "Records should be processed concurrently");
+        assertEquals(5, bodiesByKey.size());
+        for (int i = 0; i < 5; i++) {
+            // records with the same key are processed in order
+            List<String> expected = new ArrayList<>();
+            for (int k = i; k < 50; k += 5) {
+                expected.add("message-" + k);
+            }
+            assertEquals(expected, bodiesByKey.get("key-" + i));
+        }
+    }
+
+}
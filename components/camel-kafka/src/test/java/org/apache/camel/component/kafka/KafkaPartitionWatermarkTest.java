@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaPartitionWatermarkTest {
+
+    @Test
+    public void testWatermarkIsContiguous() {
+        KafkaPartitionWatermark watermark = new KafkaPartitionWatermark();
+        assertEquals(-1, watermark.getWatermark());
+
+        watermark.add(10);
+        watermark.add(11);
+        watermark.add(12);
+        assertEquals(9, watermark.getWatermark());
+
+        // a later record is done first, which does not move the watermark
+        watermark.done(12, false);
+        assertEquals(9, watermark.getWatermark());
+        watermark.done(10, false);
+        assertEquals(10, watermark.getWatermark());
+        watermark.done(11, false);
+        assertEquals(12, watermark.getWatermark());
+        assertFalse(watermark.isFailed());
+    }
+
+    @Test
+    public void testWatermarkStopsAtFailedRecord() {
+        KafkaPartitionWatermark watermark = new KafkaPartitionWatermark();
+        watermark.add(0);
+        watermark.add(1);
+        watermark.add(2);
+
+        watermark.done(0, false);
+        watermark.done(2, false);
+        watermark.done(1, true);
+        assertTrue(watermark.isFailed());
+        assertEquals(0, watermark.getWatermark());
+    }
+
+    @Test
+    public void testExecuteInOrder() throws Exception {
+        KafkaPartitionWatermark watermark = new KafkaPartitionWatermark();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> done = new ArrayList<>();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                int n = i;
+                futures.add(watermark.executeInOrder("key", () -> {
+                    if (n == 0) {
+                        // the first task is slow so the others would overtake it if not in order
+                        sleep(100);
+                    }
+                    if (n == 5) {
+                        // a failed task does not break the chain
+                        throw new IllegalStateException("Forced");
+                    }
+                    synchronized (done) {
+                        done.add(n);
+                    }
+                }, executor));
+            }
+            futures.get(futures.size() - 1).get(5, TimeUnit.SECONDS);
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                if (i != 5) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, done);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
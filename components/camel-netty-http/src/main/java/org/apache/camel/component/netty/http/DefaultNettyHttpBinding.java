@@ -17,6 +17,8 @@
 package org.apache.camel.component.netty.http;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
@@ -24,7 +26,9 @@ import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -39,6 +43,7 @@ import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponse;
@@ -52,6 +57,7 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.component.netty.NettyConstants;
 import org.apache.camel.component.netty.NettyConverter;
+import org.apache.camel.http.base.HttpHelper;
 import org.apache.camel.spi.HeaderFilterStrategy;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.MessageHelper;
@@ -451,6 +457,15 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             response.headers().set(TRANSFER_ENCODING, CHUNKED);
         }
 
+        File file = null;
+        if (response == null) {
+            file = getFileBody(message, configuration);
+            if (file != null) {
+                // the file is opened when the response is otherwise complete
+                response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(code));
+            }
+        }
+
         if (response == null) {
             if (body instanceof ByteBuf) {
                 buffer = (ByteBuf) body;
@@ -540,9 +555,43 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
         }
         LOG.trace("Connection: {}", connection);
 
+        if (file != null) {
+            return new OutboundFileHttpResponse(openFileBody(file, response), (DefaultHttpResponse) response);
+        }
         return response;
     }
 
+    /**
+     * Gets the file of the message body, when the body is a file, so its content can be written to the channel without
+     * reading the file into memory.
+     */
+    private File getFileBody(Message message, NettyHttpConfiguration configuration) {
+        // the content of the file is written as is, so it cannot be compressed
+        if (configuration.isCompression()) {
+            return null;
+        }
+        return HttpHelper.getFileBody(message.getBody(), message.getExchange());
+    }
+
+    /**
+     * Opens the file of the message body and sets its length as the content length of the message. The file is opened
+     * up front, so it can still be read when the file is moved or deleted when the exchange is done, before the content
+     * has been written. The file is opened as the last step of creating the message, and is closed when the message is
+     * released.
+     */
+    private FileChannel openFileBody(File file, HttpMessage message) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            long len = channel.size();
+            message.headers().set(HttpHeaderNames.CONTENT_LENGTH.toString(), len);
+            LOG.trace("Content-Length: {}", len);
+        } catch (IOException e) {
+            IOHelper.close(channel);
+            throw e;
+        }
+        return channel;
+    }
+
     /*
      * set the HTTP status code
      */
@@ -626,6 +675,15 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             request.headers().set(TRANSFER_ENCODING, CHUNKED);
         }
 
+        File file = null;
+        if (request == null) {
+            file = getFileBody(message, configuration);
+            if (file != null) {
+                // the file is opened when the request is otherwise complete
+                request = new DefaultHttpRequest(protocol, httpMethod, uriForRequest);
+            }
+        }
+
         if (request == null) {
             request = new DefaultFullHttpRequest(protocol, httpMethod, uriForRequest);
 
@@ -735,6 +793,9 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
         request.headers().set(HttpHeaderNames.CONNECTION.toString(), connection);
         LOG.trace("Connection: {}", connection);
 
+        if (file != null) {
+            return new OutboundFileHttpRequest(openFileBody(file, request), (DefaultHttpRequest) request);
+        }
         return request;
     }
 
@@ -89,8 +89,9 @@ public class HttpServerSharedInitializerFactory extends HttpServerInitializerFac
         if (configuration.isChunked()) {
             pipeline.addLast("inbound-streamer", new HttpInboundStreamHandler());
             pipeline.addLast("aggregator", new HttpObjectAggregator(configuration.getChunkedMaxContentLength()));
-            pipeline.addLast("outbound-streamer", new HttpOutboundStreamHandler());
         }
+        // writes the responses which are streamed or sent from a file
+        pipeline.addLast("outbound-streamer", new HttpOutboundStreamHandler());
         if (configuration.isCompression()) {
             pipeline.addLast("deflater", new HttpContentCompressor());
         }
@@ -121,9 +121,7 @@ public class NettyHttpEndpoint extends NettyEndpoint implements AsyncEndpoint, H
     }
 
     @Override
-    public Exchange createExchange(ChannelHandlerContext ctx, Object message) throws Exception {
-        Exchange exchange = createExchange();
-
+    public void bindExchange(Exchange exchange, ChannelHandlerContext ctx, Object message) throws Exception {
         Message in;
         if (message instanceof FullHttpRequest) {
             FullHttpRequest request = (FullHttpRequest) message;
@@ -144,8 +142,6 @@ public class NettyHttpEndpoint extends NettyEndpoint implements AsyncEndpoint, H
             exchange.setProperty(Exchange.CHARSET_NAME, charset);
             in.setHeader(Exchange.HTTP_CHARACTER_ENCODING, charset);
         }
-
-        return exchange;
     }
 
     @Override
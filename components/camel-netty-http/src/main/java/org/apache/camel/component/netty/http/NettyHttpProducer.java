@@ -99,7 +99,14 @@ public class NettyHttpProducer extends NettyProducer {
 
         final CookieHandler cookieHandler = endpoint.getCookieHandler();
         if (cookieHandler != null) {
-            Map<String, List<String>> cookieHeaders = cookieHandler.loadCookies(exchange, u);
+            Map<String, List<String>> cookieHeaders;
+            try {
+                cookieHeaders = cookieHandler.loadCookies(exchange, u);
+            } catch (Exception e) {
+                // the request is not sent, so release it (which closes the file of a file body)
+                ReferenceCountUtil.release(request);
+                throw e;
+            }
             for (Map.Entry<String, List<String>> entry : cookieHeaders.entrySet()) {
                 String key = entry.getKey();
                 if (!entry.getValue().isEmpty()) {
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.http;
+
+import java.nio.channels.FileChannel;
+
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.ReferenceCounted;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A HTTP response with the content of a file, which is written by
+ * {@link org.apache.camel.component.netty.http.handlers.HttpOutboundStreamHandler} without reading the file into
+ * memory.
+ * <p/>
+ * The file is closed when the response is released, so it is also closed when the response is never written.
+ */
+public class OutboundFileHttpResponse extends DefaultHttpResponse implements ReferenceCounted {
+    private final FileChannel channel;
+    private final AbstractReferenceCounted refCnt = new AbstractReferenceCounted() {
+        @Override
+        protected void deallocate() {
+            IOHelper.close(channel);
+        }
+
+        @Override
+        public ReferenceCounted touch(Object hint) {
+            return this;
+        }
+    };
+
+    public OutboundFileHttpResponse(FileChannel channel, DefaultHttpResponse response) {
+        super(response.protocolVersion(), response.status(), response.headers());
+        this.channel = channel;
+    }
+
+    public DefaultHttpResponse getResponse() {
+        return new DefaultHttpResponse(this.protocolVersion(), this.status(), this.headers());
+    }
+
+    public FileChannel getChannel() {
+        return channel;
+    }
+
+    @Override
+    public int refCnt() {
+        return refCnt.refCnt();
+    }
+
+    @Override
+    public OutboundFileHttpResponse retain() {
+        refCnt.retain();
+        return this;
+    }
+
+    @Override
+    public OutboundFileHttpResponse retain(int increment) {
+        refCnt.retain(increment);
+        return this;
+    }
+
+    @Override
+    public OutboundFileHttpResponse touch() {
+        return this;
+    }
+
+    @Override
+    public OutboundFileHttpResponse touch(Object hint) {
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return refCnt.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return refCnt.release(decrement);
+    }
+}
@@ -16,10 +16,22 @@
  */
 package org.apache.camel.component.netty.http.handlers;
 
+import java.nio.channels.FileChannel;
+
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
 import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.ReferenceCounted;
+import org.apache.camel.component.netty.http.OutboundFileHttpRequest;
+import org.apache.camel.component.netty.http.OutboundFileHttpResponse;
 import org.apache.camel.component.netty.http.OutboundStreamHttpRequest;
 import org.apache.camel.component.netty.http.OutboundStreamHttpResponse;
 
@@ -28,6 +40,16 @@ public class HttpOutboundStreamHandler extends ChunkedWriteHandler {
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
         boolean needNewPromise = false;
 
+        if (msg instanceof OutboundFileHttpRequest) {
+            OutboundFileHttpRequest request = (OutboundFileHttpRequest) msg;
+            writeFile(ctx, request, request.getRequest(), request.getChannel(), promise);
+            return;
+        } else if (msg instanceof OutboundFileHttpResponse) {
+            OutboundFileHttpResponse response = (OutboundFileHttpResponse) msg;
+            writeFile(ctx, response, response.getResponse(), response.getChannel(), promise);
+            return;
+        }
+
         if (msg instanceof OutboundStreamHttpRequest) {
             super.write(ctx, ((OutboundStreamHttpRequest) msg).getRequest(), promise);
             needNewPromise = true;
@@ -42,4 +64,27 @@ public class HttpOutboundStreamHandler extends ChunkedWriteHandler {
 
         super.write(ctx, msg, promise);
     }
+
+    private void writeFile(
+            ChannelHandlerContext ctx, ReferenceCounted msg, HttpMessage message, FileChannel channel, ChannelPromise promise) {
+        // the file is closed by releasing the message when it has been written, or writing failed
+        promise = promise.unvoid();
+        promise.addListener(f -> ReferenceCountUtil.release(msg));
+        try {
+            long size = channel.size();
+            super.write(ctx, message, ctx.newPromise());
+            if (size == 0) {
+                super.write(ctx, LastHttpContent.EMPTY_LAST_CONTENT, promise);
+            } else if (ctx.pipeline().get(SslHandler.class) == null) {
+                // zero-copy transfer of the file to the socket
+                super.write(ctx, new DefaultFileRegion(channel, 0, size), ctx.newPromise());
+                super.write(ctx, LastHttpContent.EMPTY_LAST_CONTENT, promise);
+            } else {
+                // the content must be encrypted so the file is read in chunks
+                super.write(ctx, new HttpChunkedInput(new ChunkedNioFile(channel)), promise);
+            }
+        } catch (Exception e) {
+            promise.tryFailure(e);
+        }
+    }
 }
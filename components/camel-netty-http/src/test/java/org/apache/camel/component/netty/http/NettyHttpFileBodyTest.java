@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.http;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
+import io.netty.handler.codec.http.FullHttpMessage;
+import io.netty.handler.codec.http.HttpContent;
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.AvailablePortFinder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.createDirectory;
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class NettyHttpFileBodyTest extends BaseNettyTest {
+
+    private static final String SSL_OPTIONS
+            = "ssl=true&passphrase=changeit&keyStoreResource=jsse/localhost.p12&trustStoreResource=jsse/localhost.p12";
+
+    @BindToRegistry("spy")
+    private final WrittenMessagesSpy spy = new WrittenMessagesSpy();
+
+    private String content;
+    private int sslPort;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/filebody");
+        createDirectory("target/filebody");
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append("Line ").append(i).append("\n");
+        }
+        content = sb.toString();
+        Files.write(new File("target/filebody/data.txt").toPath(), content.getBytes());
+        Files.write(new File("target/filebody/empty.txt").toPath(), new byte[0]);
+        sslPort = AvailablePortFinder.getNextAvailable();
+
+        super.setUp();
+    }
+
+    @Test
+    public void testFileResponse() throws Exception {
+        String out = template.requestBody("netty-http:http://localhost:{{port}}/download", null, String.class);
+        assertEquals(content, out);
+
+        // the file is transferred as a file region and not read into memory
+        assertTrue(spy.hasWritten(FileRegion.class), "Should write a file region: " + spy.written);
+        assertFalse(spy.hasWritten(FullHttpMessage.class), "Should not write a full message: " + spy.written);
+    }
+
+    @Test
+    public void testEmptyFileResponse() throws Exception {
+        Exchange out = template.request("netty-http:http://localhost:{{port}}/download",
+                e -> e.getIn().setHeader("name", "empty.txt"));
+        assertEquals(0, out.getMessage().getHeader(Exchange.CONTENT_LENGTH, Integer.class).intValue());
+        assertEquals("", out.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void testFileResponseSSL() throws Exception {
+        String out = template.requestBody("netty-http:https://localhost:" + sslPort + "/download?" + SSL_OPTIONS, null,
+                String.class);
+        assertEquals(content, out);
+
+        // the file is read in chunks as it must be encrypted
+        assertFalse(spy.hasWritten(FileRegion.class), "Should not write a file region: " + spy.written);
+        assertFalse(spy.hasWritten(FullHttpMessage.class), "Should not write a full message: " + spy.written);
+        assertTrue(spy.count(HttpContent.class) > 1, "Should write the file in chunks: " + spy.written);
+    }
+
+    @Test
+    public void testFileRequest() throws Exception {
+        String out = template.requestBody("netty-http:http://localhost:{{port}}/upload?encoders=#spy",
+                new File("target/filebody/data.txt"), String.class);
+        assertEquals(content, out);
+
+        // the producer transfers the file as a file region as well
+        assertTrue(spy.hasWritten(FileRegion.class), "Should write a file region: " + spy.written);
+    }
+
+    @Test
+    public void testFileRequestConnectFailure() throws Exception {
+        assumeTrue(new File("/proc/self/fd").isDirectory(), "Requires /proc to list the open files");
+        File file = new File("target/filebody/data.txt");
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            assertTrue(isOpen(file));
+        }
+        assertFalse(isOpen(file));
+
+        int port = AvailablePortFinder.getNextAvailable();
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("netty-http:http://localhost:" + port + "/upload", file, String.class));
+        assertTrue(e.getCause() instanceof ConnectException, "Should fail to connect: " + e.getCause());
+
+        // the request is never written, so the file must be closed when the request is released
+        assertFalse(isOpen(file), "The file should be closed");
+    }
+
+    /**
+     * Whether the file is opened by this process.
+     */
+    private static boolean isOpen(File file) throws IOException {
+        String path = file.getCanonicalPath();
+        try (DirectoryStream<Path> fds = Files.newDirectoryStream(Paths.get("/proc/self/fd"))) {
+            for (Path fd : fds) {
+                try {
+                    if (path.equals(Files.readSymbolicLink(fd).toString())) {
+                        return true;
+                    }
+                } catch (IOException e) {
+                    // the file descriptor was closed in the meantime
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("netty-http:http://localhost:{{port}}/download?encoders=#spy")
+                        .process(e -> e.getMessage().setBody(
+                                new File("target/filebody/" + e.getIn().getHeader("name", "data.txt", String.class))));
+
+                from("netty-http:https://localhost:" + sslPort + "/download?encoders=#spy&" + SSL_OPTIONS)
+                        .process(e -> e.getMessage().setBody(new File("target/filebody/data.txt")));
+
+                from("netty-http:http://localhost:{{port}}/upload?encoders=#spy")
+                        .convertBodyTo(String.class);
+            }
+        };
+    }
+
+    /**
+     * Records the messages written by the outbound streamer.
+     */
+    @ChannelHandler.Sharable
+    private static class WrittenMessagesSpy extends ChannelOutboundHandlerAdapter {
+
+        private final List<Class<?>> written = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+            written.add(msg.getClass());
+            super.write(ctx, msg, promise);
+        }
+
+        boolean hasWritten(Class<?> type) {
+            return count(type) > 0;
+        }
+
+        int count(Class<?> type) {
+            return (int) written.stream().filter(type::isAssignableFrom).count();
+        }
+    }
+
+}
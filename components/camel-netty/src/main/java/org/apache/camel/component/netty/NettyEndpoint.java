@@ -85,9 +85,20 @@ public class NettyEndpoint extends DefaultEndpoint implements AsyncEndpoint {
 
     public Exchange createExchange(ChannelHandlerContext ctx, Object message) throws Exception {
         Exchange exchange = createExchange();
+        bindExchange(exchange, ctx, message);
+        return exchange;
+    }
+
+    /**
+     * Binds the received message to the given exchange, which is created by the consumer.
+     *
+     * @param exchange the exchange
+     * @param ctx      the channel handler context
+     * @param message  the received message
+     */
+    public void bindExchange(Exchange exchange, ChannelHandlerContext ctx, Object message) throws Exception {
         updateMessageHeader(exchange.getIn(), ctx);
         NettyPayloadHelper.setIn(exchange, message);
-        return exchange;
     }
 
     @Override
@@ -88,7 +88,8 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
         }
 
         // create Exchange and let the consumer process it
-        final Exchange exchange = consumer.getEndpoint().createExchange(ctx, msg);
+        final Exchange exchange = consumer.createExchange(false);
+        consumer.getEndpoint().bindExchange(exchange, ctx, msg);
         if (consumer.getConfiguration().isSync()) {
             exchange.setPattern(ExchangePattern.InOut);
         }
@@ -135,6 +136,7 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
             consumer.getExceptionHandler().handleException(e);
         } finally {
             consumer.doneUoW(exchange);
+            releaseExchange(exchange);
         }
     }
 
@@ -151,11 +153,20 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
                     consumer.getExceptionHandler().handleException(e);
                 } finally {
                     consumer.doneUoW(exchange);
+                    releaseExchange(exchange);
                 }
             }
         });
     }
 
+    private void releaseExchange(Exchange exchange) {
+        // the response is written asynchronously and the response listener may still use the exchange,
+        // so we can only release the exchange back to the consumer when there is no response
+        if (!consumer.getConfiguration().isSync()) {
+            consumer.releaseExchange(exchange, false);
+        }
+    }
+
     private void sendResponse(Object message, ChannelHandlerContext ctx, Exchange exchange) throws Exception {
         Object body = getResponseBody(exchange);
 
@@ -21,6 +21,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         SedaEndpoint target = (SedaEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchaslist":
+        case "batchAsList": target.setBatchAsList(property(camelContext, boolean.class, value)); return true;
         case "blockwhenfull":
         case "blockWhenFull": target.setBlockWhenFull(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -41,8 +43,12 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "limitconcurrentconsumers":
         case "limitConcurrentConsumers": target.setLimitConcurrentConsumers(property(camelContext, boolean.class, value)); return true;
+        case "maxbatchsize":
+        case "maxBatchSize": target.setMaxBatchSize(property(camelContext, int.class, value)); return true;
         case "multipleconsumers":
         case "multipleConsumers": target.setMultipleConsumers(property(camelContext, boolean.class, value)); return true;
+        case "offergroupedexchanges":
+        case "offerGroupedExchanges": target.setOfferGroupedExchanges(property(camelContext, boolean.class, value)); return true;
         case "offertimeout":
         case "offerTimeout": target.setOfferTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "polltimeout":
@@ -61,6 +67,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchaslist":
+        case "batchAsList": return boolean.class;
         case "blockwhenfull":
         case "blockWhenFull": return boolean.class;
         case "bridgeerrorhandler":
@@ -81,8 +89,12 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return boolean.class;
         case "limitconcurrentconsumers":
         case "limitConcurrentConsumers": return boolean.class;
+        case "maxbatchsize":
+        case "maxBatchSize": return int.class;
         case "multipleconsumers":
         case "multipleConsumers": return boolean.class;
+        case "offergroupedexchanges":
+        case "offerGroupedExchanges": return boolean.class;
         case "offertimeout":
         case "offerTimeout": return long.class;
         case "polltimeout":
@@ -102,6 +114,8 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         SedaEndpoint target = (SedaEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "batchaslist":
+        case "batchAsList": return target.isBatchAsList();
         case "blockwhenfull":
         case "blockWhenFull": return target.isBlockWhenFull();
         case "bridgeerrorhandler":
@@ -122,8 +136,12 @@ public class SedaEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "limitconcurrentconsumers":
         case "limitConcurrentConsumers": return target.isLimitConcurrentConsumers();
+        case "maxbatchsize":
+        case "maxBatchSize": return target.getMaxBatchSize();
         case "multipleconsumers":
         case "multipleConsumers": return target.isMultipleConsumers();
+        case "offergroupedexchanges":
+        case "offerGroupedExchanges": return target.isOfferGroupedExchanges();
         case "offertimeout":
         case "offerTimeout": return target.getOfferTimeout();
         case "polltimeout":
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -23,9 +24,11 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.PooledExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
@@ -55,10 +58,12 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int maxBatchSize;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.maxBatchSize = endpoint.getMaxBatchSize();
     }
 
     @Override
@@ -137,6 +142,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        // the exchanges drained from the queue in one go
+        List<Exchange> batch = maxBatchSize > 1 ? new ArrayList<>(maxBatchSize) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -179,27 +186,24 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout,
                             exchange);
                 }
-                if (exchange != null) {
+                if (exchange != null && batch != null) {
+                    batch.add(exchange);
+                    // take the exchanges which are already on the queue, which only locks the queue once
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Drained queue {} -> {} exchanges", ObjectHelper.getIdentityHashCode(queue), batch.size());
+                    }
                     try {
-                        // send a new copied exchange with new camel context
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy the message back
-                        if (newExchange.hasOut()) {
-                            exchange.setOut(newExchange.getOut().copy());
+                        if (getEndpoint().isBatchAsList()) {
+                            processBatchAsList(new ArrayList<>(batch));
                         } else {
-                            exchange.setIn(newExchange.getIn());
-                        }
-                        // log exception if an exception occurred and was not handled
-                        if (newExchange.getException() != null) {
-                            exchange.setException(newExchange.getException());
-                            getExceptionHandler().handleException("Error processing exchange", exchange,
-                                    exchange.getException());
+                            processBatch(batch);
                         }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    } finally {
+                        batch.clear();
                     }
+                } else if (exchange != null) {
+                    processExchange(exchange);
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
                     // we want to shutdown so break out if there queue is empty
@@ -218,6 +222,95 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Processes the exchange taken from the queue
+     */
+    protected void processExchange(Exchange exchange) {
+        processExchange(exchange, 0, 0);
+    }
+
+    /**
+     * Processes the exchange taken from the queue, which is part of a batch of the given size, or not part of a batch
+     * when the size is 0.
+     */
+    private void processExchange(Exchange exchange, int batchIndex, int batchSize) {
+        try {
+            final Exchange original = exchange;
+            // send a new copied exchange with new camel context
+            final Exchange newExchange = prepareExchange(exchange);
+            if (batchSize > 0) {
+                // set the batch properties on the copy so they do not leak into the exchange of the producer
+                newExchange.setProperty(Exchange.BATCH_INDEX, batchIndex);
+                newExchange.setProperty(Exchange.BATCH_SIZE, batchSize);
+                newExchange.setProperty(Exchange.BATCH_COMPLETE, batchIndex == batchSize - 1);
+            }
+            // process the exchange
+            sendToConsumers(newExchange, doneSync -> {
+                // copy the message back
+                if (newExchange.hasOut()) {
+                    original.setOut(newExchange.getOut().copy());
+                } else if (newExchange instanceof PooledExchange) {
+                    // the pooled exchange is reused so we must copy its message
+                    original.setIn(newExchange.getIn().copy());
+                } else {
+                    original.setIn(newExchange.getIn());
+                }
+                // log exception if an exception occurred and was not handled
+                if (newExchange.getException() != null) {
+                    original.setException(newExchange.getException());
+                    getExceptionHandler().handleException("Error processing exchange", original,
+                            original.getException());
+                }
+                // the exchange is done and can be released
+                releaseExchange(newExchange, false);
+            });
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    /**
+     * Processes the exchanges drained from the queue one by one, with the batch properties set on the exchange routed
+     * for each of them.
+     */
+    protected void processBatch(List<Exchange> batch) {
+        int size = batch.size();
+        for (int i = 0; i < size; i++) {
+            processExchange(batch.get(i), i, size);
+        }
+    }
+
+    /**
+     * Processes the exchanges drained from the queue as a single exchange, where the message body is the list of
+     * exchanges. The on completions of the exchanges in the list (such as producers waiting for a reply) are done when
+     * the batch exchange is done.
+     */
+    protected void processBatchAsList(final List<Exchange> batch) {
+        final Exchange exchange = createExchange(false);
+        exchange.adapt(ExtendedExchange.class).setFromEndpoint(getEndpoint());
+        exchange.setProperty(Exchange.BATCH_SIZE, batch.size());
+        exchange.getIn().setBody(batch);
+        try {
+            sendToConsumers(exchange, doneSync -> {
+                for (Exchange original : batch) {
+                    if (exchange.getException() != null) {
+                        original.setException(exchange.getException());
+                    }
+                    UnitOfWorkHelper.doneSynchronizations(original,
+                            original.adapt(ExtendedExchange.class).handoverCompletions(), LOG);
+                }
+                // log exception if an exception occurred and was not handled
+                if (exchange.getException() != null) {
+                    getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+                }
+                // the exchange is done and can be released
+                releaseExchange(exchange, false);
+            });
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -225,8 +318,9 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      * @return          the exchange to process by this consumer.
      */
     protected Exchange prepareExchange(Exchange exchange) {
-        // send a new copied exchange with new camel context
-        Exchange newExchange = ExchangeHelper.copyExchangeAndSetCamelContext(exchange, getEndpoint().getCamelContext());
+        // send a new copied exchange with new camel context (which may be a pooled exchange)
+        Exchange newExchange = createExchange(false);
+        ExchangeHelper.copyExchange(exchange, newExchange, true);
         // set the from endpoint
         newExchange.adapt(ExtendedExchange.class).setFromEndpoint(getEndpoint());
         return newExchange;
@@ -244,6 +338,17 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      * @throws Exception can be thrown if processing of the exchange failed
      */
     protected void sendToConsumers(final Exchange exchange) throws Exception {
+        sendToConsumers(exchange, EmptyAsyncCallback.get());
+    }
+
+    /**
+     * Send the given {@link Exchange} to the consumer(s), and invokes the callback when the exchange is done.
+     *
+     * @param  exchange  the exchange
+     * @param  callback  the callback invoked when the exchange is done
+     * @throws Exception can be thrown if processing of the exchange failed
+     */
+    protected void sendToConsumers(final Exchange exchange, final AsyncCallback callback) throws Exception {
         // validate multiple consumers has been enabled
         int size = getEndpoint().getConsumers().size();
         if (size > 1 && !getEndpoint().isMultipleConsumersSupported()) {
@@ -268,10 +373,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
             mp.process(exchange, doneSync -> {
                 // done the uow on the completions
                 UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+                callback.done(doneSync);
             });
         } else {
             // use the regular processor and use the asynchronous routing engine to support it
-            getAsyncProcessor().process(exchange, EmptyAsyncCallback.get());
+            getAsyncProcessor().process(exchange, callback);
         }
     }
 
@@ -84,6 +84,10 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int maxBatchSize = 1;
+    @UriParam(label = "consumer,advanced")
+    private boolean batchAsList;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -99,6 +103,8 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean failIfNoConsumers;
     @UriParam(label = "producer")
     private boolean discardIfNoConsumers;
+    @UriParam(label = "producer,advanced")
+    private boolean offerGroupedExchanges;
 
     private BlockingQueueFactory<Exchange> queueFactory;
 
@@ -413,6 +419,22 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.discardIfNoConsumers = discardIfNoConsumers;
     }
 
+    @ManagedAttribute
+    public boolean isOfferGroupedExchanges() {
+        return offerGroupedExchanges;
+    }
+
+    /**
+     * Whether the producer should add the exchanges of a grouped exchange to the queue as individual exchanges, in one
+     * go. A grouped exchange is an exchange where the message body is a {@link java.util.List} of exchanges, such as
+     * from the aggregate EIP using the GroupedExchangeAggregationStrategy, or from a seda consumer using batchAsList.
+     * <p/>
+     * This is only in use when the producer does not wait for the task to complete.
+     */
+    public void setOfferGroupedExchanges(boolean offerGroupedExchanges) {
+        this.offerGroupedExchanges = offerGroupedExchanges;
+    }
+
     @ManagedAttribute
     public boolean isMultipleConsumers() {
         return multipleConsumers;
@@ -440,6 +462,35 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The maximum number of exchanges the consumer takes from the queue in one go. When the consumer has polled an
+     * exchange, then it drains up to this number of exchanges which are already on the queue, which only locks the
+     * queue once, instead of once per exchange. The exchanges are then processed one by one (with the batch properties
+     * set on the exchange), or as a single exchange when batchAsList is enabled.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @ManagedAttribute
+    public boolean isBatchAsList() {
+        return batchAsList;
+    }
+
+    /**
+     * Whether the exchanges drained from the queue (see maxBatchSize) are processed as a single exchange, where the
+     * message body is a {@link java.util.List} of the drained exchanges. Any producers waiting for a reply receive the
+     * exchange from the list, when the batch exchange is done.
+     */
+    public void setBatchAsList(boolean batchAsList) {
+        this.batchAsList = batchAsList;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
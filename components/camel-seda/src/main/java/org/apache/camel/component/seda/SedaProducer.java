@@ -16,6 +16,9 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -146,7 +149,12 @@ public class SedaProducer extends DefaultAsyncProducer {
         } else {
             // no wait, eg its a InOnly then just add to queue and return
             try {
-                addToQueue(exchange, true);
+                List<Exchange> grouped = endpoint.isOfferGroupedExchanges() ? getGroupedExchanges(exchange) : null;
+                if (grouped != null) {
+                    addToQueue(grouped);
+                } else {
+                    addToQueue(exchange, true);
+                }
             } catch (SedaConsumerNotAvailableException e) {
                 exchange.setException(e);
                 callback.done(true);
@@ -194,6 +202,70 @@ public class SedaProducer extends DefaultAsyncProducer {
      * @param copy     whether to create a copy of the exchange to use for adding to the queue
      */
     protected void addToQueue(Exchange exchange, boolean copy) throws SedaConsumerNotAvailableException {
+        BlockingQueue<Exchange> queue = resolveQueue(exchange);
+        if (queue == null) {
+            return;
+        }
+
+        Exchange target = exchange;
+
+        // handover the completion so its the copy which performs that, as we do not wait
+        if (copy) {
+            target = prepareCopy(exchange, true);
+        }
+
+        offerToQueue(queue, target);
+    }
+
+    /**
+     * Strategy method for adding the exchanges to the queue in one go, such as the exchanges of a grouped exchange.
+     * <p>
+     * The exchanges are copied and added the same way as {@link #addToQueue(Exchange, boolean)}, but the queue and its
+     * consumers are only looked up once.
+     *
+     * @param exchanges the exchanges to add to the queue
+     */
+    protected void addToQueue(Collection<Exchange> exchanges) throws SedaConsumerNotAvailableException {
+        if (exchanges.isEmpty()) {
+            return;
+        }
+        BlockingQueue<Exchange> queue = resolveQueue(exchanges.iterator().next());
+        if (queue == null) {
+            return;
+        }
+
+        for (Exchange exchange : exchanges) {
+            offerToQueue(queue, prepareCopy(exchange, true));
+        }
+    }
+
+    /**
+     * Gets the exchanges of a grouped exchange, where the message body is a list of exchanges.
+     *
+     * @return the exchanges, or <tt>null</tt> if not a grouped exchange
+     */
+    private static List<Exchange> getGroupedExchanges(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+        if (!(body instanceof List) || ((List<?>) body).isEmpty()) {
+            return null;
+        }
+        List<?> list = (List<?>) body;
+        List<Exchange> answer = new ArrayList<>(list.size());
+        for (Object element : list) {
+            if (!(element instanceof Exchange)) {
+                return null;
+            }
+            answer.add((Exchange) element);
+        }
+        return answer;
+    }
+
+    /**
+     * Resolves the queue to add to
+     *
+     * @return the queue, or <tt>null</tt> if the exchange should be discarded as there are no active consumers
+     */
+    private BlockingQueue<Exchange> resolveQueue(Exchange exchange) throws SedaConsumerNotAvailableException {
         BlockingQueue<Exchange> queue = null;
         QueueReference queueReference = endpoint.getQueueReference();
         if (queueReference != null) {
@@ -209,17 +281,13 @@ public class SedaProducer extends DefaultAsyncProducer {
                 throw new SedaConsumerNotAvailableException("No consumers available on endpoint: " + endpoint, exchange);
             } else if (endpoint.isDiscardIfNoConsumers()) {
                 LOG.debug("Discard message as no active consumers on endpoint: {}", endpoint);
-                return;
+                return null;
             }
         }
+        return queue;
+    }
 
-        Exchange target = exchange;
-
-        // handover the completion so its the copy which performs that, as we do not wait
-        if (copy) {
-            target = prepareCopy(exchange, true);
-        }
-
+    private void offerToQueue(BlockingQueue<Exchange> queue, Exchange target) {
         LOG.trace("Adding Exchange to queue: {}", target);
         if (discardWhenFull) {
             try {
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.jdbc;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.spi.ThrottlerStateRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JDBC based {@link ThrottlerStateRepository} which allows to share the throttle rate among multiple nodes using the
+ * same database.
+ * <p/>
+ * The number of used permits is stored per key in the current time window. The permits are acquired using an
+ * optimistic update, which is retried if another node updated the row concurrently, so no database locks are held.
+ */
+public class JdbcThrottlerStateRepository extends ServiceSupport implements ThrottlerStateRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcThrottlerStateRepository.class);
+
+    private static final String DEFAULT_TABLENAME = "CAMEL_THROTTLER";
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSource dataSource;
+    private String processorName;
+    private boolean createTableIfNotExists = true;
+    private String tableName;
+    private int maximumRetries = 100;
+
+    private String tableExistsString = "SELECT 1 FROM CAMEL_THROTTLER WHERE 1 = 0";
+    private String createString
+            = "CREATE TABLE CAMEL_THROTTLER (processorName VARCHAR(255) NOT NULL, throttlerKey VARCHAR(255) NOT NULL,"
+              + " timeWindow BIGINT NOT NULL, usedPermits INTEGER NOT NULL, PRIMARY KEY (processorName, throttlerKey))";
+    private String queryString
+            = "SELECT timeWindow, usedPermits FROM CAMEL_THROTTLER WHERE processorName = ? AND throttlerKey = ?";
+    private String insertString
+            = "INSERT INTO CAMEL_THROTTLER (processorName, throttlerKey, timeWindow, usedPermits) VALUES (?, ?, ?, ?)";
+    private String updateString = "UPDATE CAMEL_THROTTLER SET timeWindow = ?, usedPermits = ?"
+                                  + " WHERE processorName = ? AND throttlerKey = ? AND timeWindow = ? AND usedPermits = ?";
+
+    public JdbcThrottlerStateRepository() {
+    }
+
+    public JdbcThrottlerStateRepository(DataSource dataSource, String processorName) {
+        this.dataSource = dataSource;
+        this.processorName = processorName;
+    }
+
+    public JdbcThrottlerStateRepository(JdbcTemplate jdbcTemplate, String processorName) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.processorName = processorName;
+    }
+
+    @Override
+    public int acquirePermits(String key, long window, int maxPermits, int permits) {
+        for (int attempt = 0; attempt < maximumRetries; attempt++) {
+            List<long[]> rows = jdbcTemplate.query(getQueryString(),
+                    (rs, rowNum) -> new long[] { rs.getLong(1), rs.getInt(2) }, processorName, key);
+
+            if (rows.isEmpty()) {
+                int acquired = Math.min(permits, maxPermits);
+                try {
+                    jdbcTemplate.update(getInsertString(), processorName, key, window, acquired);
+                    return acquired;
+                } catch (DuplicateKeyException e) {
+                    // another node inserted the row concurrently
+                    LOG.debug("Concurrent insert of throttler key: {}, will retry", key);
+                    continue;
+                }
+            }
+
+            long currentWindow = rows.get(0)[0];
+            int used = (int) rows.get(0)[1];
+            if (currentWindow > window) {
+                // the caller is behind the current time window
+                return 0;
+            }
+            int available = currentWindow < window ? maxPermits : maxPermits - used;
+            int acquired = Math.max(0, Math.min(permits, available));
+            if (acquired == 0) {
+                return 0;
+            }
+            int newUsed = currentWindow < window ? acquired : used + acquired;
+            int count = jdbcTemplate.update(getUpdateString(), window, newUsed, processorName, key, currentWindow, used);
+            if (count == 1) {
+                return acquired;
+            }
+            // another node updated the row concurrently
+            LOG.debug("Concurrent update of throttler key: {}, will retry", key);
+        }
+
+        LOG.warn("Cannot acquire permits for throttler key: {} after {} attempts", key, maximumRetries);
+        return 0;
+    }
+
+    @Override
+    public void releasePermits(String key, long window, int permits) {
+        for (int attempt = 0; attempt < maximumRetries; attempt++) {
+            List<long[]> rows = jdbcTemplate.query(getQueryString(),
+                    (rs, rowNum) -> new long[] { rs.getLong(1), rs.getInt(2) }, processorName, key);
+
+            if (rows.isEmpty() || rows.get(0)[0] != window) {
+                // the permits have expired with their time window
+                return;
+            }
+            int used = (int) rows.get(0)[1];
+            int newUsed = Math.max(0, used - permits);
+            int count = jdbcTemplate.update(getUpdateString(), window, newUsed, processorName, key, window, used);
+            if (count == 1) {
+                return;
+            }
+            // another node updated the row concurrently
+            LOG.debug("Concurrent update of throttler key: {}, will retry", key);
+        }
+
+        LOG.warn("Cannot release permits for throttler key: {} after {} attempts", key, maximumRetries);
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+
+        if (jdbcTemplate == null) {
+            ObjectHelper.notNull(dataSource, "dataSource", this);
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.afterPropertiesSet();
+        }
+        ObjectHelper.notNull(processorName, "processorName", this);
+
+        if (tableName != null) {
+            // update query strings from default table name to the new table name
+            tableExistsString = tableExistsString.replaceFirst(DEFAULT_TABLENAME, tableName);
+            createString = createString.replaceFirst(DEFAULT_TABLENAME, tableName);
+            queryString = queryString.replaceFirst(DEFAULT_TABLENAME, tableName);
+            insertString = insertString.replaceFirst(DEFAULT_TABLENAME, tableName);
+            updateString = updateString.replaceFirst(DEFAULT_TABLENAME, tableName);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        try {
+            // we will receive an exception if the table doesn't exists or we cannot access it
+            jdbcTemplate.execute(getTableExistsString());
+            LOG.debug("Expected table for JdbcThrottlerStateRepository exist");
+        } catch (DataAccessException e) {
+            if (createTableIfNotExists) {
+                try {
+                    LOG.debug("creating table for JdbcThrottlerStateRepository because it doesn't exist...");
+                    jdbcTemplate.execute(getCreateString());
+                    LOG.info("table created with query '{}'", getCreateString());
+                } catch (DataAccessException dae) {
+                    // we will fail if we cannot create it
+                    LOG.error(
+                            "Can't create table for JdbcThrottlerStateRepository with query '{}' because of: {}. This may be a permissions problem. Please create this table and try again.",
+                            getCreateString(), e.getMessage());
+                    throw dae;
+                }
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // noop
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public void setJdbcTemplate(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public void setDataSource(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public String getProcessorName() {
+        return processorName;
+    }
+
+    /**
+     * The name used to separate the throttlers sharing the same table. Nodes sharing the throttle rate must use the
+     * same name.
+     */
+    public void setProcessorName(String processorName) {
+        this.processorName = processorName;
+    }
+
+    public boolean isCreateTableIfNotExists() {
+        return createTableIfNotExists;
+    }
+
+    public void setCreateTableIfNotExists(boolean createTableIfNotExists) {
+        this.createTableIfNotExists = createTableIfNotExists;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * To use a custom table name instead of the default name: CAMEL_THROTTLER
+     */
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public int getMaximumRetries() {
+        return maximumRetries;
+    }
+
+    /**
+     * The maximum number of attempts to acquire permits when other nodes update the same key concurrently
+     */
+    public void setMaximumRetries(int maximumRetries) {
+        this.maximumRetries = maximumRetries;
+    }
+
+    public String getTableExistsString() {
+        return tableExistsString;
+    }
+
+    public void setTableExistsString(String tableExistsString) {
+        this.tableExistsString = tableExistsString;
+    }
+
+    public String getCreateString() {
+        return createString;
+    }
+
+    public void setCreateString(String createString) {
+        this.createString = createString;
+    }
+
+    public String getQueryString() {
+        return queryString;
+    }
+
+    public void setQueryString(String queryString) {
+        this.queryString = queryString;
+    }
+
+    public String getInsertString() {
+        return insertString;
+    }
+
+    public void setInsertString(String insertString) {
+        this.insertString = insertString;
+    }
+
+    public String getUpdateString() {
+        return updateString;
+    }
+
+    public void setUpdateString(String updateString) {
+        this.updateString = updateString;
+    }
+}
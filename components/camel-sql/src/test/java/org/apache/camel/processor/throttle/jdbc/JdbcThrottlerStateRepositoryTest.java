@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.jdbc;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcThrottlerStateRepositoryTest extends CamelTestSupport {
+
+    // use a long time period so all messages are sent within the same time window
+    private static final long PERIOD = 60 * 60 * 1000L;
+
+    private EmbeddedDatabase db;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.DERBY).build();
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Test
+    public void testSharedThrottleRate() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        int rejected = 0;
+        for (int i = 0; i < 15; i++) {
+            rejected += send("direct:a", i);
+            rejected += send("direct:b", i);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(20, rejected);
+
+        int used = new JdbcTemplate(db).queryForObject(
+                "SELECT usedPermits FROM CAMEL_THROTTLER WHERE processorName = ?", Integer.class, "myThrottler");
+        assertEquals(10, used);
+    }
+
+    @Test
+    public void testAcquirePermits() throws Exception {
+        JdbcThrottlerStateRepository repo = new JdbcThrottlerStateRepository(db, "myOtherThrottler");
+        repo.start();
+        try {
+            assertEquals(4, repo.acquirePermits("foo", 1, 10, 4));
+            assertEquals(4, repo.acquirePermits("foo", 1, 10, 4));
+            assertEquals(2, repo.acquirePermits("foo", 1, 10, 4));
+            assertEquals(0, repo.acquirePermits("foo", 1, 10, 4));
+            // other keys have their own rate
+            assertEquals(4, repo.acquirePermits("bar", 1, 10, 4));
+            // a new time window resets the used permits
+            assertEquals(4, repo.acquirePermits("foo", 2, 10, 4));
+            // an old time window has no permits
+            assertEquals(0, repo.acquirePermits("foo", 1, 10, 4));
+            // released permits can be acquired again
+            repo.releasePermits("foo", 2, 3);
+            assertEquals(9, repo.acquirePermits("foo", 2, 10, 10));
+            // permits of an old time window are not released
+            repo.releasePermits("foo", 1, 4);
+            assertEquals(0, repo.acquirePermits("foo", 2, 10, 4));
+        } finally {
+            repo.stop();
+        }
+    }
+
+    private int send(String uri, int i) {
+        Exchange out = template.send(uri, e -> e.getIn().setBody("Message " + i));
+        if (out.getException() != null) {
+            assertTrue(out.getException() instanceof ThrottlerRejectedExecutionException);
+            return 1;
+        }
+        return 0;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // two repositories simulating two nodes sharing the same database
+                JdbcThrottlerStateRepository repo1 = new JdbcThrottlerStateRepository(db, "myThrottler");
+                JdbcThrottlerStateRepository repo2 = new JdbcThrottlerStateRepository(db, "myThrottler");
+
+                from("direct:a").throttle(10).timePeriodMillis(PERIOD).rejectExecution(true).stateRepository(repo1)
+                        .leaseSize(3).to("mock:result");
+                from("direct:b").throttle(10).timePeriodMillis(PERIOD).rejectExecution(true).stateRepository(repo2)
+                        .leaseSize(3).to("mock:result");
+            }
+        };
+    }
+}
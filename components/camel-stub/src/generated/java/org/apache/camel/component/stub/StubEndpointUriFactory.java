@@ -20,11 +20,14 @@ public class StubEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(19);
+        Set<String> props = new HashSet<>(22);
+        props.add("maxBatchSize");
+        props.add("batchAsList");
         props.add("exchangePattern");
         props.add("pollTimeout");
         props.add("failIfNoConsumers");
         props.add("waitForTaskToComplete");
+        props.add("offerGroupedExchanges");
         props.add("limitConcurrentConsumers");
         props.add("blockWhenFull");
         props.add("discardWhenFull");
@@ -16,17 +16,22 @@
  */
 package org.apache.camel.component.undertow;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.StringJoiner;
 
 import io.undertow.Handlers;
+import io.undertow.io.BufferWritableOutputStream;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.accesslog.AccessLogHandler;
@@ -49,6 +54,7 @@ import org.apache.camel.Suspendable;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.component.undertow.UndertowConstants.EventType;
 import org.apache.camel.component.undertow.handlers.CamelWebSocketHandler;
+import org.apache.camel.http.base.HttpHelper;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.EndpointHelper;
@@ -254,7 +260,20 @@ public class UndertowConsumer extends DefaultConsumer implements HttpHandler, Su
             return;
         }
 
-        if (getEndpoint().isUseStreaming() && (body instanceof InputStream)) {
+        File file = HttpHelper.getFileBody(body, camelExchange);
+        if (file != null) {
+            // transfer the file to the connection without reading it into memory
+            httpExchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, file.length());
+            httpExchange.startBlocking();
+            try (FileChannel input = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+                 OutputStream output = httpExchange.getOutputStream()) {
+                if (output instanceof BufferWritableOutputStream) {
+                    ((BufferWritableOutputStream) output).transferFrom(input);
+                } else {
+                    IOHelper.copy(Channels.newInputStream(input), output);
+                }
+            }
+        } else if (getEndpoint().isUseStreaming() && (body instanceof InputStream)) {
             httpExchange.startBlocking();
             try (InputStream input = (InputStream) body;
                  OutputStream output = httpExchange.getOutputStream()) {
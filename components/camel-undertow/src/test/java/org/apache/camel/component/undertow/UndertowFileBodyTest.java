@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.undertow;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.createDirectory;
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UndertowFileBodyTest extends BaseUndertowTest {
+
+    private String content;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/filebody");
+        createDirectory("target/filebody");
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append("Line ").append(i).append("\n");
+        }
+        content = sb.toString();
+        Files.write(new File("target/filebody/data.txt").toPath(), content.getBytes());
+        Files.write(new File("target/filebody/empty.txt").toPath(), new byte[0]);
+
+        super.setUp();
+    }
+
+    @Test
+    public void testFileResponse() throws Exception {
+        Exchange out = template.request("undertow:http://localhost:{{port}}/download", null);
+        assertEquals(content.length(), out.getMessage().getHeader(Exchange.CONTENT_LENGTH, Integer.class).intValue());
+        assertEquals(content, out.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void testEmptyFileResponse() throws Exception {
+        Exchange out = template.request("undertow:http://localhost:{{port}}/download",
+                e -> e.getIn().setHeader("name", "empty.txt"));
+        assertEquals(0, out.getMessage().getHeader(Exchange.CONTENT_LENGTH, Integer.class).intValue());
+        assertEquals("", out.getMessage().getBody(String.class));
+    }
+
+    @Test
+    public void testGenericFileResponse() throws Exception {
+        Exchange out = template.request("undertow:http://localhost:{{port}}/file", null);
+        assertEquals(content.length(), out.getMessage().getHeader(Exchange.CONTENT_LENGTH, Integer.class).intValue());
+        assertEquals(content, out.getMessage().getBody(String.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("undertow:http://localhost:{{port}}/download")
+                        .process(e -> e.getMessage().setBody(
+                                new File("target/filebody/" + e.getIn().getHeader("name", "data.txt", String.class))));
+
+                // the body is a file consumed by the file component
+                from("undertow:http://localhost:{{port}}/file")
+                        .pollEnrich("file:target/filebody?fileName=data.txt&noop=true&idempotent=false", 5000);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel;
+
+/**
+ * Pooled {@link Exchange} which contains the methods and APIs that are not intended for Camel end users but used
+ * internally by Camel for optimizing memory footprint by reusing exchanges created by {@link Consumer}s via
+ * {@link org.apache.camel.spi.ExchangeFactory}.
+ * <p/>
+ * <b>Important:</b> A pooled exchange is reset and reused once it has been released, so any custom code must not keep a
+ * reference to the exchange after it has been routed.
+ */
+public interface PooledExchange extends ExtendedExchange {
+
+    /**
+     * Task to execute when the exchange is done.
+     */
+    @FunctionalInterface
+    interface OnDoneTask {
+        void onDone(Exchange exchange);
+    }
+
+    /**
+     * Registers a task to run when this exchange is done.
+     */
+    void onDone(OnDoneTask task);
+
+    /**
+     * When the exchange is done being used.
+     * <p/>
+     * The exchange is reset and the done task is executed (which usually releases the exchange back to the pool). If
+     * the exchange is not auto released, then the exchange is only done if <tt>forced</tt> is <tt>true</tt>.
+     *
+     * @param forced whether to force the exchange to be done (used by consumers that release the exchange manually)
+     */
+    void done(boolean forced);
+
+    /**
+     * Resets the exchange for reuse with the given created timestamp
+     */
+    void reset(long created);
+
+    /**
+     * Whether this exchange was created to auto release when its unit of work is done
+     */
+    boolean isAutoRelease();
+
+    /**
+     * Sets whether this exchange is auto released when its unit of work is done
+     */
+    void setAutoRelease(boolean autoRelease);
+
+}
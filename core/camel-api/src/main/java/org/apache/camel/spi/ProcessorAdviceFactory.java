@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+
+/**
+ * A factory to create custom {@link CamelInternalProcessorAdvice} which are added to the channel of every processor in
+ * the routes.
+ * <p/>
+ * Any factories bound in the {@link Registry} are used when the routes are initialized, which allows third party
+ * modules (such as monitoring or diagnostics) to execute cross cutting functionality before and after each step in the
+ * routes, without having to wrap the processors as {@link InterceptStrategy} does.
+ */
+public interface ProcessorAdviceFactory {
+
+    /**
+     * Creates the advice to use for the given processor.
+     *
+     * @param  route      the route
+     * @param  definition the model definition of the processor
+     * @param  processor  the processor
+     * @return            the advice to add to the channel, or <tt>null</tt> to not add any advice for this processor
+     */
+    CamelInternalProcessorAdvice<?> createProcessorAdvice(Route route, NamedNode definition, Processor processor);
+
+}
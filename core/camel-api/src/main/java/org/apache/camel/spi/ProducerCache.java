@@ -117,6 +117,26 @@ public interface ProducerCache extends Service {
      */
     void cleanUp();
 
+    /**
+     * Gets the number of times a producer was acquired from the pool
+     */
+    long getHits();
+
+    /**
+     * Gets the number of times a new producer was created as none was available in the pool
+     */
+    long getMisses();
+
+    /**
+     * Gets the number of producers which have been evicted from the pool
+     */
+    long getEvicted();
+
+    /**
+     * Resets the hits, misses and evicted counters
+     */
+    void resetCacheStatistics();
+
     /**
      * Whether {@link org.apache.camel.spi.EventNotifier} is enabled
      */
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -62,6 +63,26 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of off-heap {@link StreamCache} created.
+         */
+        long getCacheOffHeapCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         */
+        long getCacheOffHeapSize();
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap stream caches.
+         */
+        long getCacheOffHeapAverageSize();
+
+        /**
+         * Gets the number of bytes of the off-heap arena which is currently in use by off-heap stream caches.
+         */
+        long getOffHeapArenaUsed();
+
         /**
          * Reset the counters
          */
@@ -192,6 +213,54 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isAnySpoolRules();
 
+    /**
+     * Sets the maximum number of bytes of the off-heap arena, which is a pool of direct {@link ByteBuffer}s that
+     * streams are cached into when they should be spooled, before spooling to disk.
+     * <p/>
+     * Off-heap stream caches keep large streams out of the Java heap, and copies of the cache (such as in multicast or
+     * wire tap) share the same buffers. When the arena is exhausted then the stream is spooled to disk as usual.
+     * <p/>
+     * The default value is <tt>0</tt> which means the off-heap arena is not in use.
+     */
+    void setOffHeapArenaSize(long size);
+
+    long getOffHeapArenaSize();
+
+    /**
+     * Sets whether spool files should be read using memory-mapped files, where copies of the cache share the same
+     * mapped buffer.
+     * <p/>
+     * This cannot be used together with a spool cipher, in which case the spool files are read using file streams. The
+     * default value is <tt>false</tt>.
+     */
+    void setSpoolMemoryMapped(boolean memoryMapped);
+
+    boolean isSpoolMemoryMapped();
+
+    /**
+     * Acquires a direct buffer from the off-heap arena.
+     *
+     * @return the buffer, or <tt>null</tt> if the off-heap arena is not in use or is exhausted
+     */
+    ByteBuffer acquireOffHeapBuffer();
+
+    /**
+     * Releases the buffer back to the off-heap arena.
+     *
+     * @param buffer the buffer which was acquired from {@link #acquireOffHeapBuffer()}
+     */
+    void releaseOffHeapBuffer(ByteBuffer buffer);
+
+    /**
+     * Discards the buffer instead of releasing it back to the off-heap arena, which frees its room in the arena without
+     * reusing the buffer. This is used for buffers which have been shared by copies of a stream cache, as the copies
+     * may outlive their exchanges (such as when held by an aggregator) and must never read the data of another stream.
+     * The buffer is freed by the garbage collector when it is no longer referenced.
+     *
+     * @param buffer the buffer which was acquired from {@link #acquireOffHeapBuffer()}
+     */
+    void discardOffHeapBuffer(ByteBuffer buffer);
+
     /**
      * Gets the utilization statistics.
      */
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import org.apache.camel.Service;
+
+/**
+ * Access to a repository holding the state of the <a href="http://camel.apache.org/throttler.html">Throttler</a>
+ * pattern, which allows to share the throttle rate among multiple nodes in a cluster.
+ * <p/>
+ * The time is divided into fixed windows of the throttler time period, where the window is the current time in millis
+ * divided by the time period. The repository keeps track of the number of permits used per key within the current
+ * window, and grants permits as long as the maximum number of requests for the window has not been reached.
+ * <p/>
+ * The throttler acquires (leases) permits in batches, to avoid a round-trip to the repository for every message, and
+ * releases the permits it did not use, so they can be acquired by other nodes within the same time window.
+ */
+public interface ThrottlerStateRepository extends Service {
+
+    /**
+     * Acquires permits for the given key within the given time window.
+     *
+     * @param  key        the key, which is the correlation key when throttling by groups
+     * @param  window     the time window
+     * @param  maxPermits the maximum number of permits for the time window (the throttle rate)
+     * @param  permits    the number of permits to acquire
+     * @return            the number of acquired permits, which is between 0 and the requested number of permits
+     */
+    int acquirePermits(String key, long window, int maxPermits, int permits);
+
+    /**
+     * Releases permits which were acquired but not used within the given time window. Permits of a time window which is
+     * no longer the current time window are ignored.
+     *
+     * @param key     the key, which is the correlation key when throttling by groups
+     * @param window  the time window the permits were acquired for
+     * @param permits the number of permits to release
+     */
+    void releasePermits(String key, long window, int permits);
+
+}
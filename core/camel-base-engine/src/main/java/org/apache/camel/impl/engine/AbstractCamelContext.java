@@ -101,6 +101,7 @@ import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.spi.EndpointStrategy;
 import org.apache.camel.spi.EndpointUriFactory;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -307,6 +308,7 @@ public abstract class AbstractCamelContext extends BaseService
     private volatile ExecutorServiceManager executorServiceManager;
     private volatile UuidGenerator uuidGenerator;
     private volatile UnitOfWorkFactory unitOfWorkFactory;
+    private volatile ExchangeFactory exchangeFactory;
     private volatile RouteController routeController;
     private volatile ScheduledExecutorService errorHandlerExecutorService;
     private volatile BeanIntrospection beanIntrospection;
@@ -2277,6 +2279,23 @@ public abstract class AbstractCamelContext extends BaseService
         this.unitOfWorkFactory = doAddService(unitOfWorkFactory);
     }
 
+    @Override
+    public ExchangeFactory getExchangeFactory() {
+        if (exchangeFactory == null) {
+            synchronized (lock) {
+                if (exchangeFactory == null) {
+                    setExchangeFactory(createExchangeFactory());
+                }
+            }
+        }
+        return exchangeFactory;
+    }
+
+    @Override
+    public void setExchangeFactory(ExchangeFactory exchangeFactory) {
+        this.exchangeFactory = doAddService(exchangeFactory);
+    }
+
     @Override
     public RuntimeEndpointRegistry getRuntimeEndpointRegistry() {
         return runtimeEndpointRegistry;
@@ -3645,6 +3664,7 @@ public abstract class AbstractCamelContext extends BaseService
         getNodeIdFactory();
         getModelJAXBContextFactory();
         getUnitOfWorkFactory();
+        getExchangeFactory();
         getRouteController();
         getRoutesLoader();
 
@@ -4791,6 +4811,8 @@ public abstract class AbstractCamelContext extends BaseService
 
     protected abstract UnitOfWorkFactory createUnitOfWorkFactory();
 
+    protected abstract ExchangeFactory createExchangeFactory();
+
     protected abstract CamelContextNameStrategy createCamelContextNameStrategy();
 
     protected abstract ManagementNameStrategy createManagementNameStrategy();
@@ -232,6 +232,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         profile.setMaxPoolSize(poolSize);
         profile.setKeepAliveTime(0L);
         profile.setAllowCoreThreadTimeOut(false);
+        // a fixed number of threads is required (such as single threaded to process tasks in order)
+        profile.setVirtualThreads(false);
         return newThreadPool(source, name, profile);
     }
 
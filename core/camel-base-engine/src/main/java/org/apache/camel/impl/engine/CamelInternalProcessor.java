@@ -31,6 +31,7 @@ import org.apache.camel.MessageHistory;
 import org.apache.camel.NamedNode;
 import org.apache.camel.NamedRoute;
 import org.apache.camel.Ordered;
+import org.apache.camel.PooledExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.StatefulService;
@@ -684,6 +685,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             if (route != null && existing != null) {
                 existing.popRoute();
             }
+
+            // pooled exchanges that are auto released are done when the UoW we created is done
+            if (uow != null && exchange instanceof PooledExchange) {
+                ((PooledExchange) exchange).done(false);
+            }
         }
 
         protected UnitOfWork createUnitOfWork(Exchange exchange) {
@@ -33,11 +33,13 @@ import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.impl.debugger.BacklogDebugger;
 import org.apache.camel.impl.debugger.BacklogTracer;
+import org.apache.camel.spi.CamelInternalProcessorAdvice;
 import org.apache.camel.spi.Debugger;
 import org.apache.camel.spi.ErrorHandlerRedeliveryCustomizer;
 import org.apache.camel.spi.InterceptStrategy;
 import org.apache.camel.spi.ManagementInterceptStrategy;
 import org.apache.camel.spi.MessageHistoryFactory;
+import org.apache.camel.spi.ProcessorAdviceFactory;
 import org.apache.camel.spi.Tracer;
 import org.apache.camel.spi.WrapAwareProcessor;
 import org.apache.camel.support.OrderedComparator;
@@ -204,6 +206,15 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
             Tracer tracer = camelContext.getTracer();
             addAdvice(new TracingAdvice(tracer, targetOutputDef, routeDefinition, first));
         }
+        if (camelContext.getRegistry() != null) {
+            // add custom advices (such as from monitoring components)
+            for (ProcessorAdviceFactory factory : camelContext.getRegistry().findByType(ProcessorAdviceFactory.class)) {
+                CamelInternalProcessorAdvice<?> advice = factory.createProcessorAdvice(route, targetOutputDef, nextProcessor);
+                if (advice != null) {
+                    addAdvice(advice);
+                }
+            }
+        }
 
         // sort interceptors according to ordered
         interceptors.sort(OrderedComparator.get());
@@ -20,9 +20,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,58 +39,66 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The counters are {@link LongAdder}s which scale well when many threads add and remove exchanges concurrently. The
+ * exchanges are only tracked when browsing is enabled, in a set ordered by their creation time, so the longest inflight
+ * exchanges are found without sorting all the inflight exchanges.
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
 
-    private final AtomicInteger size = new AtomicInteger();
-    private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<>();
+    // oldest first, and the exchange id to keep exchanges created at the same time apart
+    private static final Comparator<Exchange> OLDEST_FIRST
+            = Comparator.comparingLong(Exchange::getCreated).thenComparing(Exchange::getExchangeId);
+
+    private final LongAdder size = new LongAdder();
+    private final NavigableSet<Exchange> inflight = new ConcurrentSkipListSet<>(OLDEST_FIRST);
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
     private boolean inflightExchangeEnabled;
 
     @Override
     public void add(Exchange exchange) {
-        size.incrementAndGet();
+        size.increment();
 
         if (inflightExchangeEnabled) {
-            inflight.put(exchange.getExchangeId(), exchange);
+            inflight.add(exchange);
         }
     }
 
     @Override
     public void remove(Exchange exchange) {
-        size.decrementAndGet();
+        size.decrement();
 
         if (inflightExchangeEnabled) {
-            inflight.remove(exchange.getExchangeId());
+            inflight.remove(exchange);
         }
     }
 
     @Override
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.incrementAndGet();
+            existing.increment();
         }
     }
 
     @Override
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.decrementAndGet();
+            existing.decrement();
         }
     }
 
     @Override
     public int size() {
-        return size.get();
+        return size.intValue();
     }
 
     @Override
     public void addRoute(String routeId) {
-        routeCount.putIfAbsent(routeId, new AtomicInteger());
+        routeCount.putIfAbsent(routeId, new LongAdder());
     }
 
     @Override
@@ -98,8 +108,8 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        return existing != null ? existing.get() : 0;
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? existing.intValue() : 0;
     }
 
     @Override
@@ -133,25 +143,14 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             return Collections.emptyList();
         }
 
-        Stream<Exchange> values;
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
+        // the exchanges are ordered by the longest duration
+        Stream<Exchange> values = inflight.stream();
+        if (fromRouteId != null) {
             // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+            values = values.filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
-        if (sortByLongestDuration) {
-            // sort by duration and grab the first
-            values = values.sorted((e1, e2) -> {
-                long d1 = getExchangeDuration(e1);
-                long d2 = getExchangeDuration(e2);
-                // need the biggest number first
-                return -1 * Long.compare(d1, d2);
-            });
-        } else {
+        if (!sortByLongestDuration) {
             // else sort by exchange id
             values = values.sorted(Comparator.comparing(Exchange::getExchangeId));
         }
@@ -170,25 +169,15 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             return null;
         }
 
-        Stream<Exchange> values;
-
-        if (fromRouteId == null) {
-            // all values
-            values = inflight.values().stream();
-        } else {
-            // only if route match
-            values = inflight.values().stream()
-                    .filter(e -> fromRouteId.equals(e.getFromRouteId()));
+        // the exchanges are ordered so the first is the oldest
+        Exchange first = null;
+        for (Exchange exchange : inflight) {
+            if (fromRouteId == null || fromRouteId.equals(exchange.getFromRouteId())) {
+                first = exchange;
+                break;
+            }
         }
 
-        // sort by duration and grab the first
-        Exchange first = values.sorted((e1, e2) -> {
-            long d1 = getExchangeDuration(e1);
-            long d2 = getExchangeDuration(e2);
-            // need the biggest number first
-            return -1 * Long.compare(d1, d2);
-        }).findFirst().orElse(null);
-
         if (first != null) {
             return new InflightExchangeEntry(first);
         } else {
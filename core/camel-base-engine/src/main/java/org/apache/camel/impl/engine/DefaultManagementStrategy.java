@@ -77,6 +77,10 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
     public void addEventNotifier(EventNotifier eventNotifier) {
         this.eventNotifiers.add(eventNotifier);
         if (getCamelContext() != null) {
+            // inject CamelContext if the service is aware
+            if (eventNotifier instanceof CamelContextAware) {
+                ((CamelContextAware) eventNotifier).setCamelContext(getCamelContext());
+            }
             // okay we have an event notifier that accepts exchange events so its applicable
             if (!eventNotifier.isIgnoreExchangeEvents()) {
                 getCamelContext().adapt(ExtendedCamelContext.class).setEventNotificationApplicable(true);
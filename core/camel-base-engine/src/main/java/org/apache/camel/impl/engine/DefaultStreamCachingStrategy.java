@@ -19,14 +19,19 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.ByteBufferInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
@@ -41,6 +46,11 @@ import org.slf4j.LoggerFactory;
  */
 public class DefaultStreamCachingStrategy extends ServiceSupport implements CamelContextAware, StreamCachingStrategy {
 
+    /**
+     * The size of each direct buffer in the off-heap arena.
+     */
+    public static final int OFF_HEAP_BUFFER_SIZE = 64 * 1024;
+
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
 
     private CamelContext camelContext;
@@ -56,6 +66,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private long offHeapArenaSize;
+    private boolean spoolMemoryMapped;
+    // the off-heap arena of pooled direct buffers
+    private final Queue<ByteBuffer> offHeapPool = new ConcurrentLinkedQueue<>();
+    private final AtomicLong offHeapAllocated = new AtomicLong();
 
     @Override
     public CamelContext getCamelContext() {
@@ -162,11 +177,67 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.anySpoolRules = anySpoolTasks;
     }
 
+    @Override
+    public long getOffHeapArenaSize() {
+        return offHeapArenaSize;
+    }
+
+    @Override
+    public void setOffHeapArenaSize(long offHeapArenaSize) {
+        this.offHeapArenaSize = offHeapArenaSize;
+    }
+
+    @Override
+    public boolean isSpoolMemoryMapped() {
+        return spoolMemoryMapped;
+    }
+
+    @Override
+    public void setSpoolMemoryMapped(boolean spoolMemoryMapped) {
+        this.spoolMemoryMapped = spoolMemoryMapped;
+    }
+
     @Override
     public Statistics getStatistics() {
         return statistics;
     }
 
+    @Override
+    public ByteBuffer acquireOffHeapBuffer() {
+        if (offHeapArenaSize <= 0) {
+            return null;
+        }
+
+        ByteBuffer answer = offHeapPool.poll();
+        if (answer == null) {
+            // allocate a new buffer if the arena has room for it
+            long allocated;
+            do {
+                allocated = offHeapAllocated.get();
+                if (allocated + OFF_HEAP_BUFFER_SIZE > offHeapArenaSize) {
+                    LOG.trace("Off-heap arena exhausted with {} bytes allocated", allocated);
+                    return null;
+                }
+            } while (!offHeapAllocated.compareAndSet(allocated, allocated + OFF_HEAP_BUFFER_SIZE));
+            answer = ByteBuffer.allocateDirect(OFF_HEAP_BUFFER_SIZE);
+        }
+        statistics.offHeapArenaUsed.addAndGet(answer.capacity());
+        return answer;
+    }
+
+    @Override
+    public void releaseOffHeapBuffer(ByteBuffer buffer) {
+        statistics.offHeapArenaUsed.addAndGet(-buffer.capacity());
+        buffer.clear();
+        offHeapPool.offer(buffer);
+    }
+
+    @Override
+    public void discardOffHeapBuffer(ByteBuffer buffer) {
+        statistics.offHeapArenaUsed.addAndGet(-buffer.capacity());
+        offHeapAllocated.addAndGet(-buffer.capacity());
+    }
+
     @Override
     public boolean shouldSpoolCache(long length) {
         if (!enabled || spoolRules.isEmpty()) {
@@ -212,7 +283,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
             if (statistics.isStatisticsEnabled()) {
                 try {
-                    if (cache.inMemory()) {
+                    if (cache instanceof ByteBufferInputStreamCache) {
+                        statistics.updateOffHeap(cache.length());
+                    } else if (cache.inMemory()) {
                         statistics.updateMemory(cache.length());
                     } else {
                         statistics.updateSpool(cache.length());
@@ -323,6 +396,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (offHeapArenaSize > 0 && offHeapArenaSize < OFF_HEAP_BUFFER_SIZE) {
+            throw new IllegalArgumentException(
+                    "OffHeapArenaSize must be at least " + OFF_HEAP_BUFFER_SIZE + " bytes, was: " + offHeapArenaSize);
+        }
+
         LOG.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -344,6 +422,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        // free the pooled buffers of the off-heap arena (buffers still in use are not pooled again)
+        ByteBuffer buffer;
+        while ((buffer = offHeapPool.poll()) != null) {
+            offHeapAllocated.addAndGet(-buffer.capacity());
+        }
     }
 
     @Override
@@ -354,6 +438,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", offHeapArenaSize=" + offHeapArenaSize
+               + ", spoolMemoryMapped=" + spoolMemoryMapped
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -432,6 +518,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile long offHeapCounter;
+        private volatile long offHeapSize;
+        private volatile long offHeapAverageSize;
+        private final AtomicLong offHeapArenaUsed = new AtomicLong();
 
         synchronized void updateMemory(long size) {
             memoryCounter++;
@@ -445,6 +535,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolAverageSize = spoolSize / spoolCounter;
         }
 
+        synchronized void updateOffHeap(long size) {
+            offHeapCounter++;
+            offHeapSize += size;
+            offHeapAverageSize = offHeapSize / offHeapCounter;
+        }
+
         @Override
         public long getCacheMemoryCounter() {
             return memoryCounter;
@@ -475,6 +571,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter;
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize;
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize;
+        }
+
+        @Override
+        public long getOffHeapArenaUsed() {
+            return offHeapArenaUsed.get();
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -483,6 +599,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            offHeapCounter = 0;
+            offHeapSize = 0;
+            offHeapAverageSize = 0;
         }
 
         @Override
@@ -498,8 +617,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s"
+                                 + ", offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s, offHeapArenaUsed=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize, offHeapArenaUsed.get());
         }
     }
 
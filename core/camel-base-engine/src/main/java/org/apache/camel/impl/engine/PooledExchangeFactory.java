@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.PooledExchange;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.DefaultPooledExchange;
+import org.apache.camel.support.ExchangeHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pooled {@link ExchangeFactory} that reuses {@link Exchange} instance from a pool.
+ * <p/>
+ * Each consumer has its own private pool which is bounded by the capacity. Exchanges that cannot be returned to the
+ * pool because its full are discarded.
+ */
+public final class PooledExchangeFactory extends PrototypeExchangeFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledExchangeFactory.class);
+
+    private BlockingQueue<Exchange> pool;
+
+    public PooledExchangeFactory() {
+        this(null);
+    }
+
+    public PooledExchangeFactory(Consumer consumer) {
+        super(consumer);
+    }
+
+    @Override
+    protected void doBuild() throws Exception {
+        super.doBuild();
+        this.pool = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public ExchangeFactory newExchangeFactory(Consumer consumer) {
+        PooledExchangeFactory answer = new PooledExchangeFactory(consumer);
+        configureExchangeFactory(answer);
+        return answer;
+    }
+
+    @Override
+    public Exchange create(boolean autoRelease) {
+        Exchange exchange = pool != null ? pool.poll() : null;
+        if (exchange == null) {
+            if (statistics.isStatisticsEnabled()) {
+                statistics.created.increment();
+            }
+            // create a new exchange as there was no free from the pool
+            PooledExchange answer = new DefaultPooledExchange(camelContext);
+            answer.setAutoRelease(autoRelease);
+            answer.onDone(this::release);
+            return answer;
+        } else {
+            if (statistics.isStatisticsEnabled()) {
+                statistics.acquired.increment();
+            }
+            // reset exchange for reuse
+            PooledExchange ee = (PooledExchange) exchange;
+            ee.reset(System.currentTimeMillis());
+            ee.setAutoRelease(autoRelease);
+        }
+        return exchange;
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint, boolean autoRelease) {
+        Exchange exchange = pool != null ? pool.poll() : null;
+        if (exchange == null) {
+            if (statistics.isStatisticsEnabled()) {
+                statistics.created.increment();
+            }
+            // create a new exchange as there was no free from the pool
+            ExchangePattern pattern = ExchangePattern.InOnly;
+            if (fromEndpoint instanceof DefaultEndpoint) {
+                pattern = ((DefaultEndpoint) fromEndpoint).getExchangePattern();
+            }
+            PooledExchange answer = new DefaultPooledExchange(fromEndpoint, pattern);
+            answer.setAutoRelease(autoRelease);
+            answer.onDone(this::release);
+            return answer;
+        } else {
+            if (statistics.isStatisticsEnabled()) {
+                statistics.acquired.increment();
+            }
+            // reset exchange for reuse
+            PooledExchange ee = (PooledExchange) exchange;
+            ee.reset(System.currentTimeMillis());
+            ee.setAutoRelease(autoRelease);
+        }
+        return exchange;
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        // only release pooled exchanges that has been done (reset)
+        if (exchange instanceof PooledExchange && exchange.getCreated() == 0) {
+            boolean inserted = pool != null && pool.offer(exchange);
+            if (statistics.isStatisticsEnabled()) {
+                if (inserted) {
+                    statistics.released.increment();
+                } else {
+                    statistics.discarded.increment();
+                }
+            }
+            return inserted;
+        } else if (exchange instanceof PooledExchange) {
+            // the exchange has not been done yet, so force done which will
+            // reset the exchange and then call back into this release method
+            ((PooledExchange) exchange).done(true);
+            return true;
+        } else {
+            LOG.debug("Cannot release exchange as its not a pooled exchange: {}", ExchangeHelper.logIds(exchange));
+            if (statistics.isStatisticsEnabled()) {
+                statistics.discarded.increment();
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return pool != null ? pool.size() : 0;
+    }
+
+    @Override
+    public boolean isPooled() {
+        return true;
+    }
+
+    @Override
+    public void purge() {
+        if (pool != null) {
+            pool.clear();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (getConsumer() != null && statistics.isStatisticsEnabled() && LOG.isDebugEnabled()) {
+            LOG.debug("{} usage [pooled: {}, {}]", this, getSize(), statistics);
+        }
+        super.doStop();
+    }
+
+    @Override
+    public String toString() {
+        return getConsumer() != null ? "PooledExchangeFactory[" + getConsumer() + "]" : "PooledExchangeFactory";
+    }
+
+}
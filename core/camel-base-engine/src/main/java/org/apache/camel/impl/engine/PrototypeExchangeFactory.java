@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Consumer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * {@link ExchangeFactory} that creates a new {@link Exchange} instance.
+ * <p/>
+ * This is the default factory which does not pool or reuse exchanges.
+ */
+public class PrototypeExchangeFactory extends ServiceSupport implements ExchangeFactory, CamelContextAware {
+
+    protected final Consumer consumer;
+    protected CamelContext camelContext;
+    protected UtilizationStatistics statistics;
+    protected int capacity = 100;
+
+    public PrototypeExchangeFactory() {
+        this(null);
+    }
+
+    public PrototypeExchangeFactory(Consumer consumer) {
+        this.consumer = consumer;
+        this.statistics = new UtilizationStatistics();
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public Consumer getConsumer() {
+        return consumer;
+    }
+
+    @Override
+    public ExchangeFactory newExchangeFactory(Consumer consumer) {
+        PrototypeExchangeFactory answer = new PrototypeExchangeFactory(consumer);
+        configureExchangeFactory(answer);
+        return answer;
+    }
+
+    /**
+     * Configures the private {@link ExchangeFactory} created for a consumer with the same settings as this factory, and
+     * lets it share the statistics.
+     */
+    protected void configureExchangeFactory(PrototypeExchangeFactory answer) {
+        answer.setCamelContext(camelContext);
+        answer.setCapacity(capacity);
+        answer.statistics = statistics;
+    }
+
+    @Override
+    public Exchange create(boolean autoRelease) {
+        if (statistics.isStatisticsEnabled()) {
+            statistics.created.increment();
+        }
+        return new DefaultExchange(camelContext);
+    }
+
+    @Override
+    public Exchange create(Endpoint fromEndpoint, boolean autoRelease) {
+        if (statistics.isStatisticsEnabled()) {
+            statistics.created.increment();
+        }
+        return fromEndpoint.createExchange();
+    }
+
+    @Override
+    public boolean release(Exchange exchange) {
+        // noop
+        return true;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public int getSize() {
+        return 0;
+    }
+
+    @Override
+    public boolean isStatisticsEnabled() {
+        return statistics.isStatisticsEnabled();
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @Override
+    public boolean isPooled() {
+        return false;
+    }
+
+    @Override
+    public void purge() {
+        // noop
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        purge();
+    }
+
+    @Override
+    public String toString() {
+        return consumer != null ? "PrototypeExchangeFactory[" + consumer + "]" : "PrototypeExchangeFactory";
+    }
+
+    /**
+     * Represents utilization statistics. The counters are {@link LongAdder} as they are shared and updated concurrently
+     * by the factories for every consumer.
+     */
+    protected static final class UtilizationStatistics implements ExchangeFactory.Statistics {
+
+        final LongAdder created = new LongAdder();
+        final LongAdder acquired = new LongAdder();
+        final LongAdder released = new LongAdder();
+        final LongAdder discarded = new LongAdder();
+        private volatile boolean statisticsEnabled;
+
+        @Override
+        public long getCreatedCounter() {
+            return created.longValue();
+        }
+
+        @Override
+        public long getAcquiredCounter() {
+            return acquired.longValue();
+        }
+
+        @Override
+        public long getReleasedCounter() {
+            return released.longValue();
+        }
+
+        @Override
+        public long getDiscardedCounter() {
+            return discarded.longValue();
+        }
+
+        @Override
+        public void reset() {
+            created.reset();
+            acquired.reset();
+            released.reset();
+            discarded.reset();
+        }
+
+        @Override
+        public boolean isStatisticsEnabled() {
+            return statisticsEnabled;
+        }
+
+        @Override
+        public void setStatisticsEnabled(boolean statisticsEnabled) {
+            this.statisticsEnabled = statisticsEnabled;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ExchangeFactory[created: %s, acquired: %s, released: %s, discarded: %s]",
+                    created.longValue(), acquired.longValue(), released.longValue(), discarded.longValue());
+        }
+    }
+
+}
@@ -41,6 +41,7 @@ import org.apache.camel.spi.ConfigurerResolver;
 import org.apache.camel.spi.DataFormatResolver;
 import org.apache.camel.spi.DeferServiceFactory;
 import org.apache.camel.spi.EndpointRegistry;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
@@ -320,6 +321,11 @@ public class SimpleCamelContext extends AbstractCamelContext {
         return new DefaultUnitOfWorkFactory();
     }
 
+    @Override
+    protected ExchangeFactory createExchangeFactory() {
+        return new PrototypeExchangeFactory();
+    }
+
     @Override
     protected RuntimeCamelCatalog createRuntimeCamelCatalog() {
         Optional<RuntimeCamelCatalog> result = ResolverHelper.resolveService(
@@ -62,6 +62,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final List<BulkTypeConverters> bulkTypeConverters = new ArrayList<>();
     // custom type converters (from camel components and end users)
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(16);
+    // conversions which has no type converter (so only fallback converters can be used) to avoid looking up again
+    protected final DoubleMap<Class<?>, Class<?>, Boolean> notFoundConverters = new DoubleMap<>(16);
     // fallback converters
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
@@ -79,6 +81,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
     // to keep track of number of converters in the bulked classes
     private int sumBulkTypeConverters;
+    // to detect changes to the type converters while looking up
+    private volatile int notFoundConvertersVersion;
 
     public CoreTypeConverterRegistry() {
     }
@@ -574,6 +578,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            clearNotFoundConverters();
         }
     }
 
@@ -605,6 +610,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                clearNotFoundConverters();
             }
         }
     }
@@ -634,15 +640,38 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
         TypeConverter converter = typeMappings.get(toType, fromType);
         if (converter == null) {
+            if (notFoundConverters.containsKey(toType, fromType)) {
+                // we have looked up before and there is no converter
+                return null;
+            }
             // converter not found, try to lookup then
+            int version = notFoundConvertersVersion;
             converter = lookup(toType, fromType);
             if (converter != null) {
                 typeMappings.put(toType, fromType, converter);
+            } else {
+                // remember there is no converter, unless type converters was added while looking up
+                synchronized (notFoundConverters) {
+                    if (version == notFoundConvertersVersion) {
+                        notFoundConverters.put(toType, fromType, Boolean.TRUE);
+                    }
+                }
             }
         }
         return converter;
     }
 
+    /**
+     * Clears the conversions known to have no type converter, which must be done when type converters are added, as the
+     * lookup may then find a type converter.
+     */
+    protected void clearNotFoundConverters() {
+        synchronized (notFoundConverters) {
+            notFoundConvertersVersion++;
+            notFoundConverters.clear();
+        }
+    }
+
     protected TypeConverter doLookup(Class<?> toType, Class<?> fromType, boolean isSuper) {
 
         if (fromType != null) {
@@ -764,6 +793,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         typeMappings.clear();
+        clearNotFoundConverters();
         statistics.reset();
     }
 
@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -30,6 +31,7 @@ import org.apache.camel.language.simple.types.BinaryOperatorType;
 import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
 import org.apache.camel.language.simple.types.SimpleParserException;
 import org.apache.camel.language.simple.types.SimpleToken;
+import org.apache.camel.support.ConstantExpressionAdapter;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
 import org.apache.camel.support.builder.PredicateBuilder;
@@ -133,8 +135,34 @@ public class BinaryExpression extends BaseSimpleNode {
         throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
     }
 
+    /**
+     * Gets the value of the right hand side if its a constant such as a literal, which allows to resolve the operator
+     * only once when creating the expression, instead of for every exchange.
+     *
+     * @return the constant value, or <tt>null</tt> if not a constant
+     */
+    private static Object constantValue(CamelContext camelContext, Expression rightExp) {
+        if (camelContext != null && rightExp instanceof ConstantExpressionAdapter) {
+            rightExp.init(camelContext);
+            return ((ConstantExpressionAdapter) rightExp).getValue();
+        }
+        return null;
+    }
+
     private Expression createIsExpression(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
+        Object value = constantValue(camelContext, rightExp);
+        if (value != null && !"null".equals(value.toString())) {
+            Class<?> rightType = camelContext.getClassResolver().resolveClass(value.toString());
+            if (rightType != null) {
+                Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
+                if (operator == BinaryOperatorType.NOT_IS) {
+                    predicate = PredicateBuilder.not(predicate);
+                }
+                return createExpression(camelContext, leftExp, rightExp, predicate);
+            }
+        }
+
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
@@ -170,6 +198,24 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createRegexExpression(
             final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
+        Object value = constantValue(camelContext, rightExp);
+        if (value != null) {
+            // compile the pattern only once
+            Pattern pattern = null;
+            try {
+                pattern = Pattern.compile(value.toString());
+            } catch (PatternSyntaxException e) {
+                // an invalid pattern is reported when evaluated, as when the pattern is not a constant
+            }
+            if (pattern != null) {
+                Predicate predicate = PredicateBuilder.regex(leftExp, pattern);
+                if (operator == BinaryOperatorType.NOT_REGEX) {
+                    predicate = PredicateBuilder.not(predicate);
+                }
+                return createExpression(camelContext, leftExp, rightExp, predicate);
+            }
+        }
+
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
@@ -191,23 +237,20 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createInExpression(
             final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
+        Object value = constantValue(camelContext, rightExp);
+        if (value != null) {
+            // build the list of values only once
+            Predicate predicate = createInPredicate(leftExp, value);
+            return createExpression(camelContext, leftExp, rightExp, predicate);
+        }
+
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
                 // okay the in operator is a bit more complex as we need to build a list of values
                 // from the right hand side expression.
                 // each element on the right hand side must be separated by comma (default for create iterator)
-                Iterator<?> it = ObjectHelper.createIterator(rightExp.evaluate(exchange, Object.class));
-                List<Object> values = new ArrayList<>();
-                while (it.hasNext()) {
-                    values.add(it.next());
-                }
-                // then reuse value builder to create the in predicate with the list of values
-                ValueBuilder vb = new ValueBuilder(leftExp);
-                Predicate predicate = vb.in(values.toArray());
-                if (operator == BinaryOperatorType.NOT_IN) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
+                Predicate predicate = createInPredicate(leftExp, rightExp.evaluate(exchange, Object.class));
                 boolean answer = predicate.matches(exchange);
                 return camelContext.getTypeConverter().convertTo(type, answer);
             }
@@ -219,31 +262,42 @@ public class BinaryExpression extends BaseSimpleNode {
         };
     }
 
+    private Predicate createInPredicate(final Expression leftExp, final Object rightValue) {
+        Iterator<?> it = ObjectHelper.createIterator(rightValue);
+        List<Object> values = new ArrayList<>();
+        while (it.hasNext()) {
+            values.add(it.next());
+        }
+        // then reuse value builder to create the in predicate with the list of values
+        ValueBuilder vb = new ValueBuilder(leftExp);
+        Predicate predicate = vb.in(values.toArray());
+        if (operator == BinaryOperatorType.NOT_IN) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
+
     private Expression createRangeExpression(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
+        Object value = constantValue(camelContext, rightExp);
+        if (value != null) {
+            // an invalid range is reported when evaluated, as when the range is not a constant
+            Predicate predicate = createRangePredicate(leftExp, value.toString());
+            if (predicate != null) {
+                return createExpression(camelContext, leftExp, rightExp, predicate);
+            }
+        }
+
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate;
-
                 String range = rightExp.evaluate(exchange, String.class);
-                Matcher matcher = RANGE_PATTERN.matcher(range);
-                if (matcher.matches()) {
-                    // wrap as constant expression for the from and to values
-                    Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
-                    Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
-
-                    // build a compound predicate for the range
-                    predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
-                    predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
-                } else {
+                Predicate predicate = createRangePredicate(leftExp, range);
+                if (predicate == null) {
                     throw new SimpleIllegalSyntaxException(
                             expression, right.getToken().getIndex(),
                             operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
                 }
-                if (operator == BinaryOperatorType.NOT_RANGE) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
 
                 boolean answer = predicate.matches(exchange);
                 return camelContext.getTypeConverter().convertTo(type, answer);
@@ -256,6 +310,30 @@ public class BinaryExpression extends BaseSimpleNode {
         };
     }
 
+    /**
+     * Creates the predicate for the range operator
+     *
+     * @return the predicate, or <tt>null</tt> if the range is not valid
+     */
+    private Predicate createRangePredicate(final Expression leftExp, final String range) {
+        Matcher matcher = RANGE_PATTERN.matcher(range);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        // wrap as constant expression for the from and to values
+        Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
+        Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
+
+        // build a compound predicate for the range
+        Predicate predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
+        predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
+        if (operator == BinaryOperatorType.NOT_RANGE) {
+            predicate = PredicateBuilder.not(predicate);
+        }
+        return predicate;
+    }
+
     private Expression createExpression(
             final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
         return new Expression() {
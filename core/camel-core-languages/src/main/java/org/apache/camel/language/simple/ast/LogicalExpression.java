@@ -86,12 +86,13 @@ public class LogicalExpression extends BaseSimpleNode {
     }
 
     private Expression createAndExpression(final Expression leftExp, final Expression rightExp) {
+        // create the predicate only once
+        final Predicate predicate = PredicateBuilder.and(ExpressionToPredicateAdapter.toPredicate(leftExp),
+                ExpressionToPredicateAdapter.toPredicate(rightExp));
+
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.and(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
-
                 boolean answer = predicate.matches(exchange);
                 return exchange.getContext().getTypeConverter().convertTo(type, answer);
             }
@@ -104,12 +105,13 @@ public class LogicalExpression extends BaseSimpleNode {
     }
 
     private Expression createOrExpression(final Expression leftExp, final Expression rightExp) {
+        // create the predicate only once
+        final Predicate predicate = PredicateBuilder.or(ExpressionToPredicateAdapter.toPredicate(leftExp),
+                ExpressionToPredicateAdapter.toPredicate(rightExp));
+
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.or(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
-
                 boolean answer = predicate.matches(exchange);
                 return exchange.getContext().getTypeConverter().convertTo(type, answer);
             }
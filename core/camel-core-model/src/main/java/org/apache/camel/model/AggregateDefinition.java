@@ -81,6 +81,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     private String executorServiceRef;
     @XmlAttribute
     private String timeoutCheckerExecutorServiceRef;
@@ -428,6 +431,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1002,6 +1013,38 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Turns on using lock striping, where the correlation keys are hashed to the given number of locks (rounded up to
+     * the nearest power of two), which allows parallel consumers to aggregate exchanges with different correlation keys
+     * concurrently. Exchanges with the same correlation key are still aggregated one at a time.
+     * <p/>
+     * This cannot be used together with optimistic locking, completionFromBatchConsumer or
+     * completionOnNewCorrelationGroup.
+     *
+     * @param  lockStripes the number of lock stripes
+     * @return             builder
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
+    /**
+     * Turns on using lock striping, where the correlation keys are hashed to the given number of locks (rounded up to
+     * the nearest power of two), which allows parallel consumers to aggregate exchanges with different correlation keys
+     * concurrently. Exchanges with the same correlation key are still aggregated one at a time.
+     * <p/>
+     * This cannot be used together with optimistic locking, completionFromBatchConsumer or
+     * completionOnNewCorrelationGroup.
+     *
+     * @param  lockStripes the number of lock stripes
+     * @return             builder
+     */
+    public AggregateDefinition lockStripes(String lockStripes) {
+        setLockStripes(lockStripes);
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
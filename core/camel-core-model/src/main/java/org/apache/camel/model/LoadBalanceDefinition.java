@@ -28,6 +28,7 @@ import javax.xml.bind.annotation.XmlElements;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.apache.camel.Expression;
+import org.apache.camel.model.loadbalancer.AdaptiveLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
@@ -46,6 +47,7 @@ import org.apache.camel.spi.Metadata;
 @XmlAccessorType(XmlAccessType.FIELD)
 public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinition> {
     @XmlElements({
+            @XmlElement(required = false, name = "adaptive", type = AdaptiveLoadBalancerDefinition.class),
             @XmlElement(required = false, name = "failover", type = FailoverLoadBalancerDefinition.class),
             @XmlElement(required = false, name = "random", type = RandomLoadBalancerDefinition.class),
             @XmlElement(required = false, name = "customLoadBalancer", type = CustomLoadBalancerDefinition.class),
@@ -167,6 +169,31 @@ public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinitio
         return this;
     }
 
+    /**
+     * Uses adaptive load balancer, which routes to the processor that is currently the fastest.
+     *
+     * @return the builder
+     */
+    public LoadBalanceDefinition adaptive() {
+        setLoadBalancerType(new AdaptiveLoadBalancerDefinition());
+        return this;
+    }
+
+    /**
+     * Uses adaptive load balancer, which routes to the processor that is currently the fastest.
+     *
+     * @param  errorThreshold the error rate in percent (1-100) at which a processor is excluded
+     * @param  coolDownPeriod the time in millis a processor with a high error rate is excluded
+     * @return                the builder
+     */
+    public LoadBalanceDefinition adaptive(int errorThreshold, long coolDownPeriod) {
+        AdaptiveLoadBalancerDefinition def = new AdaptiveLoadBalancerDefinition();
+        def.setErrorThreshold(Integer.toString(errorThreshold));
+        def.setCoolDownPeriod(Long.toString(coolDownPeriod));
+        setLoadBalancerType(def);
+        return this;
+    }
+
     /**
      * Uses weighted load balancer
      *
@@ -79,6 +79,9 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String stopOnAggregateException;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String maxInFlight;
 
     public MulticastDefinition() {
     }
@@ -358,6 +361,33 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         return this;
     }
 
+    /**
+     * Sets the maximum number of multicasted messages which are in-flight (sent but not yet aggregated), when using
+     * parallel processing. When the limit is reached, then the Multicast pauses sending new messages until in-flight
+     * messages have completed and been aggregated. This keeps the memory usage bounded regardless of the number of
+     * multicasted messages. By default there is no limit.
+     *
+     * @param  maxInFlight the maximum number of in-flight messages
+     * @return             the builder
+     */
+    public MulticastDefinition maxInFlight(int maxInFlight) {
+        return maxInFlight(Integer.toString(maxInFlight));
+    }
+
+    /**
+     * Sets the maximum number of multicasted messages which are in-flight (sent but not yet aggregated), when using
+     * parallel processing. When the limit is reached, then the Multicast pauses sending new messages until in-flight
+     * messages have completed and been aggregated. This keeps the memory usage bounded regardless of the number of
+     * multicasted messages. By default there is no limit.
+     *
+     * @param  maxInFlight the maximum number of in-flight messages
+     * @return             the builder
+     */
+    public MulticastDefinition maxInFlight(String maxInFlight) {
+        setMaxInFlight(maxInFlight);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages. Multicast will
      * by default not share unit of work between the parent exchange and each multicasted exchange. This means each sub
@@ -472,6 +502,14 @@ public class MulticastDefinition extends OutputDefinition<MulticastDefinition>
         this.timeout = timeout;
     }
 
+    public String getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(String maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
     public String getOnPrepareRef() {
         return onPrepareRef;
     }
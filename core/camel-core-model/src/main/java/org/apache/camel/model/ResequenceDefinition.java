@@ -220,6 +220,36 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
 
     }
 
+    /**
+     * Sets an expression to partition the stream into groups (such as by account id) which are resequenced
+     * independently of each other. The capacity and timeout apply per group.
+     *
+     * @param  groupExpression the group expression
+     * @return                 the builder
+     */
+    public ResequenceDefinition groupExpression(Expression groupExpression) {
+        if (streamConfig == null) {
+            throw new IllegalStateException("groupExpression() only supported for stream resequencer");
+        }
+        streamConfig.setGroupExpression(new ExpressionSubElementDefinition(groupExpression));
+        return this;
+    }
+
+    /**
+     * Sets the number of threads delivering the groups in parallel, when using a group expression for the stream
+     * resequencer
+     *
+     * @param  deliveryThreads the number of delivery threads
+     * @return                 the builder
+     */
+    public ResequenceDefinition deliveryThreads(int deliveryThreads) {
+        if (streamConfig == null) {
+            throw new IllegalStateException("deliveryThreads() only supported for stream resequencer");
+        }
+        streamConfig.setDeliveryThreads(Integer.toString(deliveryThreads));
+        return this;
+    }
+
     /**
      * Enables duplicates for the batch resequencer mode
      * 
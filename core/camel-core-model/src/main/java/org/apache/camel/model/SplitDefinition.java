@@ -79,6 +79,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String stopOnAggregateException;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String maxInFlight;
 
     public SplitDefinition() {
     }
@@ -487,6 +490,33 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of sub messages which are in-flight (sent but not yet aggregated), when using parallel
+     * processing. When the limit is reached, then the Splitter pauses sending new messages until in-flight messages
+     * have completed and been aggregated. This keeps the memory usage bounded regardless of the number of sub messages.
+     * By default there is no limit.
+     *
+     * @param  maxInFlight the maximum number of in-flight messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInFlight(int maxInFlight) {
+        return maxInFlight(Integer.toString(maxInFlight));
+    }
+
+    /**
+     * Sets the maximum number of sub messages which are in-flight (sent but not yet aggregated), when using parallel
+     * processing. When the limit is reached, then the Splitter pauses sending new messages until in-flight messages
+     * have completed and been aggregated. This keeps the memory usage bounded regardless of the number of sub messages.
+     * By default there is no limit.
+     *
+     * @param  maxInFlight the maximum number of in-flight messages
+     * @return             the builder
+     */
+    public SplitDefinition maxInFlight(String maxInFlight) {
+        setMaxInFlight(maxInFlight);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages. Splitter will by
      * default not share unit of work between the parent exchange and each splitted exchange. This means each splitted
@@ -659,6 +689,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.timeout = timeout;
     }
 
+    public String getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(String maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
     public String getOnPrepareRef() {
         return onPrepareRef;
     }
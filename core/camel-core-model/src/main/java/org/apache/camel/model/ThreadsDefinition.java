@@ -61,6 +61,9 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String allowCoreThreadTimeOut;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String virtualThreads;
+    @XmlAttribute
     @Metadata(defaultValue = "Threads")
     private String threadName;
     @XmlAttribute
@@ -303,6 +306,33 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         return this;
     }
 
+    /**
+     * Whether to use virtual threads, where a new virtual thread is started for each task (requires a JVM which
+     * supports virtual threads). The pool size, keep alive and queue options are not used when using virtual threads.
+     * <p/>
+     * If virtual threads are not supported by the JVM, then a regular thread pool is used instead.
+     *
+     * @param  virtualThreads <tt>true</tt> to use virtual threads
+     * @return                the builder
+     */
+    public ThreadsDefinition virtualThreads(boolean virtualThreads) {
+        return virtualThreads(Boolean.toString(virtualThreads));
+    }
+
+    /**
+     * Whether to use virtual threads, where a new virtual thread is started for each task (requires a JVM which
+     * supports virtual threads). The pool size, keep alive and queue options are not used when using virtual threads.
+     * <p/>
+     * If virtual threads are not supported by the JVM, then a regular thread pool is used instead.
+     *
+     * @param  virtualThreads <tt>true</tt> to use virtual threads
+     * @return                the builder
+     */
+    public ThreadsDefinition virtualThreads(String virtualThreads) {
+        setVirtualThreads(virtualThreads);
+        return this;
+    }
+
     @Override
     public ExecutorService getExecutorService() {
         return executorService;
@@ -363,6 +393,14 @@ public class ThreadsDefinition extends NoOutputDefinition<ThreadsDefinition>
         this.maxQueueSize = maxQueueSize;
     }
 
+    public String getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public String getThreadName() {
         return threadName;
     }
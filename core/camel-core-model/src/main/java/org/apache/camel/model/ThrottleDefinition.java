@@ -30,6 +30,7 @@ import org.apache.camel.Expression;
 import org.apache.camel.builder.ExpressionBuilder;
 import org.apache.camel.model.language.ExpressionDefinition;
 import org.apache.camel.spi.Metadata;
+import org.apache.camel.spi.ThrottlerStateRepository;
 
 /**
  * Controls the rate at which messages are passed to the next node in the route
@@ -58,6 +59,13 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    private String stateRepositoryRef;
+    @XmlTransient
+    private ThrottlerStateRepository stateRepository;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String leaseSize;
 
     public ThrottleDefinition() {
     }
@@ -224,6 +232,54 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Sets a reference to a ThrottlerStateRepository to lookup in the registry, which is used for sharing the throttle
+     * rate among multiple nodes (such as in a cluster). Each node leases permits from the repository within fixed
+     * windows of the time period.
+     *
+     * @param  stateRepositoryRef reference to the state repository
+     * @return                    the builder
+     */
+    public ThrottleDefinition stateRepositoryRef(String stateRepositoryRef) {
+        setStateRepositoryRef(stateRepositoryRef);
+        return this;
+    }
+
+    /**
+     * Sets a ThrottlerStateRepository, which is used for sharing the throttle rate among multiple nodes (such as in a
+     * cluster). Each node leases permits from the repository within fixed windows of the time period.
+     *
+     * @param  stateRepository the state repository
+     * @return                 the builder
+     */
+    public ThrottleDefinition stateRepository(ThrottlerStateRepository stateRepository) {
+        setStateRepository(stateRepository);
+        return this;
+    }
+
+    /**
+     * Sets the number of permits to lease from the state repository at once, to avoid a round-trip to the repository
+     * per message. By default 10% of the maximum requests per period (at least 1).
+     *
+     * @param  leaseSize the number of permits to lease at once
+     * @return           the builder
+     */
+    public ThrottleDefinition leaseSize(int leaseSize) {
+        return leaseSize(Integer.toString(leaseSize));
+    }
+
+    /**
+     * Sets the number of permits to lease from the state repository at once, to avoid a round-trip to the repository
+     * per message. By default 10% of the maximum requests per period (at least 1).
+     *
+     * @param  leaseSize the number of permits to lease at once
+     * @return           the builder
+     */
+    public ThrottleDefinition leaseSize(String leaseSize) {
+        setLeaseSize(leaseSize);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -312,6 +368,30 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getStateRepositoryRef() {
+        return stateRepositoryRef;
+    }
+
+    public void setStateRepositoryRef(String stateRepositoryRef) {
+        this.stateRepositoryRef = stateRepositoryRef;
+    }
+
+    public ThrottlerStateRepository getStateRepository() {
+        return stateRepository;
+    }
+
+    public void setStateRepository(ThrottlerStateRepository stateRepository) {
+        this.stateRepository = stateRepository;
+    }
+
+    public String getLeaseSize() {
+        return leaseSize;
+    }
+
+    public void setLeaseSize(String leaseSize) {
+        this.leaseSize = leaseSize;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle grouping. The Exchange which has the
      * same correlation key is throttled together.
@@ -19,9 +19,11 @@ package org.apache.camel.model.config;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 
+import org.apache.camel.model.ExpressionSubElementDefinition;
 import org.apache.camel.processor.resequencer.ExpressionResultComparator;
 import org.apache.camel.spi.Metadata;
 
@@ -51,6 +53,11 @@ public class StreamResequencerConfig extends ResequencerConfig {
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String rejectOld;
+    @XmlElement(name = "groupExpression")
+    private ExpressionSubElementDefinition groupExpression;
+    @XmlAttribute
+    @Metadata(defaultValue = "1", javaType = "java.lang.Integer")
+    private String deliveryThreads;
 
     /**
      * Creates a new {@link StreamResequencerConfig} instance using default values for <code>capacity</code> (1000) and
@@ -201,4 +208,28 @@ public class StreamResequencerConfig extends ResequencerConfig {
         return rejectOld;
     }
 
+    public ExpressionSubElementDefinition getGroupExpression() {
+        return groupExpression;
+    }
+
+    /**
+     * Expression to partition the stream into groups (such as by account id) which are resequenced independently of
+     * each other. The capacity and timeout apply per group.
+     */
+    public void setGroupExpression(ExpressionSubElementDefinition groupExpression) {
+        this.groupExpression = groupExpression;
+    }
+
+    public String getDeliveryThreads() {
+        return deliveryThreads;
+    }
+
+    /**
+     * Number of threads delivering the groups in parallel, when using a group expression. Exchanges of the same group
+     * are always delivered by the same thread.
+     */
+    public void setDeliveryThreads(String deliveryThreads) {
+        this.deliveryThreads = deliveryThreads;
+    }
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model.loadbalancer;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.apache.camel.model.LoadBalancerDefinition;
+import org.apache.camel.spi.Metadata;
+
+/**
+ * Adaptive load balancer The adaptive load balancer routes each exchange to the processor that is currently the
+ * fastest, based on the observed processing time and number of in-flight exchanges of two randomly picked processors
+ * (power of two choices). Processors with a high error rate are excluded for a cool down period.
+ */
+@Metadata(label = "eip,routing,loadbalance")
+@XmlRootElement(name = "adaptive")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class AdaptiveLoadBalancerDefinition extends LoadBalancerDefinition {
+    @XmlAttribute
+    @Metadata(defaultValue = "50", javaType = "java.lang.Integer")
+    private String errorThreshold;
+    @XmlAttribute
+    @Metadata(defaultValue = "10s", javaType = "java.time.Duration")
+    private String coolDownPeriod;
+
+    public AdaptiveLoadBalancerDefinition() {
+    }
+
+    public String getErrorThreshold() {
+        return errorThreshold;
+    }
+
+    /**
+     * The error rate in percent (1-100) at which a processor is excluded from the load balancer for the cool down
+     * period. The error rate is a moving average of the failed exchanges, so a processor is excluded after a few
+     * consecutive failures.
+     */
+    public void setErrorThreshold(String errorThreshold) {
+        this.errorThreshold = errorThreshold;
+    }
+
+    public String getCoolDownPeriod() {
+        return coolDownPeriod;
+    }
+
+    /**
+     * The time a processor with an error rate above the threshold is excluded from the load balancer, before it is
+     * tried again.
+     */
+    public void setCoolDownPeriod(String coolDownPeriod) {
+        this.coolDownPeriod = coolDownPeriod;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveLoadBalancer";
+    }
+}
@@ -18,10 +18,12 @@ package org.apache.camel.processor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
@@ -38,6 +40,10 @@ import static org.apache.camel.processor.PipelineHelper.continueProcessing;
 /**
  * Implements a Choice structure where one or more predicates are used which if they are true their processors are used,
  * with a default otherwise clause used if none match.
+ * <p/>
+ * When all the predicates compare the same expression for equality with a different literal (such as
+ * <tt>${header.type} == 'gold'</tt>) then the branch can be looked up from the result of the expression, which is only
+ * evaluated once instead of evaluating each predicate in turn.
  */
 public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<Processor>, Traceable, IdAware, RouteIdAware {
 
@@ -47,6 +53,8 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
     private String routeId;
     private final List<FilterProcessor> filters;
     private final AsyncProcessor otherwise;
+    private Expression lookupExpression;
+    private Map<String, FilterProcessor> lookupFilters;
     private transient long notFiltered;
 
     public ChoiceProcessor(List<FilterProcessor> filters, Processor otherwise) {
@@ -70,6 +78,37 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
             }
         };
 
+        if (lookupExpression != null) {
+            boolean lookup = false;
+            FilterProcessor filter = null;
+            try {
+                Object value = lookupExpression.evaluate(exchange, Object.class);
+                // other types may be coerced when compared so they must use the predicates
+                if (value == null || value instanceof String) {
+                    lookup = true;
+                    filter = lookupFilters.get(value);
+                }
+            } catch (Throwable e) {
+                exchange.setException(e);
+            }
+
+            // check for error if so we should break out
+            if (!continueProcessing(exchange, "so breaking out of choice", LOG)) {
+                choiceCallback.done(true);
+                return true;
+            }
+
+            if (lookup) {
+                if (filter != null) {
+                    filter.matched(exchange);
+                    return filter.getProcessor().process(exchange, choiceCallback);
+                }
+                // no branch matched, as the predicates would have marked the exchange
+                exchange.setProperty(Exchange.FILTER_MATCHED, false);
+                return processOtherwise(exchange, choiceCallback);
+            }
+        }
+
         // find the first matching filter and process the exchange using it
         for (FilterProcessor filter : filters) {
             // evaluate the predicate on filter predicate early to be faster
@@ -98,13 +137,17 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
             return filter.getProcessor().process(exchange, choiceCallback);
         }
 
+        return processOtherwise(exchange, choiceCallback);
+    }
+
+    private boolean processOtherwise(Exchange exchange, AsyncCallback callback) {
         if (otherwise != null) {
             // no filter matched then use otherwise
             notFiltered++;
-            return otherwise.process(exchange, choiceCallback);
+            return otherwise.process(exchange, callback);
         } else {
             // when no filter matches and there is no otherwise, then just continue
-            choiceCallback.done(true);
+            callback.done(true);
             return true;
         }
     }
@@ -127,6 +170,27 @@ public class ChoiceProcessor extends AsyncProcessorSupport implements Navigate<P
         return otherwise;
     }
 
+    public Expression getLookupExpression() {
+        return lookupExpression;
+    }
+
+    public Map<String, FilterProcessor> getLookupFilters() {
+        return lookupFilters;
+    }
+
+    /**
+     * To lookup the matching filter from the result of the given expression, instead of evaluating the predicates of
+     * the filters in turn. The predicates must all be equality tests of the expression with the keys of the lookup.
+     * Results which are not a String (or null) are matched using the predicates.
+     *
+     * @param lookupExpression the expression the predicates test for equality
+     * @param lookupFilters    the filter to use per literal value
+     */
+    public void setLookup(Expression lookupExpression, Map<String, FilterProcessor> lookupFilters) {
+        this.lookupExpression = lookupExpression;
+        this.lookupFilters = lookupFilters;
+    }
+
     /**
      * Gets the number of Exchanges that did not match any predicate and are routed using otherwise
      */
@@ -88,6 +88,17 @@ public class FilterProcessor extends DelegateAsyncProcessor implements Traceable
         return matches;
     }
 
+    /**
+     * Marks the exchange as matched by this filter, when the predicate has already been decided by the caller, such as
+     * the choice EIP using a lookup of its branches.
+     */
+    public void matched(Exchange exchange) {
+        LOG.debug("Filter matches: true for exchange: {}", exchange);
+
+        exchange.setProperty(Exchange.FILTER_MATCHED, true);
+        filtered++;
+    }
+
     @Override
     public String toString() {
         return id;
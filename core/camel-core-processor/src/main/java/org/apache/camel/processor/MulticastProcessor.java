@@ -42,6 +42,7 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Navigate;
@@ -167,6 +168,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private ExecutorService aggregateExecutorService;
     private boolean shutdownAggregateExecutorService;
     private final long timeout;
+    private int maxInFlight;
     private final ConcurrentMap<ErrorHandlerKey, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
 
@@ -328,6 +330,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean paused = new AtomicBoolean();
 
         MulticastTask(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback) {
             this.original = original;
@@ -365,6 +368,35 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 } finally {
                     lock.unlock();
                 }
+                // resume sending as the aggregated exchanges have left the in-flight window
+                resume();
+            }
+        }
+
+        /**
+         * Whether the number of exchanges sent but not yet aggregated has reached the max in-flight window.
+         */
+        protected boolean isWindowFull() {
+            return maxInFlight > 0 && nbExchangeSent.get() - nbAggregated.get() >= maxInFlight;
+        }
+
+        /**
+         * Schedules sending the next exchange, unless the max in-flight window is full, in which case sending is paused
+         * until exchanges have been aggregated.
+         */
+        protected void scheduleNext() {
+            if (!isWindowFull()) {
+                schedule(this);
+            } else {
+                paused.set(true);
+                // aggregation may have happened concurrently, so check again to not miss the resume
+                resume();
+            }
+        }
+
+        protected void resume() {
+            if (paused.get() && !isWindowFull() && paused.compareAndSet(true, false)) {
+                schedule(this);
             }
         }
 
@@ -443,7 +475,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 // Schedule the processing of the next pair
                 if (hasNext) {
                     if (isParallelProcessing()) {
-                        schedule(this);
+                        scheduleNext();
                     }
                 } else {
                     allSent.set(true);
@@ -764,16 +796,17 @@ public class MulticastProcessor extends AsyncProcessorSupport
     }
 
     protected void updateNewExchange(Exchange exchange, int index, Iterable<ProcessorExchangePair> allPairs, boolean hasNext) {
-        exchange.setProperty(Exchange.MULTICAST_INDEX, index);
+        ExtendedExchange ee = exchange.adapt(ExtendedExchange.class);
+        ee.setProperty(ExchangePropertyKey.MULTICAST_INDEX, index);
         if (hasNext) {
-            exchange.setProperty(Exchange.MULTICAST_COMPLETE, Boolean.FALSE);
+            ee.setProperty(ExchangePropertyKey.MULTICAST_COMPLETE, Boolean.FALSE);
         } else {
-            exchange.setProperty(Exchange.MULTICAST_COMPLETE, Boolean.TRUE);
+            ee.setProperty(ExchangePropertyKey.MULTICAST_COMPLETE, Boolean.TRUE);
         }
     }
 
     protected Integer getExchangeIndex(Exchange exchange) {
-        return exchange.getProperty(Exchange.MULTICAST_INDEX, Integer.class);
+        return exchange.adapt(ExtendedExchange.class).getProperty(ExchangePropertyKey.MULTICAST_INDEX, Integer.class);
     }
 
     protected Iterable<ProcessorExchangePair> createProcessorExchangePairs(Exchange exchange) throws Exception {
@@ -807,8 +840,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
             // work of the parent route or grand parent route or grand grand parent route ...(in case of nesting).
             // Set therefore the unit of work of the  parent route as stream cache unit of work,
             // if it is not already set.
-            if (copy.getProperty(Exchange.STREAM_CACHE_UNIT_OF_WORK) == null) {
-                copy.setProperty(Exchange.STREAM_CACHE_UNIT_OF_WORK, exchange.getUnitOfWork());
+            ExtendedExchange ee = copy.adapt(ExtendedExchange.class);
+            if (ee.getProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK) == null) {
+                ee.setProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK, exchange.getUnitOfWork());
             }
             // if we share unit of work, we need to prepare the child exchange
             if (isShareUnitOfWork()) {
@@ -869,7 +903,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
         if (route != this.route && this.route != null) {
             throw new UnsupportedOperationException("Is this really correct ?");
         }
-        boolean tryBlock = exchange.getProperty(Exchange.TRY_ROUTE_BLOCK, false, boolean.class);
+        boolean tryBlock
+                = exchange.adapt(ExtendedExchange.class).getProperty(ExchangePropertyKey.TRY_ROUTE_BLOCK, false, boolean.class);
 
         // do not wrap in error handler if we are inside a try block
         if (!tryBlock && route != null) {
@@ -895,7 +930,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 // and wrap in unit of work processor so the copy exchange also can run under UoW
                 answer = createUnitOfWorkProcessor(route, processor, exchange);
 
-                boolean child = exchange.getProperty(Exchange.PARENT_UNIT_OF_WORK, UnitOfWork.class) != null;
+                boolean child = exchange.adapt(ExtendedExchange.class).getProperty(ExchangePropertyKey.PARENT_UNIT_OF_WORK,
+                        UnitOfWork.class) != null;
 
                 // must start the error handler
                 ServiceHelper.startService(answer);
@@ -935,7 +971,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
      */
     protected Processor createUnitOfWorkProcessor(Route route, Processor processor, Exchange exchange) {
         // and wrap it in a unit of work so the UoW is on the top, so the entire route will be in the same UoW
-        UnitOfWork parent = exchange.getProperty(Exchange.PARENT_UNIT_OF_WORK, UnitOfWork.class);
+        UnitOfWork parent
+                = exchange.adapt(ExtendedExchange.class).getProperty(ExchangePropertyKey.PARENT_UNIT_OF_WORK, UnitOfWork.class);
         if (parent != null) {
             return internalProcessorFactory.addChildUnitOfWorkProcessorAdvice(camelContext, processor, route, parent);
         } else {
@@ -953,7 +990,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
      * @param parentExchange the parent exchange
      */
     protected void prepareSharedUnitOfWork(Exchange childExchange, Exchange parentExchange) {
-        childExchange.setProperty(Exchange.PARENT_UNIT_OF_WORK, parentExchange.getUnitOfWork());
+        childExchange.adapt(ExtendedExchange.class).setProperty(ExchangePropertyKey.PARENT_UNIT_OF_WORK,
+                parentExchange.getUnitOfWork());
     }
 
     @Override
@@ -1010,7 +1048,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
     protected static void setToEndpoint(Exchange exchange, Processor processor) {
         if (processor instanceof Producer) {
             Producer producer = (Producer) processor;
-            exchange.setProperty(Exchange.TO_ENDPOINT, producer.getEndpoint().getEndpointUri());
+            exchange.adapt(ExtendedExchange.class).setProperty(ExchangePropertyKey.TO_ENDPOINT,
+                    producer.getEndpoint().getEndpointUri());
         }
     }
 
@@ -1019,7 +1058,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
 
         // prefer to use per Exchange aggregation strategy over a global strategy
         if (exchange != null) {
-            Map<?, ?> property = exchange.getProperty(Exchange.AGGREGATION_STRATEGY, Map.class);
+            Map<?, ?> property
+                    = exchange.adapt(ExtendedExchange.class).getProperty(ExchangePropertyKey.AGGREGATION_STRATEGY, Map.class);
             Map<Object, AggregationStrategy> map = CastUtils.cast(property);
             if (map != null) {
                 answer = map.get(this);
@@ -1039,7 +1079,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
      * @param aggregationStrategy the strategy
      */
     protected void setAggregationStrategyOnExchange(Exchange exchange, AggregationStrategy aggregationStrategy) {
-        Map<?, ?> property = exchange.getProperty(Exchange.AGGREGATION_STRATEGY, Map.class);
+        Map<?, ?> property
+                = exchange.adapt(ExtendedExchange.class).getProperty(ExchangePropertyKey.AGGREGATION_STRATEGY, Map.class);
         Map<Object, AggregationStrategy> map = CastUtils.cast(property);
         if (map == null) {
             map = new ConcurrentHashMap<>();
@@ -1051,7 +1092,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         // store the strategy using this processor as the key
         // (so we can store multiple strategies on the same exchange)
         map.put(this, aggregationStrategy);
-        exchange.setProperty(Exchange.AGGREGATION_STRATEGY, map);
+        exchange.adapt(ExtendedExchange.class).setProperty(ExchangePropertyKey.AGGREGATION_STRATEGY, map);
     }
 
     /**
@@ -1060,7 +1101,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
      * @param exchange the current exchange
      */
     protected void removeAggregationStrategyFromExchange(Exchange exchange) {
-        Map<?, ?> property = exchange.getProperty(Exchange.AGGREGATION_STRATEGY, Map.class);
+        Map<?, ?> property
+                = exchange.adapt(ExtendedExchange.class).getProperty(ExchangePropertyKey.AGGREGATION_STRATEGY, Map.class);
         Map<Object, AggregationStrategy> map = CastUtils.cast(property);
         if (map == null) {
             return;
@@ -1104,6 +1146,20 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return timeout;
     }
 
+    /**
+     * The maximum number of sub exchanges which are in-flight (sent but not yet aggregated) when using parallel
+     * processing. When the limit is reached, then sending is paused until in-flight exchanges have completed and been
+     * aggregated, which keeps the memory usage bounded regardless of the number of sub exchanges. Zero or negative
+     * means no limit.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
     /**
      * Use {@link #getAggregationStrategy(org.apache.camel.Exchange)} instead.
      */
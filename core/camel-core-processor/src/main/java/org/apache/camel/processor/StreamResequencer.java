@@ -17,7 +17,15 @@
 package org.apache.camel.processor;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -41,6 +49,7 @@ import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.ThreadHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +66,15 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Instances of this class poll for {@link Exchange}s from a given <code>endpoint</code>. Resequencing work and the
  * delivery of messages to the next <code>processor</code> is done within the single polling thread.
+ * <p>
+ * If a <code>groupExpression</code> is configured the stream is partitioned into groups (for example by account id)
+ * which are resequenced independently of each other. Each group has its own {@link ResequencerEngine}, and the
+ * <code>capacity</code> and <code>timeout</code> apply per group. The groups are spread over a number of delivery
+ * threads (see {@link #setDeliveryThreads(int)}), where a group is always delivered by the same thread, so exchanges
+ * within a group keep their order while different groups are delivered in parallel. A group which has no exchanges held
+ * back and has not received any exchange for the group idle timeout (see {@link #setGroupIdleTimeout(long)}) is
+ * evicted, and a new group is created if the key shows up again. An evicted group no longer remembers its last
+ * delivered exchange, so the idle timeout should be well above the time gaps expected within a group.
  *
  * @see ResequencerEngine
  */
@@ -69,13 +87,19 @@ public class StreamResequencer extends AsyncProcessorSupport
     private String routeId;
     private final CamelContext camelContext;
     private final ExceptionHandler exceptionHandler;
+    private final SequenceElementComparator<Exchange> comparator;
     private final ResequencerEngine<Exchange> engine;
+    private final ConcurrentMap<Object, Group> groups = new ConcurrentHashMap<>();
     private final Processor processor;
     private final Expression expression;
-    private Delivery delivery;
+    private Expression groupExpression;
+    private int deliveryThreads = 1;
+    private Delivery[] deliveries;
+    private Timer timer;
     private int capacity;
     private boolean ignoreInvalidExchanges;
     private long deliveryAttemptInterval = 1000L;
+    private long groupIdleTimeout = 60000L;
 
     /**
      * Creates a new {@link StreamResequencer} instance.
@@ -87,6 +111,7 @@ public class StreamResequencer extends AsyncProcessorSupport
                              Expression expression) {
         ObjectHelper.notNull(camelContext, "CamelContext");
         this.camelContext = camelContext;
+        this.comparator = comparator;
         this.engine = new ResequencerEngine<>(comparator);
         this.engine.setSequenceSender(this);
         this.processor = processor;
@@ -98,6 +123,29 @@ public class StreamResequencer extends AsyncProcessorSupport
         return expression;
     }
 
+    public Expression getGroupExpression() {
+        return groupExpression;
+    }
+
+    /**
+     * Sets an expression for partitioning the stream into groups which are resequenced independently of each other.
+     */
+    public void setGroupExpression(Expression groupExpression) {
+        this.groupExpression = groupExpression;
+    }
+
+    public int getDeliveryThreads() {
+        return deliveryThreads;
+    }
+
+    /**
+     * Sets the number of threads used for delivering the groups in parallel. This is only in use when a group
+     * expression has been configured.
+     */
+    public void setDeliveryThreads(int deliveryThreads) {
+        this.deliveryThreads = deliveryThreads;
+    }
+
     /**
      * Returns this resequencer's exception handler.
      */
@@ -142,24 +190,74 @@ public class StreamResequencer extends AsyncProcessorSupport
 
     public void setTimeout(long timeout) {
         engine.setTimeout(timeout);
+        for (Group group : groups.values()) {
+            group.engine.setTimeout(timeout);
+        }
     }
 
     public void setDeliveryAttemptInterval(long deliveryAttemptInterval) {
         this.deliveryAttemptInterval = deliveryAttemptInterval;
     }
 
+    public long getGroupIdleTimeout() {
+        return groupIdleTimeout;
+    }
+
+    /**
+     * Sets the time in millis a group must not have received any exchange before it is evicted, provided it has no
+     * exchanges held back. Default is 60000 millis.
+     */
+    public void setGroupIdleTimeout(long groupIdleTimeout) {
+        this.groupIdleTimeout = groupIdleTimeout;
+    }
+
     public boolean isIgnoreInvalidExchanges() {
         return ignoreInvalidExchanges;
     }
 
     public void setRejectOld(Boolean rejectOld) {
         engine.setRejectOld(rejectOld);
+        for (Group group : groups.values()) {
+            group.engine.setRejectOld(rejectOld);
+        }
     }
 
     public boolean isRejectOld() {
         return engine.getRejectOld() != null && engine.getRejectOld();
     }
 
+    /**
+     * Returns the number of exchanges currently held back by this resequencer (for all groups).
+     */
+    public int getBacklogSize() {
+        if (groupExpression == null) {
+            return engine.size();
+        }
+        int answer = 0;
+        for (Group group : groups.values()) {
+            answer += group.engine.size();
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the number of groups currently known by this resequencer.
+     */
+    public int getGroupSize() {
+        return groups.size();
+    }
+
+    /**
+     * Returns the number of exchanges currently held back by this resequencer per group.
+     */
+    public Map<Object, Integer> getGroupBacklogSizes() {
+        Map<Object, Integer> answer = new LinkedHashMap<>();
+        for (Map.Entry<Object, Group> entry : groups.entrySet()) {
+            answer.put(entry.getKey(), entry.getValue().engine.size());
+        }
+        return answer;
+    }
+
     /**
      * Sets whether to ignore invalid exchanges which cannot be used by this stream resequencer.
      * <p/>
@@ -203,16 +301,38 @@ public class StreamResequencer extends AsyncProcessorSupport
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(processor);
-        delivery = new Delivery();
-        engine.start();
-        delivery.start();
+        // a single timer is shared by all the groups
+        timer = new Timer(
+                ThreadHelper.resolveThreadName("Camel Thread ${counter} - ${name}", "Stream Resequencer Timer"), true);
+        engine.start(timer);
+        for (Group group : groups.values()) {
+            group.engine.start(timer);
+        }
+        int threads = groupExpression != null ? Math.max(1, deliveryThreads) : 1;
+        deliveries = new Delivery[threads];
+        for (int i = 0; i < threads; i++) {
+            deliveries[i] = new Delivery();
+        }
+        if (groupExpression == null) {
+            deliveries[0].add(new Group(null, engine));
+        } else {
+            for (Group group : groups.values()) {
+                deliveryFor(group.key).add(group);
+            }
+        }
+        for (Delivery delivery : deliveries) {
+            delivery.start();
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
         // let's stop everything in the reverse order
-        // no need to stop the worker thread -- it will stop automatically when this service is stopped
-        engine.stop();
+        // no need to stop the worker threads -- they will stop automatically when this service is stopped
+        if (timer != null) {
+            timer.cancel();
+            timer = null;
+        }
         ServiceHelper.stopService(processor);
     }
 
@@ -228,7 +348,30 @@ public class StreamResequencer extends AsyncProcessorSupport
 
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
-        while (engine.size() >= capacity) {
+        ResequencerEngine<Exchange> target = engine;
+        Delivery delivery = deliveries[0];
+        Object key = null;
+        Group group = null;
+        if (groupExpression != null) {
+            key = groupExpression.evaluate(exchange, Object.class);
+            if (key == null) {
+                if (isIgnoreInvalidExchanges()) {
+                    LOG.debug("Invalid Exchange (no group). This Exchange will be ignored: {}", exchange);
+                } else {
+                    exchange.setException(new CamelExchangeException(
+                            "Error processing Exchange in StreamResequencer as group expression evaluated to null",
+                            exchange));
+                }
+                callback.done(true);
+                return true;
+            }
+            group = groups.computeIfAbsent(key, this::createGroup);
+            target = group.engine;
+            delivery = deliveryFor(key);
+        }
+
+        // the capacity applies per group
+        while (target.size() >= capacity) {
             try {
                 Thread.sleep(getTimeout());
             } catch (InterruptedException e) {
@@ -240,8 +383,16 @@ public class StreamResequencer extends AsyncProcessorSupport
         }
 
         try {
-            engine.insert(exchange);
-            delivery.request();
+            if (group == null) {
+                target.insert(exchange);
+            } else {
+                while (!group.insert(exchange)) {
+                    // the group has been evicted in the meantime so use a new group
+                    group = groups.computeIfAbsent(key, this::createGroup);
+                }
+                target = group.engine;
+            }
+            delivery.request(target);
         } catch (Exception e) {
             if (isIgnoreInvalidExchanges()) {
                 LOG.debug("Invalid Exchange. This Exchange will be ignored: {}", exchange);
@@ -255,6 +406,35 @@ public class StreamResequencer extends AsyncProcessorSupport
         return true;
     }
 
+    private Group createGroup(Object key) {
+        ResequencerEngine<Exchange> target = new ResequencerEngine<>(comparator);
+        target.setSequenceSender(this);
+        target.setTimeout(engine.getTimeout());
+        target.setRejectOld(engine.getRejectOld());
+        target.start(timer);
+        Group group = new Group(key, target);
+        deliveryFor(key).add(group);
+        return group;
+    }
+
+    /**
+     * Evicts the group if it has no exchanges held back and has been idle for the group idle timeout.
+     *
+     * @return <tt>true</tt> if the group was evicted
+     */
+    private boolean evictIfIdle(Group group, long now) {
+        if (!group.evictIfIdle(now, TimeUnit.MILLISECONDS.toNanos(groupIdleTimeout))) {
+            return false;
+        }
+        groups.remove(group.key, group);
+        LOG.debug("Evicted idle group: {}", group.key);
+        return true;
+    }
+
+    private Delivery deliveryFor(Object key) {
+        return deliveries[(key.hashCode() & Integer.MAX_VALUE) % deliveries.length];
+    }
+
     @Override
     public boolean hasNext() {
         return processor != null;
@@ -274,6 +454,10 @@ public class StreamResequencer extends AsyncProcessorSupport
 
         private Lock deliveryRequestLock = new ReentrantLock();
         private Condition deliveryRequestCondition = deliveryRequestLock.newCondition();
+        // the groups delivered by this thread
+        private final Set<Group> deliveredGroups = ConcurrentHashMap.newKeySet();
+        // the engines which have new exchanges to be delivered
+        private final Queue<ResequencerEngine<Exchange>> requests = new ConcurrentLinkedQueue<>();
 
         Delivery() {
             super(camelContext.getExecutorServiceManager().resolveThreadName("Resequencer Delivery"));
@@ -281,31 +465,60 @@ public class StreamResequencer extends AsyncProcessorSupport
 
         @Override
         public void run() {
+            long lastSweep = System.nanoTime();
             while (isRunAllowed()) {
+                boolean requested;
                 try {
                     deliveryRequestLock.lock();
                     try {
-                        deliveryRequestCondition.await(deliveryAttemptInterval, TimeUnit.MILLISECONDS);
+                        requested = !requests.isEmpty()
+                                || deliveryRequestCondition.await(deliveryAttemptInterval, TimeUnit.MILLISECONDS);
                     } finally {
                         deliveryRequestLock.unlock();
                     }
                 } catch (InterruptedException e) {
                     break;
                 }
-                try {
-                    engine.deliver();
-                } catch (Throwable t) {
-                    // a fail safe to handle all exceptions being thrown
-                    getExceptionHandler().handleException(t);
+                if (requested) {
+                    // deliver the groups which have received new exchanges
+                    ResequencerEngine<Exchange> target;
+                    while ((target = requests.poll()) != null) {
+                        deliver(target);
+                    }
                 }
+                long now = System.nanoTime();
+                if (!requested || TimeUnit.NANOSECONDS.toMillis(now - lastSweep) >= deliveryAttemptInterval) {
+                    // deliver all groups as exchanges may have timed out
+                    for (Group group : deliveredGroups) {
+                        deliver(group.engine);
+                        if (group.key != null && evictIfIdle(group, now)) {
+                            deliveredGroups.remove(group);
+                        }
+                    }
+                    lastSweep = now;
+                }
+            }
+        }
+
+        private void deliver(ResequencerEngine<Exchange> target) {
+            try {
+                target.deliver();
+            } catch (Throwable t) {
+                // a fail safe to handle all exceptions being thrown
+                getExceptionHandler().handleException(t);
             }
         }
 
+        void add(Group group) {
+            deliveredGroups.add(group);
+        }
+
         public void cancel() {
             interrupt();
         }
 
-        public void request() {
+        public void request(ResequencerEngine<Exchange> target) {
+            requests.add(target);
             deliveryRequestLock.lock();
             try {
                 deliveryRequestCondition.signal();
@@ -316,4 +529,41 @@ public class StreamResequencer extends AsyncProcessorSupport
 
     }
 
+    /**
+     * A group of the stream, which is resequenced by its own engine.
+     */
+    static final class Group {
+
+        private final Object key;
+        private final ResequencerEngine<Exchange> engine;
+        private long lastInsert = System.nanoTime();
+        private boolean evicted;
+
+        Group(Object key, ResequencerEngine<Exchange> engine) {
+            this.key = key;
+            this.engine = engine;
+        }
+
+        /**
+         * Inserts the exchange unless this group has been evicted.
+         *
+         * @return <tt>false</tt> if this group has been evicted and the exchange was not inserted
+         */
+        synchronized boolean insert(Exchange exchange) {
+            if (evicted) {
+                return false;
+            }
+            lastInsert = System.nanoTime();
+            engine.insert(exchange);
+            return true;
+        }
+
+        synchronized boolean evictIfIdle(long now, long idleTimeout) {
+            if (!evicted && engine.size() == 0 && now - lastInsert >= idleTimeout) {
+                evicted = true;
+            }
+            return evicted;
+        }
+    }
+
 }
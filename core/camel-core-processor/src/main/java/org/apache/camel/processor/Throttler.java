@@ -24,6 +24,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.AsyncCallback;
@@ -34,6 +35,7 @@ import org.apache.camel.RuntimeExchangeException;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.spi.ThrottlerStateRepository;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -55,6 +57,13 @@ import org.slf4j.LoggerFactory;
  * those permits). Callers trying to acquire a permit from the DelayQueue will block if necessary. The end result is a
  * rolling window of time. Where from the callers point of view in the last timePeriodMillis no more than
  * maxRequestsPerPeriod have been allowed to be acquired.
+ *
+ * When a {@link ThrottlerStateRepository} is configured, then the throttle rate is shared among all the nodes using the
+ * same repository (such as in a cluster). The time is then divided into fixed windows of timePeriodMillis, and the
+ * permits for the current window are leased from the repository in batches (see {@link #setLeaseSize(int)}) to avoid a
+ * round-trip to the repository per message. Leased permits which are not used within a tenth of the time period are
+ * released back to the repository, so they can be used by the other nodes. The lifecycle of the repository is managed
+ * by the {@link CamelContext}, as the repository may be shared by multiple throttlers.
  */
 public class Throttler extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
 
@@ -84,6 +93,8 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private boolean asyncDelayed;
     private boolean callerRunsWhenRejected = true;
     private Expression correlationExpression;
+    private ThrottlerStateRepository stateRepository;
+    private int leaseSize;
     private Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
 
     public Throttler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
@@ -126,7 +137,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             if (correlationExpression != null) {
                 key = correlationExpression.evaluate(exchange, String.class);
             }
-            ThrottlingState throttlingState = states.computeIfAbsent(key, ThrottlingState::new);
+            ThrottlingState throttlingState = states.computeIfAbsent(key, this::createThrottlingState);
             throttlingState.calculateAndSetMaxRequestsPerPeriod(exchange);
 
             ThrottlePermit permit = throttlingState.poll();
@@ -225,7 +236,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
                 exchange.setProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, System.currentTimeMillis());
             }
             exchange.setProperty(PROPERTY_EXCHANGE_STATE, State.ASYNC);
-            long delay = throttlingState.peek().getDelay(TimeUnit.NANOSECONDS);
+            long delay = throttlingState.getNextPermitDelay(TimeUnit.NANOSECONDS);
             asyncExecutor.schedule(() -> process(exchange, callback), delay, TimeUnit.NANOSECONDS);
             return false;
         } catch (final RejectedExecutionException e) {
@@ -246,10 +257,24 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         if (isAsyncDelayed()) {
             ObjectHelper.notNull(asyncExecutor, "executorService", this);
         }
+        if (stateRepository != null) {
+            // the repository may be shared, so let CamelContext manage its lifecycle
+            camelContext.addService(stateRepository, true, true);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        // release the leased permits so they can be used by the other nodes
+        for (ThrottlingState state : states.values()) {
+            if (state instanceof SharedThrottlingState) {
+                ((SharedThrottlingState) state).release();
+            }
+        }
+    }
+
+    private ThrottlingState createThrottlingState(String key) {
+        return stateRepository != null ? new SharedThrottlingState(key) : new ThrottlingState(key);
     }
 
     @Override
@@ -262,10 +287,10 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     }
 
     private class ThrottlingState {
-        private final String key;
+        protected final String key;
         private final DelayQueue<ThrottlePermit> delayQueue = new DelayQueue<>();
         private final AtomicReference<ScheduledFuture<?>> cleanFuture = new AtomicReference<>();
-        private volatile int throttleRate;
+        protected volatile int throttleRate;
 
         ThrottlingState(String key) {
             this.key = key;
@@ -279,8 +304,11 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             return delayQueue.poll();
         }
 
-        public ThrottlePermit peek() {
-            return delayQueue.peek();
+        /**
+         * The delay until the next permit is available
+         */
+        public long getNextPermitDelay(TimeUnit unit) {
+            return delayQueue.peek().getDelay(unit);
         }
 
         public ThrottlePermit take() throws InterruptedException {
@@ -297,6 +325,10 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         public void enqueue(final ThrottlePermit permit, final Exchange exchange) {
             permit.setDelayMs(getTimePeriodMillis());
             delayQueue.put(permit);
+            scheduleClean(exchange);
+        }
+
+        protected void scheduleClean(final Exchange exchange) {
             try {
                 ScheduledFuture<?> next = asyncExecutor.schedule(this::clean, cleanPeriodMillis, TimeUnit.MILLISECONDS);
                 ScheduledFuture<?> prev = cleanFuture.getAndSet(next);
@@ -316,17 +348,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
          * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
          */
         public synchronized void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
-            Integer newThrottle = maxRequestsPerPeriodExpression.evaluate(exchange, Integer.class);
-
-            if (newThrottle != null && newThrottle < 0) {
-                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
-            }
-
-            if (newThrottle == null && throttleRate == 0) {
-                throw new RuntimeExchangeException(
-                        "The maxRequestsPerPeriodExpression was evaluated as null: " + maxRequestsPerPeriodExpression,
-                        exchange);
-            }
+            Integer newThrottle = evaluateMaxRequestsPerPeriod(exchange);
 
             if (newThrottle != null) {
                 if (newThrottle != throttleRate) {
@@ -370,6 +392,196 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
                 }
             }
         }
+
+        protected Integer evaluateMaxRequestsPerPeriod(final Exchange exchange) {
+            Integer newThrottle = maxRequestsPerPeriodExpression.evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            if (newThrottle == null && throttleRate == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxRequestsPerPeriodExpression was evaluated as null: " + maxRequestsPerPeriodExpression,
+                        exchange);
+            }
+            return newThrottle;
+        }
+    }
+
+    /**
+     * Throttling state where the permits are acquired from the {@link ThrottlerStateRepository}, which is shared with
+     * other nodes. The permits are leased in batches within fixed time windows of the time period.
+     */
+    private class SharedThrottlingState extends ThrottlingState {
+        private final ThrottlePermit permit = new ThrottlePermit(0);
+        private volatile Lease lease = new Lease(-1, 0);
+        // the repository has no more permits, so it is not asked again before this time
+        private volatile long exhaustedUntil;
+
+        SharedThrottlingState(String key) {
+            super(key);
+        }
+
+        @Override
+        public ThrottlePermit poll() {
+            long now = System.currentTimeMillis();
+            long window = now / getTimePeriodMillis();
+            if (lease.acquire(window)) {
+                return permit;
+            }
+            if (now < exhaustedUntil) {
+                return null;
+            }
+            synchronized (this) {
+                // another thread may have leased permits in the meantime
+                if (lease.acquire(window)) {
+                    return permit;
+                }
+                if (now < exhaustedUntil) {
+                    return null;
+                }
+                int rate = getThrottleRate();
+                int size = leaseSize > 0 ? Math.min(leaseSize, rate) : Math.max(1, rate / 10);
+                int acquired = stateRepository.acquirePermits(key, window, rate, size);
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Leased {} of {} permits for window {} with key {}", acquired, size, window, key);
+                }
+                if (acquired > 0) {
+                    // the first permit is used by the caller
+                    lease = new Lease(window, acquired - 1);
+                    if (acquired > 1) {
+                        scheduleRelease(lease);
+                        // let the waiting threads use the leased permits
+                        notifyAll();
+                    }
+                    return permit;
+                }
+                // other nodes may release unused permits, so ask again after the release interval
+                exhaustedUntil = Math.min((window + 1) * getTimePeriodMillis(), now + getReleaseIntervalMillis());
+                return null;
+            }
+        }
+
+        @Override
+        public synchronized ThrottlePermit take() throws InterruptedException {
+            ThrottlePermit answer = poll();
+            while (answer == null) {
+                // wait until permits are leased by another thread, the rate is changed or the repository can be asked again
+                wait(Math.max(1, getNextPermitDelay(TimeUnit.MILLISECONDS)));
+                answer = poll();
+            }
+            return answer;
+        }
+
+        @Override
+        public long getNextPermitDelay(TimeUnit unit) {
+            long now = System.currentTimeMillis();
+            long until = exhaustedUntil;
+            if (until > now) {
+                return unit.convert(until - now, TimeUnit.MILLISECONDS);
+            }
+            // the next permit is available at the start of the next window
+            long period = getTimePeriodMillis();
+            return unit.convert(period - now % period, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void enqueue(final ThrottlePermit permit, final Exchange exchange) {
+            // permits are not returned as they expire with the window
+            scheduleClean(exchange);
+        }
+
+        @Override
+        public synchronized void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
+            Integer newThrottle = evaluateMaxRequestsPerPeriod(exchange);
+            if (newThrottle != null && newThrottle != throttleRate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                            newThrottle, exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+                // permits may be available with the new rate
+                exhaustedUntil = 0;
+                notifyAll();
+            }
+        }
+
+        /**
+         * Releases the unused permits of the current lease back to the repository.
+         */
+        public void release() {
+            release(lease);
+        }
+
+        private void scheduleRelease(Lease leased) {
+            try {
+                asyncExecutor.schedule(() -> releaseIfUnused(leased), getReleaseIntervalMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Releasing of unused permits rejected", e);
+            }
+        }
+
+        private void releaseIfUnused(Lease leased) {
+            int remaining = leased.remaining.get();
+            if (remaining == 0) {
+                return;
+            }
+            if (leased.window != System.currentTimeMillis() / getTimePeriodMillis()) {
+                // the permits have expired with the window
+                leased.remaining.set(0);
+            } else if (remaining == leased.checked) {
+                // no permits were used since the last check
+                release(leased);
+            } else {
+                leased.checked = remaining;
+                scheduleRelease(leased);
+            }
+        }
+
+        private void release(Lease leased) {
+            int unused = leased.remaining.getAndSet(0);
+            if (unused > 0) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Releasing {} unused permits for window {} with key {}", unused, leased.window, key);
+                }
+                try {
+                    stateRepository.releasePermits(key, leased.window, unused);
+                } catch (Exception e) {
+                    LOG.warn("Error releasing {} unused permits with key {}. This exception is ignored.", unused, key, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Permits leased from the {@link ThrottlerStateRepository} for a time window.
+     */
+    private static final class Lease {
+        private final long window;
+        private final AtomicInteger remaining;
+        // the remaining permits when last checked for being unused
+        private volatile int checked;
+
+        Lease(long window, int permits) {
+            this.window = window;
+            this.remaining = new AtomicInteger(permits);
+            this.checked = permits;
+        }
+
+        boolean acquire(long currentWindow) {
+            if (window != currentWindow) {
+                return false;
+            }
+            int current = remaining.get();
+            while (current > 0) {
+                if (remaining.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+                current = remaining.get();
+            }
+            return false;
+        }
     }
 
     /**
@@ -413,6 +625,33 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         this.asyncDelayed = asyncDelayed;
     }
 
+    private long getReleaseIntervalMillis() {
+        return Math.max(1, getTimePeriodMillis() / 10);
+    }
+
+    public ThrottlerStateRepository getStateRepository() {
+        return stateRepository;
+    }
+
+    /**
+     * Sets a repository for sharing the throttle rate among multiple nodes.
+     */
+    public void setStateRepository(ThrottlerStateRepository stateRepository) {
+        this.stateRepository = stateRepository;
+    }
+
+    public int getLeaseSize() {
+        return leaseSize;
+    }
+
+    /**
+     * Sets the number of permits to lease from the state repository at once. By default 10% of the throttle rate (at
+     * least 1).
+     */
+    public void setLeaseSize(int leaseSize) {
+        this.leaseSize = leaseSize;
+    }
+
     public boolean isCallerRunsWhenRejected() {
         return callerRunsWhenRejected;
     }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+import org.apache.camel.Traceable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implements an adaptive load balancing policy, which prefers the processors that are currently the fastest.
+ * <p/>
+ * For each exchange two processors are picked at random (power of two choices), and the processor with the lowest
+ * moving average of the processing time multiplied by its number of in-flight exchanges is chosen. Processors with an
+ * error rate at or above the error threshold are excluded for a cool down period.
+ */
+public class AdaptiveLoadBalancer extends LoadBalancerSupport implements Traceable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveLoadBalancer.class);
+
+    private final ConcurrentMap<AsyncProcessor, AdaptiveLoadBalancerStatistics> statistics = new ConcurrentHashMap<>();
+    private int errorThreshold = 50;
+    private long coolDownPeriod = 10000;
+    private transient int index = -1;
+
+    public int getErrorThreshold() {
+        return errorThreshold;
+    }
+
+    /**
+     * The error rate in percent (1-100) at which a processor is excluded from the load balancer for the cool down
+     * period.
+     */
+    public void setErrorThreshold(int errorThreshold) {
+        this.errorThreshold = errorThreshold;
+    }
+
+    public long getCoolDownPeriod() {
+        return coolDownPeriod;
+    }
+
+    /**
+     * The time in millis a processor with a high error rate is excluded from the load balancer.
+     */
+    public void setCoolDownPeriod(long coolDownPeriod) {
+        this.coolDownPeriod = coolDownPeriod;
+    }
+
+    public int getLastChosenProcessorIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the statistics for the processor at the given index
+     */
+    public AdaptiveLoadBalancerStatistics getStatistics(int index) {
+        AsyncProcessor[] processors = doGetProcessors();
+        if (index < 0 || index >= processors.length) {
+            return null;
+        }
+        return getStatistics(processors[index]);
+    }
+
+    /**
+     * Whether the processor at the given index is currently excluded due to a high error rate
+     */
+    public boolean isExcluded(int index) {
+        AdaptiveLoadBalancerStatistics stats = getStatistics(index);
+        return stats != null && stats.isExcluded(System.nanoTime());
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        AsyncProcessor[] processors = doGetProcessors();
+        if (processors.length == 0) {
+            // no processors but indicate we are done
+            callback.done(true);
+            return true;
+        }
+
+        int chosen = chooseProcessor(processors, System.nanoTime());
+        index = chosen;
+        AsyncProcessor processor = processors[chosen];
+        AdaptiveLoadBalancerStatistics stats = getStatistics(processor);
+
+        stats.onStart();
+        final long start = System.nanoTime();
+        return processor.process(exchange, doneSync -> {
+            long now = System.nanoTime();
+            boolean excluded = stats.onDone(now, now - start, exchange.getException() != null,
+                    errorThreshold / 100d, TimeUnit.MILLISECONDS.toNanos(coolDownPeriod));
+            if (excluded) {
+                LOG.debug("Excluding processor: {} for {} millis due to error rate reached threshold of {}%", processor,
+                        coolDownPeriod, errorThreshold);
+            }
+            callback.done(doneSync);
+        });
+    }
+
+    /**
+     * Chooses the index of the processor to use
+     */
+    protected int chooseProcessor(AsyncProcessor[] processors, long now) {
+        int size = processors.length;
+        if (size == 1) {
+            return 0;
+        }
+
+        // pick two different processors at random
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        AdaptiveLoadBalancerStatistics firstStats = getStatistics(processors[first]);
+        AdaptiveLoadBalancerStatistics secondStats = getStatistics(processors[second]);
+        boolean firstExcluded = firstStats.isExcluded(now);
+        boolean secondExcluded = secondStats.isExcluded(now);
+
+        if (firstExcluded && secondExcluded) {
+            // find any other processor which is not excluded
+            for (int i = 0; i < size; i++) {
+                if (i != first && i != second && !getStatistics(processors[i]).isExcluded(now)) {
+                    return i;
+                }
+            }
+            // all processors are excluded, so use the best of the two
+        } else if (firstExcluded) {
+            return second;
+        } else if (secondExcluded) {
+            return first;
+        }
+
+        // a processor which has not processed any exchanges yet is estimated to be as fast as the other processor
+        double estimate = firstStats.getLatency() > 0 ? firstStats.getLatency() : secondStats.getLatency();
+        if (estimate <= 0) {
+            // neither has processed any exchanges yet so only the in-flight exchanges count
+            estimate = 1;
+        }
+        return secondStats.getScore(estimate) < firstStats.getScore(estimate) ? second : first;
+    }
+
+    protected AdaptiveLoadBalancerStatistics getStatistics(AsyncProcessor processor) {
+        return statistics.computeIfAbsent(processor, p -> new AdaptiveLoadBalancerStatistics());
+    }
+
+    @Override
+    public void removeProcessor(AsyncProcessor processor) {
+        super.removeProcessor(processor);
+        statistics.remove(processor);
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "adaptive";
+    }
+
+    public void reset() {
+        index = -1;
+        statistics.values().forEach(AdaptiveLoadBalancerStatistics::reset);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        // reset state
+        reset();
+    }
+
+}
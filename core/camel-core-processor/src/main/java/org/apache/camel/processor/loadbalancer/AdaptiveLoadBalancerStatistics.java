@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics about the latency, in-flight exchanges and failures of a processor used by the
+ * {@link AdaptiveLoadBalancer}.
+ * <p/>
+ * The latency and error rate are exponentially weighted moving averages, which are updated without locking.
+ */
+public class AdaptiveLoadBalancerStatistics {
+
+    // the weight of the latest sample in the moving averages
+    private static final double ALPHA = 0.2;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong latency = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+    private final AtomicLong errorRate = new AtomicLong(Double.doubleToRawLongBits(0));
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long excludedUntil;
+
+    /**
+     * Number of exchanges currently being processed
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * The moving average of the processing time in nanos, or <tt>0</tt> if no exchanges have been processed yet
+     */
+    public double getLatency() {
+        double answer = Double.longBitsToDouble(latency.get());
+        return Double.isNaN(answer) ? 0 : answer;
+    }
+
+    /**
+     * The moving average of the ratio of failed exchanges (between 0 and 1)
+     */
+    public double getErrorRate() {
+        return Double.longBitsToDouble(errorRate.get());
+    }
+
+    /**
+     * Total number of exchanges processed
+     */
+    public long getTotal() {
+        return total.get();
+    }
+
+    /**
+     * Total number of exchanges which failed
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * Whether the processor is excluded from the load balancer due to a high error rate
+     *
+     * @param now the current time in nanos
+     */
+    public boolean isExcluded(long now) {
+        long until = excludedUntil;
+        return until != 0 && now - until < 0;
+    }
+
+    /**
+     * The score used for choosing between processors, where the lowest score is preferred. Processors which have not
+     * processed any exchanges yet use the estimated latency, so their in-flight exchanges still count, such as when the
+     * processor hangs on its first exchange.
+     *
+     * @param estimatedLatency the latency in nanos to use if no exchanges have been processed yet
+     */
+    public double getScore(double estimatedLatency) {
+        double answer = Double.longBitsToDouble(latency.get());
+        return (Double.isNaN(answer) ? estimatedLatency : answer) * (inflight.get() + 1);
+    }
+
+    /**
+     * Callback when an exchange is about to be processed
+     */
+    public void onStart() {
+        inflight.incrementAndGet();
+    }
+
+    /**
+     * Callback when an exchange is done
+     *
+     * @param  now            the current time in nanos
+     * @param  elapsed        the processing time in nanos
+     * @param  failed         whether the exchange failed
+     * @param  errorThreshold the error rate (between 0 and 1) which excludes the processor
+     * @param  coolDown       the time in nanos a processor is excluded
+     * @return                <tt>true</tt> if the processor was excluded due to this exchange
+     */
+    public boolean onDone(long now, long elapsed, boolean failed, double errorThreshold, long coolDown) {
+        inflight.decrementAndGet();
+        total.incrementAndGet();
+        update(latency, elapsed);
+        if (failed) {
+            failures.incrementAndGet();
+        }
+        double rate = update(errorRate, failed ? 1 : 0);
+        if (failed && rate >= errorThreshold && !isExcluded(now)) {
+            // start over with a clean error rate when the cool down is over
+            errorRate.set(Double.doubleToRawLongBits(0));
+            // avoid 0 which means not excluded
+            excludedUntil = (now + coolDown) | 1;
+            return true;
+        }
+        return false;
+    }
+
+    public void reset() {
+        latency.set(Double.doubleToRawLongBits(Double.NaN));
+        errorRate.set(Double.doubleToRawLongBits(0));
+        total.set(0);
+        failures.set(0);
+        excludedUntil = 0;
+    }
+
+    private static double update(AtomicLong average, double sample) {
+        while (true) {
+            long bits = average.get();
+            double old = Double.longBitsToDouble(bits);
+            double value = Double.isNaN(old) ? sample : old + ALPHA * (sample - old);
+            if (average.compareAndSet(bits, Double.doubleToRawLongBits(value))) {
+                return value;
+            }
+        }
+    }
+}
@@ -67,6 +67,16 @@ public class ResequencerEngine<E> {
      */
     private Timer timer;
 
+    /**
+     * Whether the timer has been created by this resequencer (and must be cancelled on stop).
+     */
+    private boolean ownTimer;
+
+    /**
+     * A lock for serializing deliveries, which is held while elements are sent.
+     */
+    private final Object deliveryLock = new Object();
+
     /**
      * A strategy for sending sequence elements.
      */
@@ -92,13 +102,27 @@ public class ResequencerEngine<E> {
     public void start() {
         timer = new Timer(
                 ThreadHelper.resolveThreadName("Camel Thread ${counter} - ${name}", "Stream Resequencer Timer"), true);
+        ownTimer = true;
+    }
+
+    /**
+     * Starts this resequencer using a shared {@link Timer} for scheduling timeout notifications. The shared timer is
+     * not cancelled when this resequencer is stopped.
+     *
+     * @param timer the timer to use.
+     */
+    public void start(Timer timer) {
+        this.timer = timer;
+        ownTimer = false;
     }
 
     /**
      * Stops this resequencer (i.e. this resequencer's {@link Timer} instance).
      */
     public void stop() {
-        timer.cancel();
+        if (ownTimer) {
+            timer.cancel();
+        }
     }
 
     /**
@@ -227,9 +251,11 @@ public class ResequencerEngine<E> {
      *
      * @see              ResequencerEngine#deliverNext()
      */
-    public synchronized void deliver() throws Exception {
-        while (deliverNext()) {
-            // do nothing here
+    public void deliver() throws Exception {
+        synchronized (deliveryLock) {
+            while (deliverNext()) {
+                // do nothing here
+            }
         }
     }
 
@@ -237,6 +263,9 @@ public class ResequencerEngine<E> {
      * Attempts to deliver a single element from the head of the resequencer queue (sequence). Only elements which have
      * not been scheduled for timing out or which already timed out can be delivered. Elements are delivered via
      * {@link SequenceSender#sendElement(Object)}.
+     * <p/>
+     * The element is sent without holding the lock used by {@link #insert(Object)}, so new elements can be inserted
+     * while a slow downstream processes the delivered element.
      *
      * @return           <code>true</code> if the element has been delivered <code>false</code> otherwise.
      *
@@ -244,24 +273,27 @@ public class ResequencerEngine<E> {
      *
      */
     public boolean deliverNext() throws Exception {
-        if (sequence.isEmpty()) {
-            return false;
+        Element<E> element;
+        synchronized (this) {
+            if (sequence.isEmpty()) {
+                return false;
+            }
+            // inspect element with lowest sequence value
+            element = sequence.first();
+
+            // if element is scheduled do not deliver and return
+            if (element.scheduled()) {
+                return false;
+            }
+
+            // remove deliverable element from sequence
+            sequence.remove(element);
+
+            // set the delivered element to last delivered element
+            lastDelivered = element;
         }
-        // inspect element with lowest sequence value
-        Element<E> element = sequence.first();
-
-        // if element is scheduled do not deliver and return
-        if (element.scheduled()) {
-            return false;
-        }
-
-        // remove deliverable element from sequence
-        sequence.remove(element);
-
-        // set the delivered element to last delivered element
-        lastDelivered = element;
 
-        // deliver the sequence element
+        // deliver the sequence element (outside the lock)
         sequenceSender.sendElement(element.getObject());
 
         // element has been delivered
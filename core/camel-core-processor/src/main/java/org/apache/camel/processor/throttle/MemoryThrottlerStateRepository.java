@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.camel.spi.ThrottlerStateRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based {@link ThrottlerStateRepository} which keeps the number of used permits per key in memory only.
+ * <p/>
+ * This can be used to share a throttle rate among multiple throttlers in the same JVM, and for testing.
+ */
+public class MemoryThrottlerStateRepository extends ServiceSupport implements ThrottlerStateRepository {
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public int acquirePermits(String key, long window, int maxPermits, int permits) {
+        int[] answer = new int[1];
+        windows.compute(key, (k, current) -> {
+            if (current == null || current.window < window) {
+                // a new time window
+                current = new Window(window);
+            } else if (current.window > window) {
+                // the caller is behind the current time window
+                return current;
+            }
+            int acquired = Math.max(0, Math.min(permits, maxPermits - current.used));
+            current.used += acquired;
+            answer[0] = acquired;
+            return current;
+        });
+        return answer[0];
+    }
+
+    @Override
+    public void releasePermits(String key, long window, int permits) {
+        windows.computeIfPresent(key, (k, current) -> {
+            if (current.window == window) {
+                current.used = Math.max(0, current.used - permits);
+            }
+            return current;
+        });
+    }
+
+    /**
+     * Number of used permits in the current time window of the given key
+     */
+    public int getUsedPermits(String key) {
+        Window current = windows.get(key);
+        return current != null ? current.used : 0;
+    }
+
+    private static final class Window {
+        private final long window;
+        private int used;
+
+        private Window(long window) {
+            this.window = window;
+        }
+    }
+}
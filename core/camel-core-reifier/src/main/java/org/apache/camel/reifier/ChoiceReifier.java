@@ -17,8 +17,13 @@
 package org.apache.camel.reifier;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.apache.camel.Expression;
 import org.apache.camel.ExpressionFactory;
 import org.apache.camel.Predicate;
 import org.apache.camel.Processor;
@@ -27,12 +32,18 @@ import org.apache.camel.model.ChoiceDefinition;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.WhenDefinition;
 import org.apache.camel.model.language.ExpressionDefinition;
+import org.apache.camel.model.language.SimpleExpression;
 import org.apache.camel.processor.ChoiceProcessor;
 import org.apache.camel.processor.FilterProcessor;
 import org.apache.camel.spi.ExpressionFactoryAware;
+import org.apache.camel.support.ObjectHelper;
 
 public class ChoiceReifier extends ProcessorReifier<ChoiceDefinition> {
 
+    // simple predicate testing an expression for equality with a literal, such as ${header.type} == 'gold'
+    private static final Pattern SIMPLE_EQUALS = Pattern.compile(
+            "\\s*(\\$\\{[^${}]+})\\s+==\\s+(?:'([^'${}\\\\]*)'|\"([^\"${}\\\\]*)\")\\s*");
+
     public ChoiceReifier(Route route, ProcessorDefinition<?> definition) {
         super(route, ChoiceDefinition.class.cast(definition));
     }
@@ -72,7 +83,48 @@ public class ChoiceReifier extends ProcessorReifier<ChoiceDefinition> {
         if (definition.getOtherwise() != null) {
             otherwiseProcessor = createProcessor(definition.getOtherwise());
         }
-        return new ChoiceProcessor(filters, otherwiseProcessor);
+        ChoiceProcessor answer = new ChoiceProcessor(filters, otherwiseProcessor);
+        if (filters.size() > 1) {
+            configureLookup(answer, filters);
+        }
+        return answer;
+    }
+
+    /**
+     * Configures the choice to lookup the matching branch, when all the predicates are simple equality tests of the
+     * same expression with a literal.
+     */
+    private void configureLookup(ChoiceProcessor answer, List<FilterProcessor> filters) {
+        String left = null;
+        Map<String, FilterProcessor> lookup = new LinkedHashMap<>();
+        for (int i = 0; i < filters.size(); i++) {
+            ExpressionDefinition exp = definition.getWhenClauses().get(i).getExpression();
+            if (exp.getExpressionType() != null) {
+                exp = exp.getExpressionType();
+            }
+            if (!(exp instanceof SimpleExpression) || exp.getExpression() == null) {
+                return;
+            }
+            Matcher matcher = SIMPLE_EQUALS.matcher(parseString(exp.getExpression()));
+            if (!matcher.matches()) {
+                return;
+            }
+            if (left == null) {
+                left = matcher.group(1);
+            } else if (!left.equals(matcher.group(1))) {
+                return;
+            }
+            String literal = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+            // numbers are compared numerically by the predicate
+            if (ObjectHelper.isNumber(literal)) {
+                return;
+            }
+            // the first matching branch wins
+            lookup.putIfAbsent(literal, filters.get(i));
+        }
+
+        Expression expression = createExpression(new SimpleExpression(left));
+        answer.setLookup(expression, lookup);
     }
 
 }
@@ -69,6 +69,10 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        int maxInFlight = parseInt(definition.getMaxInFlight(), 0);
+        if (maxInFlight > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("MaxInFlight is used but ParallelProcessing has not been enabled.");
+        }
         if (definition.getOnPrepareRef() != null) {
             definition.setOnPrepare(mandatoryLookup(definition.getOnPrepareRef(), Processor.class));
         }
@@ -77,6 +81,7 @@ public class MulticastReifier extends ProcessorReifier<MulticastDefinition> {
                 camelContext, route, list, strategy, isParallelProcessing, threadPool, shutdownThreadPool, isStreaming,
                 isStopOnException, timeout, definition.getOnPrepare(), isShareUnitOfWork, isParallelAggregate,
                 isStopOnAggregateException);
+        answer.setMaxInFlight(maxInFlight);
         return answer;
     }
 
@@ -132,6 +132,10 @@ public class ResequenceReifier extends ProcessorReifier<ResequenceDefinition> {
         if (config.getIgnoreInvalidExchanges() != null) {
             resequencer.setIgnoreInvalidExchanges(parseBoolean(config.getIgnoreInvalidExchanges(), false));
         }
+        if (config.getGroupExpression() != null) {
+            resequencer.setGroupExpression(createExpression(config.getGroupExpression()));
+            resequencer.setDeliveryThreads(parseInt(config.getDeliveryThreads(), 1));
+        }
         return resequencer;
     }
 
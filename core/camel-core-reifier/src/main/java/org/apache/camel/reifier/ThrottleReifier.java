@@ -24,6 +24,7 @@ import org.apache.camel.Route;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.processor.Throttler;
+import org.apache.camel.spi.ThrottlerStateRepository;
 
 public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
 
@@ -59,6 +60,13 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
         // should be true by default
         answer.setCallerRunsWhenRejected(parseBoolean(definition.getCallerRunsWhenRejected(), true));
 
+        ThrottlerStateRepository repository = definition.getStateRepository();
+        if (repository == null && definition.getStateRepositoryRef() != null) {
+            repository = mandatoryLookup(parseString(definition.getStateRepositoryRef()), ThrottlerStateRepository.class);
+        }
+        answer.setStateRepository(repository);
+        answer.setLeaseSize(parseInt(definition.getLeaseSize(), 0));
+
         return answer;
     }
 
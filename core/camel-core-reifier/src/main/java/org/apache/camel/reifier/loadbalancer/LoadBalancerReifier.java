@@ -22,6 +22,7 @@ import java.util.function.BiFunction;
 
 import org.apache.camel.Route;
 import org.apache.camel.model.LoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.AdaptiveLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
@@ -79,7 +80,9 @@ public class LoadBalancerReifier<T extends LoadBalancerDefinition> extends Abstr
 
     private static LoadBalancerReifier<? extends LoadBalancerDefinition> coreReifier(
             Route route, LoadBalancerDefinition definition) {
-        if (definition instanceof CustomLoadBalancerDefinition) {
+        if (definition instanceof AdaptiveLoadBalancerDefinition) {
+            return new AdaptiveLoadBalancerReifier(route, definition);
+        } else if (definition instanceof CustomLoadBalancerDefinition) {
             return new CustomLoadBalancerReifier(route, definition);
         } else if (definition instanceof FailoverLoadBalancerDefinition) {
             return new FailoverLoadBalancerReifier(route, definition);
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.io.IOException;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MethodInvokerTest extends ContextTestSupport {
+
+    @Test
+    public void testInvoke() throws Exception {
+        MyService service = new MyService();
+
+        MethodInvoker invoker = MethodInvoker.create(MyService.class.getMethod("hello", String.class));
+        assertNotNull(invoker);
+        assertTrue(invoker.canInvoke(service, new Object[] { "World" }));
+        assertEquals("Hello World", invoker.invoke(service, new Object[] { "World" }));
+
+        invoker = MethodInvoker.create(MyService.class.getMethod("sum", int.class, long.class, Integer.class));
+        assertNotNull(invoker);
+        assertEquals(6L, invoker.invoke(service, new Object[] { 1, 2L, 3 }));
+        // primitive parameters cannot be null, and the arguments must be of the parameter types
+        assertTrue(invoker.canInvoke(service, new Object[] { 1, 2L, null }));
+        assertFalse(invoker.canInvoke(service, new Object[] { null, 2L, 3 }));
+        assertFalse(invoker.canInvoke(service, new Object[] { 1, 2, 3 }));
+        assertFalse(invoker.canInvoke(service, new Object[] { 1, 2L }));
+        assertFalse(invoker.canInvoke("Not the service", new Object[] { 1, 2L, 3 }));
+
+        invoker = MethodInvoker.create(MyService.class.getMethod("store", Object.class));
+        assertNotNull(invoker);
+        assertNull(invoker.invoke(service, new Object[] { "Bye" }));
+        assertEquals("Bye", service.stored);
+
+        invoker = MethodInvoker.create(MyService.class.getMethod("toString"));
+        assertNotNull(invoker);
+        assertTrue(invoker.canInvoke(service, null));
+        assertEquals("MyService", invoker.invoke(service, null));
+    }
+
+    @Test
+    public void testInvokeException() throws Exception {
+        MethodInvoker invoker = MethodInvoker.create(MyService.class.getMethod("fail"));
+        assertNotNull(invoker);
+        // checked exceptions are thrown as-is
+        assertThrows(IOException.class, () -> invoker.invoke(new MyService(), null));
+    }
+
+    @Test
+    public void testNotSupported() throws Exception {
+        assertNull(MethodInvoker.create(MyService.class.getMethod("staticHello", String.class)));
+        assertNull(MethodInvoker.create(MyService.class.getMethod("four", Object.class, Object.class, Object.class,
+                Object.class)));
+        assertNull(MethodInvoker.create(MyPrivateService.class.getMethod("hello", String.class)));
+    }
+
+    @Test
+    public void testBeanRoute() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(50);
+
+        // invoke enough times so the invoker is used
+        for (int i = 0; i < 50; i++) {
+            Object out = template.requestBody("direct:start", "World" + i);
+            assertEquals("Hello World" + i, out);
+        }
+        assertMockEndpointsSatisfied();
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(3L + i, template.requestBody("direct:sum", i));
+        }
+        // a null value for a primitive parameter is reported the same way as by reflection
+        Exception e = assertThrows(Exception.class, () -> template.requestBody("direct:sum", (Object) null));
+        assertTrue(e.getCause().getMessage().startsWith("IllegalArgumentException occurred invoking method"));
+
+        // exceptions thrown by the bean are not wrapped
+        for (int i = 0; i < 20; i++) {
+            Exception fail = assertThrows(Exception.class, () -> template.requestBody("direct:fail", "Hi"));
+            assertSame(IOException.class, fail.getCause().getClass());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").bean(MyService.class, "hello").to("mock:result");
+                from("direct:sum").bean(MyService.class, "sum(${body}, 1, 2)");
+                from("direct:fail").bean(MyService.class, "fail");
+            }
+        };
+    }
+
+    public static class MyService {
+
+        private Object stored;
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public static String staticHello(String name) {
+            return "Hello " + name;
+        }
+
+        public long sum(int a, long b, Integer c) {
+            return a + b + (c != null ? c : 0);
+        }
+
+        public void store(Object value) {
+            this.stored = value;
+        }
+
+        public void four(Object a, Object b, Object c, Object d) {
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("Forced");
+        }
+
+        @Override
+        public String toString() {
+            return "MyService";
+        }
+    }
+
+    static class MyPrivateService {
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+    }
+
+}
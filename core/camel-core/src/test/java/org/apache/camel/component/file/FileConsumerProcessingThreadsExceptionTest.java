@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.file.strategy.GenericFileProcessStrategySupport;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.PollingConsumerPollStrategy;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test that an exception thrown while processing the files of a poll concurrently is handled by the poll strategy
+ */
+public class FileConsumerProcessingThreadsExceptionTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile Exception cause;
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("myStrategy", new MyProcessStrategy());
+        jndi.bind("myHandler", new MyExceptionHandler());
+        jndi.bind("myPoll", new MyPollStrategy());
+        return jndi;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/file-processing-threads-exception");
+        super.setUp();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("file://target/data/file-processing-threads-exception?processingThreads=2&initialDelay=0&delay=10"
+                     + "&processStrategy=#myStrategy&exceptionHandler=#myHandler&pollStrategy=#myPoll")
+                             .noAutoStartup()
+                             .to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testExceptionHandledByPollStrategy() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBodyAndHeader("file://target/data/file-processing-threads-exception", "Message " + i,
+                    Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+
+        context.getRouteController().startAllRoutes();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "Should rollback the poll");
+        assertEquals("Cannot handle file", cause.getMessage());
+
+        assertMockEndpointsSatisfied();
+        // the files are left as is
+        assertEquals(5, new File("target/data/file-processing-threads-exception").listFiles(File::isFile).length);
+    }
+
+    private static class MyProcessStrategy extends GenericFileProcessStrategySupport<File> {
+
+        @Override
+        public boolean begin(
+                GenericFileOperations<File> operations, GenericFileEndpoint<File> endpoint, Exchange exchange,
+                GenericFile<File> file)
+                throws Exception {
+            throw new IllegalStateException("Cannot begin");
+        }
+    }
+
+    private static class MyExceptionHandler implements ExceptionHandler {
+
+        @Override
+        public void handleException(Throwable exception) {
+            handleException(null, exception);
+        }
+
+        @Override
+        public void handleException(String message, Throwable exception) {
+            throw new RuntimeCamelException("Cannot handle file", exception);
+        }
+
+        @Override
+        public void handleException(String message, Exchange exchange, Throwable exception) {
+            handleException(message, exception);
+        }
+    }
+
+    private class MyPollStrategy implements PollingConsumerPollStrategy {
+
+        @Override
+        public boolean begin(Consumer consumer, Endpoint endpoint) {
+            return true;
+        }
+
+        @Override
+        public void commit(Consumer consumer, Endpoint endpoint, int polledMessages) {
+        }
+
+        @Override
+        public boolean rollback(Consumer consumer, Endpoint endpoint, int retryCounter, Exception e) throws Exception {
+            cause = e;
+            latch.countDown();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for the processingThreads option to process the files of a poll concurrently
+ */
+public class FileConsumerProcessingThreadsTest extends ContextTestSupport {
+
+    private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/file-processing-threads");
+        super.setUp();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("file://target/data/file-processing-threads?processingThreads=4&initialDelay=0&delay=10")
+                        .noAutoStartup()
+                        .process(e -> threadNames.add(Thread.currentThread().getName()))
+                        .delay(50)
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testProcessingThreads() throws Exception {
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(10).create();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        mock.expectedPropertyReceived(Exchange.BATCH_SIZE, 10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("file://target/data/file-processing-threads", "Message " + i,
+                    Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+
+        context.getRouteController().startAllRoutes();
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(threadNames.size() > 1, "Should process files on several threads: " + threadNames);
+        for (String name : threadNames) {
+            assertTrue(name.contains("FileConsumerProcessing"), "Should use the processing thread pool: " + name);
+        }
+
+        // the files should be moved to the done folder
+        assertTrue(notify.matchesWaitTime());
+        File[] files = new File("target/data/file-processing-threads").listFiles(File::isFile);
+        assertFalse(files == null);
+        assertEquals(0, files.length, "Should have moved all the files");
+        assertEquals(10, new File("target/data/file-processing-threads/.camel").listFiles().length);
+    }
+
+}
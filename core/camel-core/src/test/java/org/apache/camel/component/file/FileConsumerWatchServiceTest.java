@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test for the watchService option to only poll the directories which have changed
+ */
+public class FileConsumerWatchServiceTest extends ContextTestSupport {
+
+    private static final String DIR = "target/data/file-watch-service";
+
+    private final AtomicInteger listed = new AtomicInteger();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory(DIR);
+        super.setUp();
+    }
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("countingFilter", (GenericFileFilter<Object>) file -> {
+            listed.incrementAndGet();
+            return true;
+        });
+        return jndi;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("file://" + DIR + "?watchService=true&watchServiceFullPollInterval=0&recursive=true"
+                     + "&filter=#countingFilter&initialDelay=0&delay=10")
+                             .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testWatchService() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World");
+
+        template.sendBodyAndHeader("file://" + DIR, "Hello World", Exchange.FILE_NAME, "hello.txt");
+        // a new sub directory should be watched as well
+        template.sendBodyAndHeader("file://" + DIR, "Bye World", Exchange.FILE_NAME, "sub/bye.txt");
+
+        assertMockEndpointsSatisfied();
+
+        // the directories should not be listed again when nothing has changed
+        Thread.sleep(200);
+        int count = listed.get();
+        Thread.sleep(200);
+        assertEquals(count, listed.get(), "Should not list the directories when nothing has changed");
+
+        mock.reset();
+        mock.expectedBodiesReceived("Hi Again");
+        template.sendBodyAndHeader("file://" + DIR, "Hi Again", Exchange.FILE_NAME, "sub/again.txt");
+        assertMockEndpointsSatisfied();
+    }
+
+}
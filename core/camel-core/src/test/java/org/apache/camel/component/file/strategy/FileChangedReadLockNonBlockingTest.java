@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.strategy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileChangedReadLockNonBlockingTest extends ContextTestSupport {
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/changed-nonblocking/");
+        createDirectory("target/data/changed-nonblocking/in");
+        super.setUp();
+    }
+
+    @Test
+    public void testChangedReadLockNonBlocking() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        mock.expectedFileExists("target/data/changed-nonblocking/out/slowfile.dat");
+        mock.expectedFileExists("target/data/changed-nonblocking/out/ready.txt");
+
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(1).create();
+
+        Thread writer = new Thread(this::writeSlowFile, "SlowFileWriter");
+        writer.start();
+        // wait for the slow file to be picked up by the consumer
+        Thread.sleep(200);
+
+        template.sendBodyAndHeader("file:target/data/changed-nonblocking/in", "Ready", Exchange.FILE_NAME, "ready.txt");
+
+        // the ready file should not wait for the slow file to be written
+        assertTrue(notify.matches(1, TimeUnit.SECONDS));
+        assertTrue(writer.isAlive(), "The slow file should still be written");
+        assertEquals("ready.txt", mock.getReceivedExchanges().get(0).getIn().getHeader(Exchange.FILE_NAME_ONLY));
+
+        writer.join();
+        assertMockEndpointsSatisfied();
+
+        String content = context.getTypeConverter().convertTo(String.class,
+                new File("target/data/changed-nonblocking/out/slowfile.dat"));
+        String[] lines = content.split(LS);
+        assertEquals(40, lines.length, "There should be 40 lines in the file");
+    }
+
+    private void writeSlowFile() {
+        try (FileOutputStream fos = new FileOutputStream("target/data/changed-nonblocking/in/slowfile.dat")) {
+            for (int i = 0; i < 40; i++) {
+                fos.write(("Line " + i + LS).getBytes());
+                fos.flush();
+                Thread.sleep(50);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/data/changed-nonblocking/in?initialDelay=0&delay=10&readLock=changed"
+                     + "&readLockCheckInterval=200&readLockNonBlocking=true")
+                             .to("file:target/data/changed-nonblocking/out", "mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.aggregate.GroupedExchangeAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C", "D", "E");
+
+        for (String body : new String[] { "A", "B", "C", "D", "E" }) {
+            template.sendBody("seda:foo", body);
+        }
+
+        // all the exchanges are on the queue so they are drained in batches of at most 3
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        List<Exchange> exchanges = mock.getReceivedExchanges();
+        assertEquals(0, exchanges.get(0).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(3, exchanges.get(0).getProperty(Exchange.BATCH_SIZE));
+        assertEquals(false, exchanges.get(0).getProperty(Exchange.BATCH_COMPLETE));
+        assertEquals(2, exchanges.get(2).getProperty(Exchange.BATCH_INDEX));
+        assertEquals(true, exchanges.get(2).getProperty(Exchange.BATCH_COMPLETE));
+        assertEquals(2, exchanges.get(4).getProperty(Exchange.BATCH_SIZE));
+    }
+
+    @Test
+    public void testBatchPropertiesNotOnQueuedExchanges() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C");
+
+        SedaEndpoint seda = context.getEndpoint("seda:foo", SedaEndpoint.class);
+        List<Exchange> queued = new ArrayList<>();
+        for (String body : new String[] { "A", "B", "C" }) {
+            Exchange exchange = seda.createExchange();
+            exchange.getIn().setBody(body);
+            queued.add(exchange);
+            seda.getQueue().offer(exchange);
+        }
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(1, mock.getReceivedExchanges().get(1).getProperty(Exchange.BATCH_INDEX));
+
+        // the batch properties are set on the routed copies only, so they do not leak into the producer
+        for (Exchange exchange : queued) {
+            assertNull(exchange.getProperty(Exchange.BATCH_INDEX));
+            assertNull(exchange.getProperty(Exchange.BATCH_SIZE));
+            assertNull(exchange.getProperty(Exchange.BATCH_COMPLETE));
+        }
+    }
+
+    @Test
+    public void testBatchAsList() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:list");
+        mock.expectedMessageCount(2);
+
+        for (String body : new String[] { "A", "B", "C", "D", "E" }) {
+            template.sendBody("seda:bar", body);
+        }
+
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+
+        List<?> first = mock.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(3, first.size());
+        assertEquals("A", ((Exchange) first.get(0)).getIn().getBody());
+        assertEquals(3, mock.getReceivedExchanges().get(0).getProperty(Exchange.BATCH_SIZE));
+        List<?> second = mock.getReceivedExchanges().get(1).getIn().getBody(List.class);
+        assertEquals(2, second.size());
+        assertEquals("E", ((Exchange) second.get(1)).getIn().getBody());
+    }
+
+    @Test
+    public void testBatchAsListRequestReply() throws Exception {
+        context.getRouteController().startRoute("bar");
+
+        // the producer waits for the exchange in the batch to be done
+        Object out = template.requestBody("seda:bar", "Hello World");
+        assertEquals("Hello World", out);
+    }
+
+    @Test
+    public void testOfferGroupedExchanges() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C", "D");
+
+        context.getRouteController().startRoute("foo");
+
+        for (String body : new String[] { "A", "B", "C", "D" }) {
+            template.sendBodyAndHeader("direct:start", body, "id", 1);
+        }
+
+        assertMockEndpointsSatisfied();
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertTrue(exchange.getIn().getBody() instanceof String);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?maxBatchSize=3").routeId("foo").noAutoStartup()
+                        .to("mock:result");
+
+                from("seda:bar?maxBatchSize=3&batchAsList=true").routeId("bar").noAutoStartup()
+                        .to("mock:list");
+
+                from("direct:start")
+                        .aggregate(header("id"), new GroupedExchangeAggregationStrategy()).completionSize(4)
+                        .to("seda:foo?offerGroupedExchanges=true");
+            }
+        };
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultStreamCachingStrategy;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+    private static final String TEST_STRING = "This is a test string and it has enough"
+                                              + " aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa ";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        strategy.setSpoolDirectory("target/cachedir");
+        strategy.setSpoolThreshold(16);
+        strategy.setOffHeapArenaSize(2 * DefaultStreamCachingStrategy.OFF_HEAP_BUFFER_SIZE);
+        strategy.getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        deleteDirectory("target/cachedir");
+        createDirectory("target/cachedir");
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private static String toString(InputStream input) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(input, bos);
+        return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testCacheStreamOffHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(0, new File("target/cachedir").list().length, "we should not have a temp file");
+        assertEquals(DefaultStreamCachingStrategy.OFF_HEAP_BUFFER_SIZE, statistics.getOffHeapArenaUsed());
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof ByteBufferInputStreamCache, "Should get the ByteBufferInputStreamCache");
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(TEST_STRING, toString((InputStream) cache));
+
+        // the copy shares the buffers but is read independently
+        StreamCache copy = cache.copy(exchange);
+        assertNotSame(cache, copy);
+        assertEquals(TEST_STRING, toString((InputStream) copy));
+        cache.reset();
+        assertEquals(TEST_STRING, toString((InputStream) cache));
+
+        // the buffers are released back to the arena when the exchange is done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, statistics.getOffHeapArenaUsed());
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamOffHeapCopyReadAfterDone() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+        // the copy is held beyond the exchange such as by an aggregator
+        StreamCache copy = cache.copy(exchange);
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getStatistics().getOffHeapArenaUsed());
+
+        // the shared buffers are not reused, but their room in the arena is freed
+        ByteBuffer first = strategy.acquireOffHeapBuffer();
+        ByteBuffer second = strategy.acquireOffHeapBuffer();
+        assertNotNull(first);
+        assertNotNull(second);
+        strategy.releaseOffHeapBuffer(first);
+        strategy.releaseOffHeapBuffer(second);
+
+        // reading the copy fails instead of reading the data of another stream
+        assertThrows(IOException.class, () -> toString((InputStream) copy));
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamOffHeapStatistics() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        cos.close();
+
+        exchange.getIn().setBody(cos.newStreamCache());
+        context.getStreamCachingStrategy().cache(exchange);
+
+        assertEquals(1, statistics.getCacheOffHeapCounter());
+        assertEquals(TEST_STRING.length(), statistics.getCacheOffHeapSize());
+        assertEquals(TEST_STRING.length(), statistics.getCacheOffHeapAverageSize());
+        assertEquals(0, statistics.getCacheSpoolCounter());
+
+        exchange.getUnitOfWork().done(exchange);
+    }
+
+    @Test
+    public void testCacheStreamOffHeapExhausted() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        byte[] data = new byte[3 * DefaultStreamCachingStrategy.OFF_HEAP_BUFFER_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) ('a' + i % 26);
+        }
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        // write in chunks so the content is first stored off-heap and then moved to a file
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+        }
+
+        String[] files = new File("target/cachedir").list();
+        assertEquals(1, files.length, "we should have a temp file");
+        assertEquals(0, statistics.getOffHeapArenaUsed());
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should get the FileInputStreamCache");
+        assertEquals(new String(data, StandardCharsets.UTF_8), toString((InputStream) cache));
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, new File("target/cachedir").list().length, "we should have no temp file");
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamSpoolMemoryMapped() throws Exception {
+        context.getStreamCachingStrategy().setOffHeapArenaSize(0);
+        context.getStreamCachingStrategy().setSpoolMemoryMapped(true);
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        String[] files = new File("target/cachedir").list();
+        assertEquals(1, files.length, "we should have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should get the FileInputStreamCache");
+        assertEquals(TEST_STRING, toString((InputStream) cache));
+
+        StreamCache copy = cache.copy(exchange);
+        assertEquals(TEST_STRING, toString((InputStream) copy));
+        copy.reset();
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, new File("target/cachedir").list().length, "we should have no temp file");
+        IOHelper.close(cos);
+
+        // reading the copy fails when the mapped file has been released
+        assertThrows(IOException.class, () -> toString((InputStream) copy));
+    }
+}
@@ -18,10 +18,14 @@ package org.apache.camel.impl;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.util.Iterator;
+import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExchangeTestSupport;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.RuntimeCamelException;
@@ -223,6 +227,76 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
         assertEquals("Africa", exchange.getProperty("zone", String.class));
     }
 
+    @Test
+    public void testInternalPropertiesIterator() throws Exception {
+        ExtendedExchange ee = exchange.adapt(ExtendedExchange.class);
+        exchange.removeProperty("foobar");
+        ee.setProperty(ExchangePropertyKey.SPLIT_INDEX, 3);
+        ee.setProperty(ExchangePropertyKey.SPLIT_SIZE, 10);
+
+        Iterator<Map.Entry<String, Object>> it = exchange.getProperties().entrySet().iterator();
+        assertTrue(it.hasNext());
+        assertEquals(Exchange.SPLIT_INDEX, it.next().getKey());
+        assertTrue(it.hasNext());
+        // the last property is removed after hasNext so next must still return it
+        exchange.removeProperty(Exchange.SPLIT_SIZE);
+        Map.Entry<String, Object> entry = it.next();
+        assertEquals(Exchange.SPLIT_SIZE, entry.getKey());
+        assertEquals(10, entry.getValue());
+        assertFalse(it.hasNext());
+
+        it = exchange.getProperties().entrySet().iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        it.next();
+        it.remove();
+        assertThrows(IllegalStateException.class, it::remove);
+        assertFalse(exchange.hasProperties());
+    }
+
+    @Test
+    public void testInternalProperties() throws Exception {
+        ExtendedExchange ee = exchange.adapt(ExtendedExchange.class);
+        exchange.removeProperty("foobar");
+        assertFalse(exchange.hasProperties());
+
+        ee.setProperty(ExchangePropertyKey.SPLIT_INDEX, 3);
+        exchange.setProperty(Exchange.TO_ENDPOINT, "mock://result");
+        exchange.setProperty("fruit", "apple");
+        assertTrue(exchange.hasProperties());
+
+        // known properties can be accessed by their names and keys
+        assertEquals(3, exchange.getProperty(Exchange.SPLIT_INDEX));
+        assertEquals("3", exchange.getProperty(Exchange.SPLIT_INDEX, String.class));
+        assertEquals("mock://result", ee.getProperty(ExchangePropertyKey.TO_ENDPOINT));
+        assertEquals(Boolean.FALSE, ee.getProperty(ExchangePropertyKey.SPLIT_COMPLETE, boolean.class));
+        assertEquals(Boolean.TRUE, ee.getProperty(ExchangePropertyKey.SPLIT_COMPLETE, true, Boolean.class));
+
+        Map<String, Object> properties = exchange.getProperties();
+        assertEquals(3, properties.size());
+        assertEquals(3, properties.get(Exchange.SPLIT_INDEX));
+        assertEquals("mock://result", properties.get(Exchange.TO_ENDPOINT));
+        assertEquals("apple", properties.get("fruit"));
+
+        properties.put(Exchange.SPLIT_SIZE, 10);
+        assertEquals(10, ee.getProperty(ExchangePropertyKey.SPLIT_SIZE));
+
+        Exchange copy = exchange.copy();
+        assertEquals(3, copy.getProperty(Exchange.SPLIT_INDEX));
+        assertEquals(10, copy.getProperty(Exchange.SPLIT_SIZE));
+        assertEquals(4, copy.getProperties().size());
+
+        assertEquals(3, exchange.removeProperty(Exchange.SPLIT_INDEX));
+        assertNull(ee.getProperty(ExchangePropertyKey.SPLIT_INDEX));
+        assertEquals(3, copy.getProperty(Exchange.SPLIT_INDEX));
+
+        exchange.removeProperties("Camel*");
+        assertEquals(1, properties.size());
+        assertEquals("apple", exchange.getProperty("fruit"));
+
+        properties.clear();
+        assertFalse(exchange.hasProperties());
+    }
+
     @Test
     public void testInType() throws Exception {
         exchange.setIn(new MyMessage(context));
@@ -18,13 +18,18 @@ package org.apache.camel.impl;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.DefaultThreadPoolFactory;
+import org.apache.camel.support.VirtualThreadPoolFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.VirtualThreadHelper;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -553,4 +558,78 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(pool.isTerminated());
     }
 
+    @Test
+    public void testNewThreadPoolVirtualThreads() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfile("virtual");
+        profile.setVirtualThreads(true);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", profile);
+        assertNotNull(pool);
+        // fallback to a regular thread pool if virtual threads is not supported
+        assertEquals(!VirtualThreadHelper.isVirtualThreadsSupported(), pool instanceof ThreadPoolExecutor);
+
+        String name = pool.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        assertTrue(name.startsWith("Camel (" + context.getName() + ") thread "));
+        assertTrue(name.endsWith(" - Cool"));
+
+        context.getExecutorServiceManager().shutdown(pool);
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void testVirtualThreadPoolFactory() throws Exception {
+        context.getExecutorServiceManager().setThreadPoolFactory(new VirtualThreadPoolFactory());
+        boolean supported = VirtualThreadHelper.isVirtualThreadsSupported();
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", 5, 10);
+        assertEquals(!supported, pool instanceof ThreadPoolExecutor);
+        ExecutorService cached = context.getExecutorServiceManager().newCachedThreadPool(this, "Cool");
+        assertEquals(!supported, cached instanceof ThreadPoolExecutor);
+
+        // single threaded and scheduled pools do not use virtual threads
+        ExecutorService single = context.getExecutorServiceManager().newSingleThreadExecutor(this, "Cool");
+        assertIsInstanceOf(ThreadPoolExecutor.class, single);
+        ScheduledExecutorService scheduled = context.getExecutorServiceManager().newScheduledThreadPool(this, "Cool", 5);
+        assertIsInstanceOf(SizedScheduledExecutorService.class, scheduled);
+
+        // explicit disabled on the profile
+        ThreadPoolProfile profile = new ThreadPoolProfile("platform");
+        profile.setVirtualThreads(false);
+        ExecutorService platform = context.getExecutorServiceManager().newThreadPool(this, "Cool", profile);
+        assertIsInstanceOf(ThreadPoolExecutor.class, platform);
+
+        context.getExecutorServiceManager().shutdown(pool);
+        context.getExecutorServiceManager().shutdown(cached);
+        context.getExecutorServiceManager().shutdown(single);
+        context.getExecutorServiceManager().shutdown(scheduled);
+        context.getExecutorServiceManager().shutdown(platform);
+    }
+
+    @Test
+    public void testNewThreadPoolVirtualThreadsPlainThreadFactory() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfile("virtual");
+        profile.setVirtualThreads(true);
+        profile.setPoolSize(2);
+        profile.setMaxPoolSize(4);
+        profile.setMaxQueueSize(10);
+        profile.setKeepAliveTime(60L);
+        profile.setTimeUnit(TimeUnit.SECONDS);
+
+        ThreadFactory factory = r -> new Thread(r, "Plain");
+        ExecutorService pool = new DefaultThreadPoolFactory().newThreadPool(profile, factory);
+
+        // a plain thread factory cannot create virtual threads so a bounded thread pool is used
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        assertSame(factory, tp.getThreadFactory());
+        assertEquals(2, tp.getCorePoolSize());
+        assertEquals(4, tp.getMaximumPoolSize());
+        assertEquals(10, tp.getQueue().remainingCapacity());
+
+        String name = pool.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        assertEquals("Plain", name);
+
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
 }
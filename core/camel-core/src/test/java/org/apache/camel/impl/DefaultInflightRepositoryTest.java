@@ -16,6 +16,9 @@
  */
 package org.apache.camel.impl;
 
+import java.util.Collection;
+import java.util.Iterator;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.engine.DefaultInflightRepository;
@@ -24,6 +27,7 @@ import org.apache.camel.support.DefaultExchange;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class DefaultInflightRepositoryTest extends ContextTestSupport {
 
@@ -47,4 +51,40 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testOldest() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.setInflightBrowseEnabled(true);
+
+        assertNull(repo.oldest(null));
+
+        Exchange e1 = new DefaultExchange(context);
+        Thread.sleep(5);
+        Exchange e2 = new DefaultExchange(context);
+        Thread.sleep(5);
+        Exchange e3 = new DefaultExchange(context);
+
+        // add out of order
+        repo.add(e2);
+        repo.add(e3);
+        repo.add(e1);
+
+        assertEquals(e1, repo.oldest(null).getExchange());
+
+        Collection<InflightRepository.InflightExchange> list = repo.browse(2, true);
+        assertEquals(2, list.size());
+        Iterator<InflightRepository.InflightExchange> it = list.iterator();
+        assertEquals(e1, it.next().getExchange());
+        assertEquals(e2, it.next().getExchange());
+
+        repo.remove(e1);
+        assertEquals(e2, repo.oldest(null).getExchange());
+        assertEquals(2, repo.browse().size());
+
+        repo.remove(e2);
+        repo.remove(e3);
+        assertNull(repo.oldest(null));
+        assertEquals(0, repo.size());
+    }
 }
@@ -208,6 +208,49 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(3, stopCounter.get()));
     }
 
+    @Test
+    public void testCacheStatistics() throws Exception {
+        MyProducerCache cache = new MyProducerCache(this, context, 20);
+        cache.start();
+
+        Endpoint single = newEndpoint(true, 1);
+        single.setCamelContext(context);
+        cache.releaseProducer(single, cache.acquireProducer(single));
+        cache.releaseProducer(single, cache.acquireProducer(single));
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        Endpoint multi = newEndpoint(false, 2);
+        multi.setCamelContext(context);
+        AsyncProducer[] producers = new AsyncProducer[3];
+        for (int n = 0; n < 2; n++) {
+            for (int i = 0; i < producers.length; i++) {
+                producers[i] = cache.acquireProducer(multi);
+            }
+            for (AsyncProducer producer : producers) {
+                cache.releaseProducer(multi, producer);
+            }
+        }
+
+        assertEquals(4, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(0, cache.getEvicted());
+
+        cache.forceEvict(producers[0]);
+        cache.cleanUp();
+        assertEquals(1, cache.getEvicted());
+        // the singleton and the 2 remaining pooled producers
+        assertEquals(3, cache.size());
+
+        cache.resetCacheStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getEvicted());
+
+        cache.stop();
+    }
+
     private class MyProducerCache extends DefaultProducerCache {
 
         private MyServicePool myServicePool;
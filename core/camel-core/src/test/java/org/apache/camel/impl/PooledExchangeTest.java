@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.PooledExchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.spi.ExchangeFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledExchangeTest extends ContextTestSupport {
+
+    private final PooledExchangeFactory pef = new PooledExchangeFactory();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        pef.setStatisticsEnabled(true);
+        pef.setCapacity(5);
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(pef);
+        return context;
+    }
+
+    @Test
+    public void testSameExchange() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.expectedHeaderValuesReceivedInAnyOrder("counter", 1L, 2L, 3L);
+        // the previous header and property must have been cleared when the exchange was released to the pool
+        mock.allMessages().header("stale").isNull();
+
+        context.getRouteController().startAllRoutes();
+
+        assertMockEndpointsSatisfied();
+
+        // the exchanges are released after the mock endpoint has received them
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            ExchangeFactory.Statistics stat = pef.getStatistics();
+            assertEquals(3, stat.getCreatedCounter() + stat.getAcquiredCounter());
+            assertEquals(3, stat.getReleasedCounter());
+            assertEquals(0, stat.getDiscardedCounter());
+        });
+        // the timer runs sequentially so only one exchange is created which is then reused
+        assertEquals(1, pef.getStatistics().getCreatedCounter());
+        assertEquals(2, pef.getStatistics().getAcquiredCounter());
+    }
+
+    @Test
+    public void testDoneResetsExchange() throws Exception {
+        Exchange exchange = pef.newExchangeFactory(null).create(false);
+        exchange.setProperty("foo", 123);
+        exchange.getIn().setHeader("bar", 456);
+        exchange.getIn().setBody("Hello World");
+        assertTrue(exchange.getCreated() > 0);
+
+        ((PooledExchange) exchange).done(true);
+
+        assertEquals(0, exchange.getCreated());
+        assertNull(exchange.getProperty("foo"));
+        assertNull(exchange.getIn().getHeader("bar"));
+        assertNull(exchange.getIn().getBody());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:foo?delay=1&period=1&repeatCount=3").noAutoStartup()
+                        .process(e -> {
+                            e.getIn().setHeader("stale", e.getProperty("previous"));
+                            e.setProperty("previous", true);
+                            e.getIn().setHeader("counter", e.getProperty(Exchange.TIMER_COUNTER));
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
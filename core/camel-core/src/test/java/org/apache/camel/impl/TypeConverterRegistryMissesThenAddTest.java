@@ -40,6 +40,24 @@ public class TypeConverterRegistryMissesThenAddTest {
         assertEquals(123, order.getId());
     }
 
+    @Test
+    public void testTryMissThenAddTypeConverterForInterface() {
+        DefaultCamelContext context = new DefaultCamelContext();
+
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNull(order);
+        order = context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNull(order);
+
+        // add missing type converter which is found by looking up the interfaces
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, CharSequence.class, new MyOrderTypeConverter());
+
+        // this time it should work
+        order = context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
     private static class MyOrder {
         private int id;
 
@@ -16,8 +16,11 @@
  */
 package org.apache.camel.language.simple;
 
+import java.util.regex.PatternSyntaxException;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.Predicate;
 import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
 import org.apache.camel.spi.Registry;
 import org.junit.jupiter.api.Test;
@@ -546,6 +549,18 @@ public class SimpleOperatorTest extends LanguageTestSupport {
         assertPredicate("${in.header.bar} regex '^\\d{2}'", false);
     }
 
+    @Test
+    public void testRegexInvalidPattern() throws Exception {
+        // an invalid pattern is reported when evaluated, and not when the predicate is created
+        Predicate predicate = context.resolveLanguage("simple").createPredicate("${in.header.foo} regex '[abc'");
+        try {
+            predicate.matches(exchange);
+            fail("Should have thrown an exception");
+        } catch (PatternSyntaxException e) {
+            assertEquals("[abc", e.getPattern());
+        }
+    }
+
     @Test
     public void testNotRegex() throws Exception {
         assertPredicate("${in.header.foo} not regex '^a..$'", false);
@@ -730,6 +745,38 @@ public class SimpleOperatorTest extends LanguageTestSupport {
         }
     }
 
+    @Test
+    public void testRightOperatorFromHeader() throws Exception {
+        exchange.getIn().setHeader("pattern", "^ab.$");
+        exchange.getIn().setHeader("values", "foo,abc,def");
+        exchange.getIn().setHeader("type", "java.lang.String");
+        exchange.getIn().setHeader("range", "100..200");
+
+        assertPredicate("${in.header.foo} regex ${in.header.pattern}", true);
+        assertPredicate("${in.header.foo} in ${in.header.values}", true);
+        assertPredicate("${in.header.foo} is ${in.header.type}", true);
+        assertPredicate("${in.header.bar} range ${in.header.range}", true);
+
+        // the right operator is evaluated for each exchange
+        exchange.getIn().setHeader("pattern", "^d.*$");
+        exchange.getIn().setHeader("values", "foo,def");
+        exchange.getIn().setHeader("type", "java.lang.Integer");
+        exchange.getIn().setHeader("range", "200..300");
+
+        assertPredicate("${in.header.foo} regex ${in.header.pattern}", false);
+        assertPredicate("${in.header.foo} in ${in.header.values}", false);
+        assertPredicate("${in.header.foo} is ${in.header.type}", false);
+        assertPredicate("${in.header.bar} range ${in.header.range}", false);
+
+        exchange.getIn().setHeader("range", "abc..200");
+        try {
+            assertPredicate("${in.header.bar} range ${in.header.range}", false);
+            fail("Should have thrown an exception");
+        } catch (SimpleIllegalSyntaxException e) {
+            assertEquals(23, e.getIndex());
+        }
+    }
+
     @Test
     public void testUnaryInc() throws Exception {
         assertExpression("${in.header.bar}++", 124);
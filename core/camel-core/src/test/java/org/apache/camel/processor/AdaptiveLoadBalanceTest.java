@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveLoadBalanceTest extends ContextTestSupport {
+
+    private final CountDownLatch hangEntered = new CountDownLatch(1);
+    private final CountDownLatch hangRelease = new CountDownLatch(1);
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                errorHandler(noErrorHandler());
+
+                from("direct:start").loadBalance().adaptive().to("direct:fast", "direct:slow");
+
+                from("direct:fast").to("mock:fast");
+                from("direct:slow").delay(50).to("mock:slow");
+
+                from("direct:failing").loadBalance().adaptive(50, 60000).to("direct:ok", "direct:fail");
+
+                from("direct:ok").to("mock:ok");
+
+                from("direct:hanging").loadBalance().adaptive().to("direct:hang", "direct:responsive");
+
+                from("direct:hang").process(e -> {
+                    hangEntered.countDown();
+                    hangRelease.await(30, TimeUnit.SECONDS);
+                }).to("mock:hang");
+                from("direct:responsive").to("mock:responsive");
+                from("direct:fail").to("mock:fail").throwException(new IllegalArgumentException("Damn"));
+            }
+        };
+    }
+
+    @Test
+    public void testAdaptivePreferFastest() throws Exception {
+        for (int i = 0; i < 40; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+
+        MockEndpoint fast = getMockEndpoint("mock:fast");
+        MockEndpoint slow = getMockEndpoint("mock:slow");
+        // the slow processor is only used until its latency is known
+        assertTrue(slow.getReceivedCounter() <= 2, "Slow should only be used a few times, was: " + slow.getReceivedCounter());
+        assertTrue(fast.getReceivedCounter() >= 38, "Fast should be used most times, was: " + fast.getReceivedCounter());
+    }
+
+    @Test
+    public void testAdaptiveExcludeFailing() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            try {
+                template.sendBody("direct:failing", "Hello World");
+            } catch (Exception e) {
+                // expected for the failing processor
+            }
+        }
+
+        MockEndpoint ok = getMockEndpoint("mock:ok");
+        MockEndpoint fail = getMockEndpoint("mock:fail");
+        // the failing processor is excluded after a few failures
+        assertTrue(fail.getReceivedCounter() <= 4, "Fail should be excluded, was: " + fail.getReceivedCounter());
+        assertTrue(ok.getReceivedCounter() >= 46, "Ok should be used most times, was: " + ok.getReceivedCounter());
+    }
+
+    @Test
+    public void testAdaptiveAvoidHangingOnFirstExchange() throws Exception {
+        // send until an exchange is stuck in the processor which hangs on its first exchange
+        for (int i = 0; i < 100; i++) {
+            Future<Object> future = template.asyncSendBody("direct:hanging", "Hello World");
+            if (hangEntered.await(100, TimeUnit.MILLISECONDS)) {
+                break;
+            }
+            future.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(0, hangEntered.getCount(), "Should have sent an exchange to the hanging processor");
+
+        // the in-flight exchange of the hanging processor counts even though it has no latency yet
+        MockEndpoint responsive = getMockEndpoint("mock:responsive");
+        int before = responsive.getReceivedCounter();
+        for (int i = 0; i < 20; i++) {
+            template.asyncSendBody("direct:hanging", "Hello World").get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(before + 20, responsive.getReceivedCounter());
+
+        hangRelease.countDown();
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ChoiceSimpleEqualsLookupTest extends ContextTestSupport {
+
+    public enum Grade {
+        gold,
+        silver
+    }
+
+    @Test
+    public void testLookup() throws Exception {
+        getMockEndpoint("mock:gold").expectedBodiesReceived("A", "D");
+        getMockEndpoint("mock:silver").expectedBodiesReceived("B");
+        getMockEndpoint("mock:bronze").expectedBodiesReceived("C");
+        getMockEndpoint("mock:other").expectedBodiesReceived("E", "F");
+        getMockEndpoint("mock:result").expectedMessageCount(6);
+
+        template.sendBodyAndHeader("direct:start", "A", "type", "gold");
+        template.sendBodyAndHeader("direct:start", "B", "type", "silver");
+        template.sendBodyAndHeader("direct:start", "C", "type", "bronze");
+        template.sendBodyAndHeader("direct:start", "D", "type", "gold");
+        template.sendBodyAndHeader("direct:start", "E", "type", "iron");
+        template.sendBody("direct:start", "F");
+
+        assertMockEndpointsSatisfied();
+
+        ChoiceProcessor choice = context.getProcessor("lookupChoice", ChoiceProcessor.class);
+        assertNotNull(choice.getLookupExpression());
+        assertEquals(3, choice.getLookupFilters().size());
+        assertEquals(2, choice.getFilters().get(0).getFilteredCount());
+        assertEquals(1, choice.getFilters().get(1).getFilteredCount());
+        assertEquals(0, choice.getFilters().get(3).getFilteredCount());
+        assertEquals(2, choice.getNotFilteredCount());
+    }
+
+    @Test
+    public void testLookupOtherwiseFilterMatched() throws Exception {
+        getMockEndpoint("mock:other").expectedBodiesReceived("E");
+        // not matched by any branch, as when the predicates are evaluated
+        getMockEndpoint("mock:other").expectedPropertyReceived(Exchange.FILTER_MATCHED, false);
+        // and restored when the choice is done
+        getMockEndpoint("mock:result").expectedPropertyReceived(Exchange.FILTER_MATCHED, true);
+
+        template.send("direct:start", e -> {
+            e.setProperty(Exchange.FILTER_MATCHED, true);
+            e.getIn().setHeader("type", "iron");
+            e.getIn().setBody("E");
+        });
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLookupNotString() throws Exception {
+        getMockEndpoint("mock:gold").expectedBodiesReceived("A");
+        getMockEndpoint("mock:other").expectedMessageCount(0);
+
+        // not a string so the predicates are used which coerce the literal to the enum
+        template.sendBodyAndHeader("direct:start", "A", "type", Grade.gold);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testNoLookup() throws Exception {
+        getMockEndpoint("mock:one").expectedBodiesReceived("A");
+        getMockEndpoint("mock:two").expectedBodiesReceived("B");
+
+        template.sendBodyAndHeader("direct:numbers", "A", "num", "01");
+        template.sendBodyAndHeader("direct:numbers", "B", "num", "2");
+
+        assertMockEndpointsSatisfied();
+
+        // numbers are compared numerically so they cannot be looked up
+        assertNull(context.getProcessor("numberChoice", ChoiceProcessor.class).getLookupExpression());
+        // different expressions cannot be looked up
+        assertNull(context.getProcessor("mixedChoice", ChoiceProcessor.class).getLookupExpression());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .choice().id("lookupChoice")
+                        .when(simple("${header.type} == 'gold'")).to("mock:gold")
+                        .when().simple("${header.type} == \"silver\"").to("mock:silver")
+                        .when(simple("${header.type} == 'bronze'")).to("mock:bronze")
+                        // duplicate is never used as the first branch wins
+                        .when(simple("${header.type} == 'gold'")).to("mock:duplicate")
+                        .otherwise().to("mock:other")
+                    .end()
+                    .to("mock:result");
+
+                from("direct:numbers")
+                    .choice().id("numberChoice")
+                        .when(simple("${header.num} == '1'")).to("mock:one")
+                        .when(simple("${header.num} == '2'")).to("mock:two")
+                    .end();
+
+                from("direct:mixed")
+                    .choice().id("mixedChoice")
+                        .when(simple("${header.type} == 'gold'")).to("mock:gold")
+                        .when(simple("${body} == 'silver'")).to("mock:silver")
+                    .end();
+            }
+        };
+    }
+}
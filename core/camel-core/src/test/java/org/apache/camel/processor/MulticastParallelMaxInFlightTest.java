@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.StringAggregationStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MulticastParallelMaxInFlightTest extends ContextTestSupport {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testMulticastParallelMaxInFlight() throws Exception {
+        // the aggregation is still in the order of the multicast
+        getMockEndpoint("mock:result").expectedBodiesReceived("ABCD");
+
+        template.sendBody("direct:start", "Hello");
+
+        assertMockEndpointsSatisfied();
+
+        // the next message is not sent before the previous has been aggregated
+        assertEquals("[start-A, done-A, start-B, done-B, start-C, done-C, start-D, done-D]", events.toString());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .multicast(new StringAggregationStrategy()).parallelProcessing().maxInFlight(1)
+                            .to("direct:a", "direct:b", "direct:c", "direct:d")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:a").process(e -> events.add("start-A")).delay(50).setBody(constant("A"))
+                        .process(e -> events.add("done-A"));
+                from("direct:b").process(e -> events.add("start-B")).delay(20).setBody(constant("B"))
+                        .process(e -> events.add("done-B"));
+                from("direct:c").process(e -> events.add("start-C")).setBody(constant("C"))
+                        .process(e -> events.add("done-C"));
+                from("direct:d").process(e -> events.add("start-D")).setBody(constant("D"))
+                        .process(e -> events.add("done-D"));
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelMaxInFlightTest extends ContextTestSupport {
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testSplitParallelMaxInFlight() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append(i);
+        }
+
+        getMockEndpoint("mock:split").expectedMessageCount(200);
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        // the sum of 0..199
+        mock.expectedBodiesReceived(19900);
+
+        template.sendBody("direct:start", sb.toString());
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(maxInflight.get() <= 5, "Should be at most 5 in-flight, was " + maxInflight.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .split(body().tokenize(","), new SumAggregationStrategy())
+                        .parallelProcessing().executorService(context.getExecutorServiceManager()
+                                .newFixedThreadPool(this, "MaxInFlight", 20))
+                        .maxInFlight(5)
+                        .process(e -> {
+                            int current = inflight.incrementAndGet();
+                            maxInflight.accumulateAndGet(current, Math::max);
+                            Thread.sleep(2);
+                            inflight.decrementAndGet();
+                        })
+                        .to("mock:split")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static class SumAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            int value = newExchange.getIn().getBody(Integer.class);
+            if (oldExchange == null) {
+                newExchange.getIn().setBody(value);
+                return newExchange;
+            }
+            oldExchange.getIn().setBody(oldExchange.getIn().getBody(Integer.class) + value);
+            return oldExchange;
+        }
+    }
+}
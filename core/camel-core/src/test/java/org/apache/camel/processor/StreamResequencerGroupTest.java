@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StreamResequencerGroupTest extends ContextTestSupport {
+
+    @Test
+    public void testGroupsResequencedIndependently() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(8);
+
+        // the sequence numbers are overlapping between the groups
+        template.sendBodyAndHeaders("direct:start", "A2", headers("A", 2));
+        template.sendBodyAndHeaders("direct:start", "B3", headers("B", 3));
+        template.sendBodyAndHeaders("direct:start", "A1", headers("A", 1));
+        template.sendBodyAndHeaders("direct:start", "B1", headers("B", 1));
+        template.sendBodyAndHeaders("direct:start", "A4", headers("A", 4));
+        template.sendBodyAndHeaders("direct:start", "B2", headers("B", 2));
+        template.sendBodyAndHeaders("direct:start", "A3", headers("A", 3));
+        template.sendBodyAndHeaders("direct:start", "B4", headers("B", 4));
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals("[A1, A2, A3, A4]", bodies(mock, "A").toString());
+        assertEquals("[B1, B2, B3, B4]", bodies(mock, "B").toString());
+
+        StreamResequencer resequencer = (StreamResequencer) context.getProcessor("reseq");
+        assertEquals(2, resequencer.getGroupSize());
+        assertEquals(0, resequencer.getBacklogSize());
+    }
+
+    @Test
+    public void testGroupWithGapDoesNotBlockOtherGroup() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+
+        // the first message of a group is delivered after timeout
+        template.sendBodyAndHeaders("direct:start", "A1", headers("A", 1));
+        template.sendBodyAndHeaders("direct:start", "B1", headers("B", 1));
+
+        assertMockEndpointsSatisfied();
+        mock.reset();
+        mock.expectedBodiesReceived("B2", "B3");
+
+        // group A is missing sequence 2 so A3 is held back
+        template.sendBodyAndHeaders("direct:start", "A3", headers("A", 3));
+        template.sendBodyAndHeaders("direct:start", "B2", headers("B", 2));
+        template.sendBodyAndHeaders("direct:start", "B3", headers("B", 3));
+
+        // group B is in sequence and delivered without waiting for group A
+        assertMockEndpointsSatisfied();
+
+        StreamResequencer resequencer = (StreamResequencer) context.getProcessor("reseq");
+        assertEquals(1, resequencer.getBacklogSize());
+        assertEquals(1, resequencer.getGroupBacklogSizes().get("A").intValue());
+        assertEquals(0, resequencer.getGroupBacklogSizes().get("B").intValue());
+    }
+
+    @Test
+    public void testIdleGroupsEvicted() throws Exception {
+        StreamResequencer resequencer = (StreamResequencer) context.getProcessor("reseq");
+        resequencer.setGroupIdleTimeout(200);
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+
+        template.sendBodyAndHeaders("direct:start", "A1", headers("A", 1));
+        template.sendBodyAndHeaders("direct:start", "B1", headers("B", 1));
+
+        assertMockEndpointsSatisfied();
+
+        // the groups are evicted when they are empty and idle
+        await().atMost(5, TimeUnit.SECONDS).until(() -> resequencer.getGroupSize() == 0);
+
+        // a new group is created when the key shows up again
+        mock.reset();
+        mock.expectedBodiesReceived("A5");
+        template.sendBodyAndHeaders("direct:start", "A5", headers("A", 5));
+        assertEquals(1, resequencer.getGroupSize());
+
+        assertMockEndpointsSatisfied();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> resequencer.getGroupSize() == 0);
+        assertEquals(0, resequencer.getBacklogSize());
+    }
+
+    private static Map<String, Object> headers(String account, long seqnum) {
+        Map<String, Object> answer = new HashMap<>();
+        answer.put("account", account);
+        answer.put("seqnum", seqnum);
+        return answer;
+    }
+
+    private static List<String> bodies(MockEndpoint mock, String account) {
+        List<String> answer = new ArrayList<>();
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            if (account.equals(exchange.getMessage().getHeader("account"))) {
+                answer.add(exchange.getMessage().getBody(String.class));
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start")
+                        .resequence(header("seqnum")).stream().timeout(1000).deliveryAttemptInterval(10)
+                        .groupExpression(header("account")).deliveryThreads(2).id("reseq")
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.util.concurrent.VirtualThreadHelper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadsVirtualThreadsTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setUseMDCLogging(true);
+        return context;
+    }
+
+    @Test
+    public void testThreadsVirtualThreads() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World", "Bye World");
+        mock.expectedHeaderReceived("routeId", "myRoute");
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        String caller = Thread.currentThread().getName();
+        for (int i = 0; i < 2; i++) {
+            String name = mock.getReceivedExchanges().get(i).getIn().getHeader("threadName", String.class);
+            assertNotEquals(caller, name);
+            // the virtual threads are named as any other Camel thread
+            assertTrue(name.endsWith(" - myVirtualPool"), "Should use camel thread name: " + name);
+            assertEquals(VirtualThreadHelper.isVirtualThreadsSupported(),
+                    mock.getReceivedExchanges().get(i).getIn().getHeader("virtual", boolean.class));
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) throws Exception {
+        if (!VirtualThreadHelper.isVirtualThreadsSupported()) {
+            return false;
+        }
+        return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("myRoute")
+                        .threads().virtualThreads(true).threadName("myVirtualPool")
+                        .process(exchange -> {
+                            exchange.getMessage().setHeader("threadName", Thread.currentThread().getName());
+                            exchange.getMessage().setHeader("virtual", isVirtual(Thread.currentThread()));
+                            // the MDC is propagated to the thread
+                            exchange.getMessage().setHeader("routeId", MDC.get("camel.routeId"));
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
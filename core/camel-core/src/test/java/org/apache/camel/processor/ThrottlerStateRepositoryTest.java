@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.throttle.MemoryThrottlerStateRepository;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThrottlerStateRepositoryTest extends ContextTestSupport {
+
+    // use a long time period so all messages are sent within the same time window
+    private static final long PERIOD = 60 * 60 * 1000L;
+    private static final String KEY = "CamelThrottlerDefaultKey";
+
+    private final MemoryThrottlerStateRepository repository = new MemoryThrottlerStateRepository();
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("myRepo", repository);
+        return jndi;
+    }
+
+    @Test
+    public void testSharedThrottleRate() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        int rejected = 0;
+        for (int i = 0; i < 15; i++) {
+            rejected += send("direct:a", i);
+            rejected += send("direct:b", i);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(20, rejected);
+        // both nodes have consumed their share of the rate
+        assertTrue(getMockEndpoint("mock:a").getReceivedCounter() > 0);
+        assertTrue(getMockEndpoint("mock:b").getReceivedCounter() > 0);
+    }
+
+    @Test
+    public void testSharedThrottleRateWithLeaseSize() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        getMockEndpoint("mock:c").expectedMessageCount(5);
+        getMockEndpoint("mock:d").expectedMessageCount(5);
+
+        int rejected = 0;
+        for (int i = 0; i < 15; i++) {
+            rejected += send("direct:c", i);
+            rejected += send("direct:d", i);
+        }
+
+        assertMockEndpointsSatisfied();
+        assertEquals(20, rejected);
+    }
+
+    @Test
+    public void testUnusedPermitsReleasedOnStop() throws Exception {
+        getMockEndpoint("mock:c").expectedMessageCount(1);
+
+        send("direct:c", 1);
+        assertMockEndpointsSatisfied();
+        // a lease of 5 permits of which 1 is used
+        assertEquals(5, repository.getUsedPermits(KEY));
+
+        context.getRouteController().stopRoute("c");
+
+        assertEquals(1, repository.getUsedPermits(KEY));
+        // the repository is shared with the other routes so it must not be stopped by the throttler
+        assertTrue(repository.isStarted());
+    }
+
+    @Test
+    public void testUnusedPermitsReleased() throws Exception {
+        // the permits are released after a tenth of the period, so start early in a time window
+        while (System.currentTimeMillis() % 2000 > 500) {
+            Thread.sleep(10);
+        }
+        getMockEndpoint("mock:e").expectedMessageCount(1);
+
+        send("direct:e", 1);
+        assertMockEndpointsSatisfied();
+
+        await().atMost(1, TimeUnit.SECONDS).until(() -> repository.getUsedPermits(KEY) == 1);
+    }
+
+    @Test
+    public void testWaitForPermits() throws Exception {
+        getMockEndpoint("mock:f").expectedMessageCount(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, send("direct:f", i));
+        }
+
+        assertMockEndpointsSatisfied();
+        assertTrue(repository.getUsedPermits(KEY) <= 2);
+    }
+
+    private int send(String uri, int i) {
+        Exchange out = template.send(uri, e -> e.getIn().setBody("Message " + i));
+        if (out.getException() != null) {
+            assertTrue(out.getException() instanceof ThrottlerRejectedExecutionException);
+            return 1;
+        }
+        return 0;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // two throttlers simulating two nodes sharing the same rate
+                from("direct:a").throttle(10).timePeriodMillis(PERIOD).rejectExecution(true).stateRepositoryRef("myRepo")
+                        .to("mock:a", "mock:result");
+                from("direct:b").throttle(10).timePeriodMillis(PERIOD).rejectExecution(true).stateRepositoryRef("myRepo")
+                        .to("mock:b", "mock:result");
+
+                // lease 5 permits at once, so each node uses one lease only
+                from("direct:c").throttle(10).timePeriodMillis(PERIOD).rejectExecution(true)
+                        .stateRepository(repository).leaseSize(5).to("mock:c", "mock:result").routeId("c");
+                from("direct:d").throttle(10).timePeriodMillis(PERIOD).rejectExecution(true)
+                        .stateRepository(repository).leaseSize(5).to("mock:d", "mock:result");
+
+                from("direct:e").throttle(10).timePeriodMillis(2000).rejectExecution(true)
+                        .stateRepository(repository).leaseSize(5).to("mock:e");
+
+                // blocks until permits are available in the next time window
+                from("direct:f").throttle(2).timePeriodMillis(500).stateRepository(repository).to("mock:f");
+            }
+        };
+    }
+}
@@ -1491,6 +1491,55 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("readLockMinLength", readLockMinLength);
             return this;
         }
+        /**
+         * This option is applied only for readLock=changed,
+         * readLock=idempotent-changed, readLock=rename and readLock=fileLock.
+         * Whether to check the read lock only once per poll, instead of
+         * blocking the consumer while waiting for the read lock to be granted.
+         * A file whose read lock cannot be granted yet is skipped and checked
+         * again on the next poll, which allows the consumer to continue with
+         * the files which are ready in the meantime. For readLock=changed the
+         * file must be unchanged between two polls, which are at least
+         * readLockCheckInterval apart.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: lock
+         * 
+         * @param readLockNonBlocking the value to set
+         * @return the dsl builder
+         */
+        default FileEndpointConsumerBuilder readLockNonBlocking(
+                boolean readLockNonBlocking) {
+            doSetProperty("readLockNonBlocking", readLockNonBlocking);
+            return this;
+        }
+        /**
+         * This option is applied only for readLock=changed,
+         * readLock=idempotent-changed, readLock=rename and readLock=fileLock.
+         * Whether to check the read lock only once per poll, instead of
+         * blocking the consumer while waiting for the read lock to be granted.
+         * A file whose read lock cannot be granted yet is skipped and checked
+         * again on the next poll, which allows the consumer to continue with
+         * the files which are ready in the meantime. For readLock=changed the
+         * file must be unchanged between two polls, which are at least
+         * readLockCheckInterval apart.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: lock
+         * 
+         * @param readLockNonBlocking the value to set
+         * @return the dsl builder
+         */
+        default FileEndpointConsumerBuilder readLockNonBlocking(
+                String readLockNonBlocking) {
+            doSetProperty("readLockNonBlocking", readLockNonBlocking);
+            return this;
+        }
         /**
          * This option is applied only for readLock=idempotent. It allows to
          * specify whether to remove the file name entry from the idempotent
@@ -2509,6 +2558,48 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("probeContentType", probeContentType);
             return this;
         }
+        /**
+         * The number of threads to process the files of a poll concurrently. By
+         * default the files are processed one by one by the polling thread.
+         * When set then the files are processed by a thread pool of this size,
+         * which includes acquiring the read lock and retrieving the file, and
+         * the next poll happens when all the files of the current poll have
+         * been processed. Notice that the files are then no longer processed in
+         * the order they are sorted.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder processingThreads(
+                int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
+        /**
+         * The number of threads to process the files of a poll concurrently. By
+         * default the files are processed one by one by the polling thread.
+         * When set then the files are processed by a thread pool of this size,
+         * which includes acquiring the read lock and retrieving the file, and
+         * the next poll happens when all the files of the current poll have
+         * been processed. Notice that the files are then no longer processed in
+         * the order they are sorted.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder processingThreads(
+                String processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
         /**
          * A pluggable
          * org.apache.camel.component.file.GenericFileProcessStrategy allowing
@@ -2631,6 +2722,91 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to use a java.nio.file.WatchService to detect new and changed
+         * files. When enabled then the consumer only lists the directories
+         * which have been reported as changed, instead of listing the entire
+         * directory tree on every poll, which reduces the cost of polling large
+         * directory trees where only a few files change. The files are
+         * otherwise consumed as usual, including read locks, the move and done
+         * file options and idempotency.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchService(
+                boolean watchService) {
+            doSetProperty("watchService", watchService);
+            return this;
+        }
+        /**
+         * Whether to use a java.nio.file.WatchService to detect new and changed
+         * files. When enabled then the consumer only lists the directories
+         * which have been reported as changed, instead of listing the entire
+         * directory tree on every poll, which reduces the cost of polling large
+         * directory trees where only a few files change. The files are
+         * otherwise consumed as usual, including read locks, the move and done
+         * file options and idempotency.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param watchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchService(
+                String watchService) {
+            doSetProperty("watchService", watchService);
+            return this;
+        }
+        /**
+         * The interval in millis at which the consumer lists the entire
+         * directory tree when watchService is enabled, as a safety net for
+         * changes the watch service did not report, such as when its events
+         * overflowed. Use zero or a negative value to only do this on the first
+         * poll and after the events overflowed.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchServiceFullPollInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchServiceFullPollInterval(
+                long watchServiceFullPollInterval) {
+            doSetProperty("watchServiceFullPollInterval", watchServiceFullPollInterval);
+            return this;
+        }
+        /**
+         * The interval in millis at which the consumer lists the entire
+         * directory tree when watchService is enabled, as a safety net for
+         * changes the watch service did not report, such as when its events
+         * overflowed. Use zero or a negative value to only do this on the first
+         * poll and after the events overflowed.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 60000
+         * Group: consumer (advanced)
+         * 
+         * @param watchServiceFullPollInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder watchServiceFullPollInterval(
+                String watchServiceFullPollInterval) {
+            doSetProperty("watchServiceFullPollInterval", watchServiceFullPollInterval);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
@@ -3045,6 +3045,52 @@ public interface FtpsEndpointBuilderFactory {
             doSetProperty("pollStrategy", pollStrategy);
             return this;
         }
+        /**
+         * The number of files of a poll to download and process concurrently.
+         * By default the files are processed one by one using the single
+         * connection of the consumer. When set then the files are processed by
+         * a thread pool of this size, where each thread uses its own connection
+         * to the remote server (which is reconnected if needed) for acquiring
+         * the read lock, downloading the file, and moving or deleting the file
+         * when done. The directory is still listed using the connection of the
+         * consumer, and the next poll happens when all the files of the current
+         * poll have been processed.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpsEndpointConsumerBuilder processingThreads(
+                int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
+        /**
+         * The number of files of a poll to download and process concurrently.
+         * By default the files are processed one by one using the single
+         * connection of the consumer. When set then the files are processed by
+         * a thread pool of this size, where each thread uses its own connection
+         * to the remote server (which is reconnected if needed) for acquiring
+         * the read lock, downloading the file, and moving or deleting the file
+         * when done. The directory is still listed using the connection of the
+         * consumer, and the next poll happens when all the files of the current
+         * poll have been processed.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFtpsEndpointConsumerBuilder processingThreads(
+                String processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
         /**
          * A pluggable
          * org.apache.camel.component.file.GenericFileProcessStrategy allowing
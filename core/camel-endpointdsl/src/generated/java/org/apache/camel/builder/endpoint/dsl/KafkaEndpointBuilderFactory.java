@@ -388,6 +388,55 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether the consumer should process the records in batches. When
+         * enabled then the records polled from a partition are grouped into one
+         * exchange, where the message body is a java.util.List of exchanges
+         * (one per record). The offsets of the records in a batch are committed
+         * when the batch has been processed. Therefore Kafka auto commit is
+         * turned off, and the consumer instead commits the offsets after each
+         * batch when autoCommitEnable is true. Offsets are not committed by the
+         * consumer when using allowManualCommit, and an instance of
+         * KafkaManualCommit which commits the whole batch is stored on the
+         * message header.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether the consumer should process the records in batches. When
+         * enabled then the records polled from a partition are grouped into one
+         * exchange, where the message body is a java.util.List of exchanges
+         * (one per record). The offsets of the records in a batch are committed
+         * when the batch has been processed. Therefore Kafka auto commit is
+         * turned off, and the consumer instead commits the offsets after each
+         * batch when autoCommitEnable is true. Offsets are not committed by the
+         * consumer when using allowManualCommit, and an instance of
+         * KafkaManualCommit which commits the whole batch is stored on the
+         * message header.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -850,6 +899,71 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("keyDeserializer", keyDeserializer);
             return this;
         }
+        /**
+         * The maximum number of records in a batch when batching is enabled.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 500
+         * Group: consumer
+         * 
+         * @param maxBatchSize the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder maxBatchSize(int maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
+        /**
+         * The maximum number of records in a batch when batching is enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 500
+         * Group: consumer
+         * 
+         * @param maxBatchSize the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder maxBatchSize(String maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more records to fill up a
+         * batch, when batching is enabled. The default value of 0 processes the
+         * records from a partition as a batch after each poll.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: consumer
+         * 
+         * @param maxBatchTimeMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder maxBatchTimeMs(long maxBatchTimeMs) {
+            doSetProperty("maxBatchTimeMs", maxBatchTimeMs);
+            return this;
+        }
+        /**
+         * The maximum time in millis to wait for more records to fill up a
+         * batch, when batching is enabled. The default value of 0 processes the
+         * records from a partition as a batch after each poll.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: consumer
+         * 
+         * @param maxBatchTimeMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder maxBatchTimeMs(
+                String maxBatchTimeMs) {
+            doSetProperty("maxBatchTimeMs", maxBatchTimeMs);
+            return this;
+        }
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
@@ -1054,6 +1168,78 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("pollTimeoutMs", pollTimeoutMs);
             return this;
         }
+        /**
+         * The order in which records are processed when processingThreads is in
+         * use. With key then records with the same key are processed in the
+         * order of their offsets, one at a time, and records with different
+         * keys (or without a key) are processed concurrently. With unordered
+         * then all records are processed concurrently.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: key
+         * Group: consumer
+         * 
+         * @param processingOrder the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder processingOrder(
+                String processingOrder) {
+            doSetProperty("processingOrder", processingOrder);
+            return this;
+        }
+        /**
+         * The number of threads to process the polled records concurrently. By
+         * default the records are processed one by one by the consumer thread,
+         * which means the throughput is bound by the number of consumers and
+         * partitions. When set then the records are processed by a thread pool
+         * of this size, and the consumer continues polling while the records
+         * are processed (it pauses fetching when about twice maxPollRecords
+         * records are in-flight). The consumer tracks per partition the offset
+         * up to which all the records have been processed, and only commits up
+         * to that offset. Therefore Kafka auto commit is turned off, and the
+         * consumer instead commits the offsets when autoCommitEnable is true.
+         * This option cannot be used together with batching or
+         * allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder processingThreads(
+                int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
+        /**
+         * The number of threads to process the polled records concurrently. By
+         * default the records are processed one by one by the consumer thread,
+         * which means the throughput is bound by the number of consumers and
+         * partitions. When set then the records are processed by a thread pool
+         * of this size, and the consumer continues polling while the records
+         * are processed (it pauses fetching when about twice maxPollRecords
+         * records are in-flight). The consumer tracks per partition the offset
+         * up to which all the records have been processed, and only commits up
+         * to that offset. Therefore Kafka auto commit is turned off, and the
+         * consumer instead commits the offsets when autoCommitEnable is true.
+         * This option cannot be used together with batching or
+         * allowManualCommit.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder processingThreads(
+                String processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer will read from beginning or end on startup:
          * beginning : read from beginning end : read from end This is replacing
@@ -165,6 +165,47 @@ public interface SedaEndpointBuilderFactory {
         default SedaEndpointConsumerBuilder basic() {
             return (SedaEndpointConsumerBuilder) this;
         }
+        /**
+         * Whether the exchanges drained from the queue (see maxBatchSize) are
+         * processed as a single exchange, where the message body is a
+         * java.util.List of the drained exchanges. Any producers waiting for a
+         * reply receive the exchange from the list, when the batch exchange is
+         * done.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchAsList the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchAsList(
+                boolean batchAsList) {
+            doSetProperty("batchAsList", batchAsList);
+            return this;
+        }
+        /**
+         * Whether the exchanges drained from the queue (see maxBatchSize) are
+         * processed as a single exchange, where the message body is a
+         * java.util.List of the drained exchanges. Any producers waiting for a
+         * reply receive the exchange from the list, when the batch exchange is
+         * done.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchAsList the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchAsList(
+                String batchAsList) {
+            doSetProperty("batchAsList", batchAsList);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
@@ -274,6 +315,50 @@ public interface SedaEndpointBuilderFactory {
             doSetProperty("limitConcurrentConsumers", limitConcurrentConsumers);
             return this;
         }
+        /**
+         * The maximum number of exchanges the consumer takes from the queue in
+         * one go. When the consumer has polled an exchange, then it drains up
+         * to this number of exchanges which are already on the queue, which
+         * only locks the queue once, instead of once per exchange. The
+         * exchanges are then processed one by one (with the batch properties
+         * set on the exchange), or as a single exchange when batchAsList is
+         * enabled.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder maxBatchSize(
+                int maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges the consumer takes from the queue in
+         * one go. When the consumer has polled an exchange, then it drains up
+         * to this number of exchanges which are already on the queue, which
+         * only locks the queue once, instead of once per exchange. The
+         * exchanges are then processed one by one (with the batch properties
+         * set on the exchange), or as a single exchange when batchAsList is
+         * enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param maxBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder maxBatchSize(
+                String maxBatchSize) {
+            doSetProperty("maxBatchSize", maxBatchSize);
+            return this;
+        }
         /**
          * Specifies whether multiple consumers are allowed. If enabled, you can
          * use SEDA for Publish-Subscribe messaging. That is, you can send a
@@ -790,6 +875,51 @@ public interface SedaEndpointBuilderFactory {
         default SedaEndpointProducerBuilder basic() {
             return (SedaEndpointProducerBuilder) this;
         }
+        /**
+         * Whether the producer should add the exchanges of a grouped exchange
+         * to the queue as individual exchanges, in one go. A grouped exchange
+         * is an exchange where the message body is a java.util.List of
+         * exchanges, such as from the aggregate EIP using the
+         * GroupedExchangeAggregationStrategy, or from a seda consumer using
+         * batchAsList. This is only in use when the producer does not wait for
+         * the task to complete.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param offerGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointProducerBuilder offerGroupedExchanges(
+                boolean offerGroupedExchanges) {
+            doSetProperty("offerGroupedExchanges", offerGroupedExchanges);
+            return this;
+        }
+        /**
+         * Whether the producer should add the exchanges of a grouped exchange
+         * to the queue as individual exchanges, in one go. A grouped exchange
+         * is an exchange where the message body is a java.util.List of
+         * exchanges, such as from the aggregate EIP using the
+         * GroupedExchangeAggregationStrategy, or from a seda consumer using
+         * batchAsList. This is only in use when the producer does not wait for
+         * the task to complete.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer (advanced)
+         * 
+         * @param offerGroupedExchanges the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointProducerBuilder offerGroupedExchanges(
+                String offerGroupedExchanges) {
+            doSetProperty("offerGroupedExchanges", offerGroupedExchanges);
+            return this;
+        }
         /**
          * Define the queue instance which will be used by the endpoint.
          * 
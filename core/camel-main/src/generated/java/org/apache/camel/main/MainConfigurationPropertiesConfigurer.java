@@ -67,6 +67,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": target.setEndpointLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": target.setEndpointRuntimeStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
+        case "exchangefactory":
+        case "ExchangeFactory": target.setExchangeFactory(property(camelContext, java.lang.String.class, value)); return true;
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": target.setExchangeFactoryCapacity(property(camelContext, int.class, value)); return true;
+        case "exchangefactorystatisticsenabled":
+        case "ExchangeFactoryStatisticsEnabled": target.setExchangeFactoryStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
         case "fileconfigurations":
         case "FileConfigurations": target.setFileConfigurations(property(camelContext, java.lang.String.class, value)); return true;
         case "inflightrepositorybrowseenabled":
@@ -169,12 +175,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingBufferSize": target.setStreamCachingBufferSize(property(camelContext, int.class, value)); return true;
         case "streamcachingenabled":
         case "StreamCachingEnabled": target.setStreamCachingEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingoffheaparenasize":
+        case "StreamCachingOffHeapArenaSize": target.setStreamCachingOffHeapArenaSize(property(camelContext, long.class, value)); return true;
         case "streamcachingremovespooldirectorywhenstopping":
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": target.setStreamCachingRemoveSpoolDirectoryWhenStopping(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolcipher":
         case "StreamCachingSpoolCipher": target.setStreamCachingSpoolCipher(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "streamcachingspoolmemorymapped":
+        case "StreamCachingSpoolMemoryMapped": target.setStreamCachingSpoolMemoryMapped(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -248,6 +258,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": return boolean.class;
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": return boolean.class;
+        case "exchangefactory":
+        case "ExchangeFactory": return java.lang.String.class;
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": return int.class;
+        case "exchangefactorystatisticsenabled":
+        case "ExchangeFactoryStatisticsEnabled": return boolean.class;
         case "fileconfigurations":
         case "FileConfigurations": return java.lang.String.class;
         case "inflightrepositorybrowseenabled":
@@ -350,12 +366,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingBufferSize": return int.class;
         case "streamcachingenabled":
         case "StreamCachingEnabled": return boolean.class;
+        case "streamcachingoffheaparenasize":
+        case "StreamCachingOffHeapArenaSize": return long.class;
         case "streamcachingremovespooldirectorywhenstopping":
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": return boolean.class;
         case "streamcachingspoolcipher":
         case "StreamCachingSpoolCipher": return java.lang.String.class;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return java.lang.String.class;
+        case "streamcachingspoolmemorymapped":
+        case "StreamCachingSpoolMemoryMapped": return boolean.class;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return long.class;
         case "streamcachingspoolusedheapmemorylimit":
@@ -430,6 +450,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "EndpointLazyStartProducer": return target.isEndpointLazyStartProducer();
         case "endpointruntimestatisticsenabled":
         case "EndpointRuntimeStatisticsEnabled": return target.isEndpointRuntimeStatisticsEnabled();
+        case "exchangefactory":
+        case "ExchangeFactory": return target.getExchangeFactory();
+        case "exchangefactorycapacity":
+        case "ExchangeFactoryCapacity": return target.getExchangeFactoryCapacity();
+        case "exchangefactorystatisticsenabled":
+        case "ExchangeFactoryStatisticsEnabled": return target.isExchangeFactoryStatisticsEnabled();
         case "fileconfigurations":
         case "FileConfigurations": return target.getFileConfigurations();
         case "inflightrepositorybrowseenabled":
@@ -532,12 +558,16 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingBufferSize": return target.getStreamCachingBufferSize();
         case "streamcachingenabled":
         case "StreamCachingEnabled": return target.isStreamCachingEnabled();
+        case "streamcachingoffheaparenasize":
+        case "StreamCachingOffHeapArenaSize": return target.getStreamCachingOffHeapArenaSize();
         case "streamcachingremovespooldirectorywhenstopping":
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": return target.isStreamCachingRemoveSpoolDirectoryWhenStopping();
         case "streamcachingspoolcipher":
         case "StreamCachingSpoolCipher": return target.getStreamCachingSpoolCipher();
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
+        case "streamcachingspoolmemorymapped":
+        case "StreamCachingSpoolMemoryMapped": return target.isStreamCachingSpoolMemoryMapped();
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
@@ -54,6 +54,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
+    private long streamCachingOffHeapArenaSize;
+    private boolean streamCachingSpoolMemoryMapped;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
     private boolean backlogTracing;
@@ -72,6 +74,10 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean useDataType;
     private boolean useBreadcrumb;
     private boolean beanPostProcessorEnabled = true;
+    @Metadata(defaultValue = "default", enums = "default,prototype,pooled")
+    private String exchangeFactory = "default";
+    private int exchangeFactoryCapacity = 100;
+    private boolean exchangeFactoryStatisticsEnabled;
     @Metadata(defaultValue = "Default")
     private ManagementStatisticsLevel jmxManagementStatisticsLevel = ManagementStatisticsLevel.Default;
     private String jmxManagementNamePattern = "#name#";
@@ -425,6 +431,33 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingBufferSize = streamCachingBufferSize;
     }
 
+    public long getStreamCachingOffHeapArenaSize() {
+        return streamCachingOffHeapArenaSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes of the off-heap arena, which is a pool of direct buffers that streams are cached
+     * into when they should be spooled, before spooling to disk. Copies of an off-heap stream cache share the same
+     * buffers.
+     *
+     * The default value is 0 which means the off-heap arena is not in use.
+     */
+    public void setStreamCachingOffHeapArenaSize(long streamCachingOffHeapArenaSize) {
+        this.streamCachingOffHeapArenaSize = streamCachingOffHeapArenaSize;
+    }
+
+    public boolean isStreamCachingSpoolMemoryMapped() {
+        return streamCachingSpoolMemoryMapped;
+    }
+
+    /**
+     * Sets whether spool files should be read using memory-mapped files, where copies of the stream cache share the
+     * same mapped buffer. This cannot be used together with a spool cipher.
+     */
+    public void setStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+    }
+
     public boolean isStreamCachingRemoveSpoolDirectoryWhenStopping() {
         return streamCachingRemoveSpoolDirectoryWhenStopping;
     }
@@ -665,6 +698,40 @@ public abstract class DefaultConfigurationProperties<T> {
         this.useBreadcrumb = useBreadcrumb;
     }
 
+    public String getExchangeFactory() {
+        return exchangeFactory;
+    }
+
+    /**
+     * Controls whether to pool (reuse) exchanges or create new fresh exchanges (default). Using pooled will reduce JVM
+     * garbage collection overhead by avoiding to re-create Exchange instances per message each consumer receives.
+     */
+    public void setExchangeFactory(String exchangeFactory) {
+        this.exchangeFactory = exchangeFactory;
+    }
+
+    public int getExchangeFactoryCapacity() {
+        return exchangeFactoryCapacity;
+    }
+
+    /**
+     * The capacity the pool (for each consumer) uses for storing exchanges. The default capacity is 100.
+     */
+    public void setExchangeFactoryCapacity(int exchangeFactoryCapacity) {
+        this.exchangeFactoryCapacity = exchangeFactoryCapacity;
+    }
+
+    public boolean isExchangeFactoryStatisticsEnabled() {
+        return exchangeFactoryStatisticsEnabled;
+    }
+
+    /**
+     * Configures whether statistics is enabled on exchange factory.
+     */
+    public void setExchangeFactoryStatisticsEnabled(boolean exchangeFactoryStatisticsEnabled) {
+        this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
+    }
+
     public boolean isBeanPostProcessorEnabled() {
         return beanPostProcessorEnabled;
     }
@@ -1407,6 +1474,27 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the maximum number of bytes of the off-heap arena, which is a pool of direct buffers that streams are cached
+     * into when they should be spooled, before spooling to disk. Copies of an off-heap stream cache share the same
+     * buffers.
+     *
+     * The default value is 0 which means the off-heap arena is not in use.
+     */
+    public T withStreamCachingOffHeapArenaSize(long streamCachingOffHeapArenaSize) {
+        this.streamCachingOffHeapArenaSize = streamCachingOffHeapArenaSize;
+        return (T) this;
+    }
+
+    /**
+     * Sets whether spool files should be read using memory-mapped files, where copies of the stream cache share the
+     * same mapped buffer. This cannot be used together with a spool cipher.
+     */
+    public T withStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+        return (T) this;
+    }
+
     /**
      * Whether to remove stream caching temporary directory when stopping. This option is default true.
      */
@@ -1574,6 +1662,31 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Controls whether to pool (reuse) exchanges or create new fresh exchanges (default). Using pooled will reduce JVM
+     * garbage collection overhead by avoiding to re-create Exchange instances per message each consumer receives.
+     */
+    public T withExchangeFactory(String exchangeFactory) {
+        this.exchangeFactory = exchangeFactory;
+        return (T) this;
+    }
+
+    /**
+     * The capacity the pool (for each consumer) uses for storing exchanges. The default capacity is 100.
+     */
+    public T withExchangeFactoryCapacity(int exchangeFactoryCapacity) {
+        this.exchangeFactoryCapacity = exchangeFactoryCapacity;
+        return (T) this;
+    }
+
+    /**
+     * Configures whether statistics is enabled on exchange factory.
+     */
+    public T withExchangeFactoryStatisticsEnabled(boolean exchangeFactoryStatisticsEnabled) {
+        this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
+        return (T) this;
+    }
+
     /**
      * Can be used to turn off bean post processing.
      *
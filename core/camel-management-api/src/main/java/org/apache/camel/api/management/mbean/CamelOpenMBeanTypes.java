@@ -174,6 +174,35 @@ public final class CamelOpenMBeanTypes {
                 new OpenType[] { SimpleType.STRING, SimpleType.LONG });
     }
 
+    public static TabularType loadbalancerProcessorsTabularType() throws OpenDataException {
+        CompositeType ct = loadbalancerProcessorsCompositeType();
+        return new TabularType("processors", "Processor statistics", ct, new String[] { "index" });
+    }
+
+    public static CompositeType loadbalancerProcessorsCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "processors", "Processors",
+                new String[] { "index", "processorId", "inflight", "latency", "errorRate", "total", "failures", "excluded" },
+                new String[] {
+                        "Index", "Processor Id", "Inflight", "Latency", "Error Rate", "Total", "Failures", "Excluded" },
+                new OpenType[] {
+                        SimpleType.INTEGER, SimpleType.STRING, SimpleType.INTEGER, SimpleType.DOUBLE, SimpleType.DOUBLE,
+                        SimpleType.LONG, SimpleType.LONG, SimpleType.BOOLEAN });
+    }
+
+    public static TabularType resequencerBacklogTabularType() throws OpenDataException {
+        CompositeType ct = resequencerBacklogCompositeType();
+        return new TabularType("backlog", "Backlog statistics", ct, new String[] { "group" });
+    }
+
+    public static CompositeType resequencerBacklogCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "groups", "Groups",
+                new String[] { "group", "backlogSize" },
+                new String[] { "Group", "Backlog Size" },
+                new OpenType[] { SimpleType.STRING, SimpleType.INTEGER });
+    }
+
     public static TabularType endpointsUtilizationTabularType() throws OpenDataException {
         CompositeType ct = endpointsUtilizationCompositeType();
         return new TabularType("endpointsUtilization", "Endpoint utilization statistics", ct, new String[] { "url" });
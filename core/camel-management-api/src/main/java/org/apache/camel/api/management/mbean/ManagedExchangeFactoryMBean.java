@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedExchangeFactoryMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Whether exchanges are pooled and reused")
+    boolean isPooled();
+
+    @ManagedAttribute(description = "Max capacity per consumer for the pool of exchanges")
+    int getCapacity();
+
+    @ManagedAttribute(description = "Number of new exchanges created")
+    long getCreatedCounter();
+
+    @ManagedAttribute(description = "Number of exchanges acquired (reused) from the pool")
+    long getAcquiredCounter();
+
+    @ManagedAttribute(description = "Number of exchanges released back to the pool")
+    long getReleasedCounter();
+
+    @ManagedAttribute(description = "Number of exchanges discarded (thrown away) such as if no space in the pool")
+    long getDiscardedCounter();
+
+    @ManagedOperation(description = "Resets the statistics counters")
+    void resetStatistics();
+
+    @ManagedAttribute(description = "Utilization statistics enabled")
+    boolean isStatisticsEnabled();
+
+    @ManagedAttribute(description = "Utilization statistics enabled")
+    void setStatisticsEnabled(boolean statisticsEnabled);
+
+}
@@ -30,6 +30,18 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of times a producer was acquired from the pool")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of times a new producer was created as none was available in the pool")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Number of producers evicted from the pool")
+    Long getEvicted();
+
+    @ManagedOperation(description = "Resets the cache statistics")
+    void resetStatistics();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
@@ -16,7 +16,10 @@
  */
 package org.apache.camel.api.management.mbean;
 
+import javax.management.openmbean.TabularData;
+
 import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
 
 public interface ManagedResequencerMBean extends ManagedProcessorMBean {
 
@@ -44,4 +47,19 @@ public interface ManagedResequencerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "If true, throws an exception when messages older than the last delivered message are processed")
     Boolean isRejectOld();
 
+    @ManagedAttribute(description = "Expression to partition the stream into groups which are re-ordered independently")
+    String getGroupExpression();
+
+    @ManagedAttribute(description = "Number of threads delivering the groups in parallel")
+    Integer getDeliveryThreads();
+
+    @ManagedAttribute(description = "Number of groups")
+    Integer getGroupSize();
+
+    @ManagedAttribute(description = "Number of messages currently held back for re-ordering")
+    Integer getBacklogSize();
+
+    @ManagedOperation(description = "Number of messages currently held back for re-ordering for each group")
+    TabularData backlogStatistics();
+
 }
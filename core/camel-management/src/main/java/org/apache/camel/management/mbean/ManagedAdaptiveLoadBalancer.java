@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
+import org.apache.camel.api.management.mbean.ManagedAdaptiveLoadBalancerMBean;
+import org.apache.camel.model.LoadBalanceDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.loadbalancer.AdaptiveLoadBalancer;
+import org.apache.camel.processor.loadbalancer.AdaptiveLoadBalancerStatistics;
+
+@ManagedResource(description = "Managed Adaptive LoadBalancer")
+public class ManagedAdaptiveLoadBalancer extends ManagedProcessor implements ManagedAdaptiveLoadBalancerMBean {
+    private final AdaptiveLoadBalancer processor;
+
+    public ManagedAdaptiveLoadBalancer(CamelContext context, AdaptiveLoadBalancer processor, LoadBalanceDefinition definition) {
+        super(context, processor, definition);
+        this.processor = processor;
+    }
+
+    @Override
+    public LoadBalanceDefinition getDefinition() {
+        return (LoadBalanceDefinition) super.getDefinition();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        processor.reset();
+    }
+
+    @Override
+    public Boolean getSupportExtendedInformation() {
+        return true;
+    }
+
+    @Override
+    public Integer getSize() {
+        return processor.getProcessors().size();
+    }
+
+    @Override
+    public Integer getErrorThreshold() {
+        return processor.getErrorThreshold();
+    }
+
+    @Override
+    public Long getCoolDownPeriod() {
+        return processor.getCoolDownPeriod();
+    }
+
+    @Override
+    public Integer getExcludedSize() {
+        int size = processor.getProcessors().size();
+        int answer = 0;
+        for (int i = 0; i < size; i++) {
+            if (processor.isExcluded(i)) {
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public String getLastChosenProcessorId() {
+        int idx = processor.getLastChosenProcessorIndex();
+        if (idx != -1) {
+            return getProcessorId(idx);
+        }
+        return null;
+    }
+
+    @Override
+    public TabularData processorStatistics() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.loadbalancerProcessorsTabularType());
+
+            long now = System.nanoTime();
+            int size = processor.getProcessors().size();
+            for (int i = 0; i < size; i++) {
+                AdaptiveLoadBalancerStatistics stats = processor.getStatistics(i);
+                if (stats == null) {
+                    continue;
+                }
+                String id = getProcessorId(i);
+                double latency = stats.getLatency() / TimeUnit.MILLISECONDS.toNanos(1);
+
+                CompositeType ct = CamelOpenMBeanTypes.loadbalancerProcessorsCompositeType();
+                CompositeData data = new CompositeDataSupport(
+                        ct,
+                        new String[] {
+                                "index", "processorId", "inflight", "latency", "errorRate", "total", "failures",
+                                "excluded" },
+                        new Object[] {
+                                i, id != null ? id : "", stats.getInflight(), latency, stats.getErrorRate(),
+                                stats.getTotal(), stats.getFailures(), stats.isExcluded(now) });
+                answer.put(data);
+            }
+
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    private String getProcessorId(int index) {
+        List<ProcessorDefinition<?>> outputs = getDefinition().getOutputs();
+        if (index < outputs.size()) {
+            ProcessorDefinition<?> output = outputs.get(index);
+            if (output != null) {
+                return output.getId();
+            }
+        }
+        return null;
+    }
+
+}
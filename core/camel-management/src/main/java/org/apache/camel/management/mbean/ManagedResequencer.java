@@ -16,8 +16,18 @@
  */
 package org.apache.camel.management.mbean;
 
+import java.util.Map;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
 import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedResequencerMBean;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.processor.Resequencer;
@@ -110,4 +120,60 @@ public class ManagedResequencer extends ManagedProcessor implements ManagedReseq
             return streamProcessor.isRejectOld();
         }
     }
+
+    @Override
+    public String getGroupExpression() {
+        if (streamProcessor != null && streamProcessor.getGroupExpression() != null) {
+            return streamProcessor.getGroupExpression().toString();
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public Integer getDeliveryThreads() {
+        if (processor != null) {
+            return null;
+        } else {
+            return streamProcessor.getDeliveryThreads();
+        }
+    }
+
+    @Override
+    public Integer getGroupSize() {
+        if (processor != null) {
+            return null;
+        } else {
+            return streamProcessor.getGroupSize();
+        }
+    }
+
+    @Override
+    public Integer getBacklogSize() {
+        if (processor != null) {
+            return null;
+        } else {
+            return streamProcessor.getBacklogSize();
+        }
+    }
+
+    @Override
+    public TabularData backlogStatistics() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.resequencerBacklogTabularType());
+            if (streamProcessor != null) {
+                for (Map.Entry<Object, Integer> entry : streamProcessor.getGroupBacklogSizes().entrySet()) {
+                    CompositeType ct = CamelOpenMBeanTypes.resequencerBacklogCompositeType();
+                    CompositeData data = new CompositeDataSupport(
+                            ct,
+                            new String[] { "group", "backlogSize" },
+                            new Object[] { entry.getKey().toString(), entry.getValue() });
+                    answer.put(data);
+                }
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
 }
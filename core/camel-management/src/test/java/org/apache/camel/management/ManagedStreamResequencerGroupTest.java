@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class ManagedStreamResequencerGroupTest extends ManagementTestSupport {
+
+    @Test
+    public void testManageStreamResequencerGroup() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MockEndpoint foo = getMockEndpoint("mock:foo");
+        foo.expectedMessageCount(0);
+
+        // the messages are held back until timeout
+        template.sendBodyAndHeader("direct:start", "A1", "num", "A-1");
+        template.sendBodyAndHeader("direct:start", "A3", "num", "A-3");
+        template.sendBodyAndHeader("direct:start", "B1", "num", "B-1");
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = ObjectName.getInstance("org.apache.camel:context=camel-1,type=processors,name=\"mysend\"");
+
+        String expression = (String) mbeanServer.getAttribute(on, "GroupExpression");
+        assertEquals("header(account)", expression);
+
+        Integer threads = (Integer) mbeanServer.getAttribute(on, "DeliveryThreads");
+        assertEquals(2, threads.intValue());
+
+        Integer groups = (Integer) mbeanServer.getAttribute(on, "GroupSize");
+        assertEquals(2, groups.intValue());
+
+        Integer backlog = (Integer) mbeanServer.getAttribute(on, "BacklogSize");
+        assertEquals(3, backlog.intValue());
+
+        TabularData data = (TabularData) mbeanServer.invoke(on, "backlogStatistics", null, null);
+        assertNotNull(data);
+        assertEquals(2, data.size());
+        CompositeData row = data.get(new Object[] { "A" });
+        assertEquals(2, row.get("backlogSize"));
+        row = data.get(new Object[] { "B" });
+        assertEquals(1, row.get("backlogSize"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .setHeader("account", simple("${header.num.substring(0, 1)}"))
+                        .setHeader("seqnum", simple("${header.num.substring(2)}", Long.class))
+                        .resequence(header("seqnum")).stream().timeout(30000).deliveryAttemptInterval(10)
+                        .groupExpression(header("account")).deliveryThreads(2).id("mysend")
+                        .to("mock:foo");
+            }
+        };
+    }
+
+}
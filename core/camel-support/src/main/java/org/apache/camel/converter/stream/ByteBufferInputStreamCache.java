@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} for data held in {@link ByteBuffer}s, such as direct buffers from the off-heap arena of the
+ * {@link org.apache.camel.spi.StreamCachingStrategy}, or memory-mapped spool files.
+ * <p/>
+ * Copies of this cache share the same buffers (each copy has its own position), so the data is not copied. When the
+ * buffers have been released as all the exchanges are done, then reading the cache fails.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final ByteBuffer[] buffers;
+    private final long length;
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private int current;
+
+    /**
+     * Creates a cache of the given buffers.
+     *
+     * @param buffers the buffers which are read from their position to their limit
+     */
+    public ByteBufferInputStreamCache(ByteBuffer... buffers) {
+        this(buffers, null);
+    }
+
+    ByteBufferInputStreamCache(ByteBuffer[] buffers, FileInputStreamCache.TempFileManager tempFileManager) {
+        this.buffers = new ByteBuffer[buffers.length];
+        long total = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            // use read-only views so the positions are independent of other caches sharing the buffers
+            this.buffers[i] = buffers[i].slice().asReadOnlyBuffer();
+            total += this.buffers[i].remaining();
+        }
+        this.length = total;
+        this.tempFileManager = tempFileManager;
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (isReleased()) {
+            throw new RuntimeCamelException("Cannot reset stream cache as it has been released");
+        }
+        for (ByteBuffer buffer : buffers) {
+            buffer.rewind();
+        }
+        current = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        byte[] data = new byte[(int) Math.min(length, 8192)];
+        int n;
+        while ((n = read(data, 0, data.length)) > 0) {
+            os.write(data, 0, n);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        if (tempFileManager != null) {
+            tempFileManager.addExchange(exchange);
+            tempFileManager.markOffHeapShared();
+        }
+        // share the buffers from their start
+        ByteBuffer[] copies = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            copies[i] = buffers[i].duplicate();
+            copies[i].rewind();
+        }
+        return new ByteBufferInputStreamCache(copies, tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkReleased();
+        long remaining = 0;
+        for (int i = current; i < buffers.length; i++) {
+            remaining += buffers[i].remaining();
+        }
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkReleased();
+        ByteBuffer buffer = nextBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkReleased();
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (total < len) {
+            ByteBuffer buffer = nextBuffer();
+            if (buffer == null) {
+                break;
+            }
+            int n = Math.min(len - total, buffer.remaining());
+            buffer.get(b, off + total, n);
+            total += n;
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        checkReleased();
+        long skipped = 0;
+        while (skipped < n) {
+            ByteBuffer buffer = nextBuffer();
+            if (buffer == null) {
+                break;
+            }
+            int step = (int) Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    private boolean isReleased() {
+        return tempFileManager != null && tempFileManager.isReleased();
+    }
+
+    private void checkReleased() throws IOException {
+        if (isReleased()) {
+            throw new IOException("Cannot read stream cache as it has been released");
+        }
+    }
+
+    private ByteBuffer nextBuffer() {
+        while (current < buffers.length) {
+            ByteBuffer buffer = buffers[current];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            current++;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferInputStreamCache[length: " + length + "]";
+    }
+}
@@ -33,6 +33,9 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * The temp file will store in the temp directory, you can configure it by setting the TEMP_DIR property. If you don't
  * set the TEMP_DIR property, it will choose the directory which is set by the system property of "java.io.tmpdir".
  * <p/>
+ * If the {@link StreamCachingStrategy} has an off-heap arena, then the content is stored in off-heap buffers instead of
+ * the file, until the arena is exhausted.
+ * <p/>
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
@@ -41,6 +44,7 @@ public class CachedOutputStream extends OutputStream {
 
     private final StreamCachingStrategy strategy;
     private OutputStream currentStream;
+    private OffHeapOutputStream offHeapStream;
     private boolean inMemory = true;
     private int totalLength;
     private final TempFileManager tempFileManager;
@@ -96,7 +100,9 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpoolStream(len);
+        } else if (offHeapStream != null) {
+            reserveOffHeap(len);
         }
         currentStream.write(b, off, len);
     }
@@ -105,7 +111,9 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpoolStream(b.length);
+        } else if (offHeapStream != null) {
+            reserveOffHeap(b.length);
         }
         currentStream.write(b);
     }
@@ -114,7 +122,9 @@ public class CachedOutputStream extends OutputStream {
     public void write(int b) throws IOException {
         this.totalLength++;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpoolStream(1);
+        } else if (offHeapStream != null) {
+            reserveOffHeap(1);
         }
         currentStream.write(b);
     }
@@ -142,11 +152,43 @@ public class CachedOutputStream extends OutputStream {
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
                                                 + currentStream.getClass().getName());
             }
+        } else if (offHeapStream != null) {
+            return tempFileManager.newOffHeapStreamCache();
         } else {
             return tempFileManager.newStreamCache();
         }
     }
 
+    private void pageToSpoolStream(int len) throws IOException {
+        if (strategy.getOffHeapArenaSize() > 0) {
+            ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+            OffHeapOutputStream out = tempFileManager.createOffHeapOutputStream(strategy);
+            if (out != null) {
+                if (out.reserve(bout.size() + len)) {
+                    bout.writeTo(out);
+                    currentStream = out;
+                    offHeapStream = out;
+                    inMemory = false;
+                    return;
+                }
+                // not enough room in the arena
+                tempFileManager.releaseOffHeapBuffers();
+            }
+        }
+        pageToFileStream();
+    }
+
+    private void reserveOffHeap(int len) throws IOException {
+        if (!offHeapStream.reserve(len)) {
+            // the arena is exhausted so move the content to a file
+            OffHeapOutputStream out = offHeapStream;
+            offHeapStream = null;
+            currentStream = tempFileManager.createOutputStream(strategy);
+            out.writeTo(currentStream);
+            tempFileManager.releaseOffHeapBuffers();
+        }
+    }
+
     private void pageToFileStream() throws IOException {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
@@ -23,6 +23,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -134,6 +136,15 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     }
 
     private InputStream createInputStream(File file) throws IOException {
+        if (tempFileManager.isReleased()) {
+            throw new IOException("Cannot read stream cache from file " + file + " as it has been released");
+        }
+        ByteBuffer mapped = tempFileManager.getMappedBuffer();
+        if (mapped != null) {
+            // read from the memory-mapped file which is shared by all the caches of the file
+            return new ByteBufferInputStreamCache(new ByteBuffer[] { mapped.duplicate() }, tempFileManager);
+        }
+
         InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
         if (ciphers != null) {
             in = new CipherInputStream(in, ciphers.createDecryptor()) {
@@ -156,6 +167,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
      * Collects all FileInputStreamCache instances of the temporary file. Counts the number of exchanges which have a
      * FileInputStreamCache instance of the temporary file. Deletes the temporary file, if all exchanges are done.
      * 
+     * Also manages the off-heap buffers when the stream is cached off-heap instead of in a temporary file, which are
+     * released back to the off-heap arena, if all exchanges are done.
+     * 
      * @see CachedOutputStream
      */
     static class TempFileManager {
@@ -169,6 +183,11 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private boolean memoryMapped;
+        private ByteBuffer mappedBuffer;
+        private OffHeapOutputStream offHeapOutputStream;
+        private volatile boolean offHeapShared;
+        private volatile boolean released;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -286,10 +305,71 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                     }
                 };
             }
+            // memory-mapped files cannot be used with encrypted spool files
+            memoryMapped = strategy.isSpoolMemoryMapped() && ciphers == null;
             outputStream = out;
             return out;
         }
 
+        OffHeapOutputStream createOffHeapOutputStream(StreamCachingStrategy strategy) {
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                // exchange was already stopped so the buffers would never be released
+                return null;
+            }
+            offHeapOutputStream = new OffHeapOutputStream(strategy);
+            return offHeapOutputStream;
+        }
+
+        ByteBufferInputStreamCache newOffHeapStreamCache() {
+            return new ByteBufferInputStreamCache(offHeapOutputStream.getBuffers(), this);
+        }
+
+        synchronized ByteBuffer getMappedBuffer() throws IOException {
+            if (memoryMapped && mappedBuffer == null) {
+                if (outputStream != null) {
+                    outputStream.flush();
+                }
+                long size = tempFile.length();
+                if (size > Integer.MAX_VALUE) {
+                    // too large to be mapped as a single buffer
+                    memoryMapped = false;
+                    return null;
+                }
+                LOG.trace("Memory mapping temporary stream cache file: {}", tempFile);
+                try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.READ)) {
+                    // the mapping remains valid after the channel is closed
+                    mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                }
+            }
+            return mappedBuffer;
+        }
+
+        /**
+         * Marks the off-heap buffers as shared by copies of the stream cache, which may be held beyond the exchanges
+         * (such as by an aggregator), so the buffers must not be reused by the off-heap arena.
+         */
+        void markOffHeapShared() {
+            offHeapShared = true;
+        }
+
+        /**
+         * Whether the resources of the stream caches have been released, as all the exchanges are done.
+         */
+        boolean isReleased() {
+            return released;
+        }
+
+        void releaseOffHeapBuffers() {
+            if (offHeapOutputStream != null) {
+                if (offHeapShared) {
+                    offHeapOutputStream.discard();
+                } else {
+                    offHeapOutputStream.release();
+                }
+                offHeapOutputStream = null;
+            }
+        }
+
         FileInputStreamCache newStreamCache() throws IOException {
             try {
                 return new FileInputStreamCache(this);
@@ -308,6 +388,12 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         }
 
         void cleanUpTempFile() {
+            // release off-heap buffers and the memory-mapped file, where reading any of the caches now fails
+            released = true;
+            releaseOffHeapBuffers();
+            // the mapping is not unmapped explicitly, as reading a copy of the cache which still references an
+            // unmapped buffer would crash the JVM, so it is unmapped by the garbage collector when no longer referenced
+            mappedBuffer = null;
             // cleanup temporary file
             try {
                 if (tempFile != null) {
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+
+/**
+ * An {@link OutputStream} which writes into direct buffers acquired from the off-heap arena of the
+ * {@link StreamCachingStrategy}.
+ * <p/>
+ * Room for the data must be reserved using {@link #reserve(int)} before writing, which returns <tt>false</tt> if the
+ * arena is exhausted.
+ */
+class OffHeapOutputStream extends OutputStream {
+
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private int current;
+
+    OffHeapOutputStream(StreamCachingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Reserves room for writing the given number of bytes, by acquiring buffers from the off-heap arena as needed.
+     *
+     * @return <tt>true</tt> if reserved, or <tt>false</tt> if the off-heap arena is exhausted
+     */
+    boolean reserve(int len) {
+        long free = 0;
+        for (int i = current; i < buffers.size() && free < len; i++) {
+            free += buffers.get(i).remaining();
+        }
+        while (free < len) {
+            ByteBuffer buffer = strategy.acquireOffHeapBuffer();
+            if (buffer == null) {
+                return false;
+            }
+            buffers.add(buffer);
+            free += buffer.remaining();
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        nextBuffer().put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer buffer = nextBuffer();
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    private ByteBuffer nextBuffer() throws IOException {
+        while (current < buffers.size()) {
+            ByteBuffer buffer = buffers.get(current);
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            current++;
+        }
+        throw new IOException("No room reserved in off-heap buffers");
+    }
+
+    /**
+     * Writes the data written so far to the given stream.
+     */
+    void writeTo(OutputStream os) throws IOException {
+        byte[] data = new byte[8192];
+        for (ByteBuffer buffer : getBuffers()) {
+            while (buffer.hasRemaining()) {
+                int n = Math.min(data.length, buffer.remaining());
+                buffer.get(data, 0, n);
+                os.write(data, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Gets views of the buffers holding the data written so far.
+     */
+    ByteBuffer[] getBuffers() {
+        List<ByteBuffer> answer = new ArrayList<>(buffers.size());
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.position() > 0) {
+                ByteBuffer view = buffer.duplicate();
+                view.flip();
+                answer.add(view);
+            }
+        }
+        return answer.toArray(new ByteBuffer[0]);
+    }
+
+    /**
+     * Releases the buffers back to the off-heap arena.
+     */
+    void release() {
+        for (ByteBuffer buffer : buffers) {
+            strategy.releaseOffHeapBuffer(buffer);
+        }
+        buffers.clear();
+        current = 0;
+    }
+
+    /**
+     * Discards the buffers, which frees their room in the off-heap arena without reusing them.
+     */
+    void discard() {
+        for (ByteBuffer buffer : buffers) {
+            strategy.discardOffHeapBuffer(buffer);
+        }
+        buffers.clear();
+        current = 0;
+    }
+}
@@ -0,0 +1,945 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Message;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.spi.Synchronization;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * Base class for the two official and only implementations of {@link Exchange}, the {@link DefaultExchange} and
+ * {@link DefaultPooledExchange}.
+ *
+ * Camel end users should use {@link DefaultExchange} if creating an {@link Exchange} manually. However that is more
+ * seldom to use, as exchanges are created via {@link Endpoint}.
+ *
+ * @see DefaultExchange
+ */
+abstract class AbstractExchange implements ExtendedExchange {
+
+    private static final ExchangePropertyKey[] INTERNAL_KEYS = ExchangePropertyKey.values();
+
+    final CamelContext context;
+    // known internal properties are stored by the ordinal of their key to avoid hashing on the hot path
+    final Object[] internalProperties = new Object[INTERNAL_KEYS.length];
+    // optimize to create properties always and with a reasonable small size
+    final Map<String, Object> properties = new ConcurrentHashMap<>(8);
+    Map<String, Object> allProperties;
+    long created;
+    Message in;
+    Message out;
+    Exception exception;
+    String exchangeId;
+    UnitOfWork unitOfWork;
+    ExchangePattern pattern;
+    Endpoint fromEndpoint;
+    String fromRouteId;
+    List<Synchronization> onCompletions;
+    Boolean externalRedelivered;
+    String historyNodeId;
+    String historyNodeLabel;
+    boolean transacted;
+    boolean routeStop;
+    boolean rollbackOnly;
+    boolean rollbackOnlyLast;
+    boolean notifyEvent;
+    boolean interrupted;
+    boolean interruptable = true;
+    boolean redeliveryExhausted;
+    Boolean errorHandlerHandled;
+
+    AbstractExchange(CamelContext context) {
+        this.context = context;
+        this.pattern = ExchangePattern.InOnly;
+        this.created = System.currentTimeMillis();
+    }
+
+    AbstractExchange(CamelContext context, ExchangePattern pattern) {
+        this.context = context;
+        this.pattern = pattern;
+        this.created = System.currentTimeMillis();
+    }
+
+    AbstractExchange(Exchange parent) {
+        this.context = parent.getContext();
+        this.pattern = parent.getPattern();
+        this.created = parent.getCreated();
+        this.fromEndpoint = parent.getFromEndpoint();
+        this.fromRouteId = parent.getFromRouteId();
+        this.unitOfWork = parent.getUnitOfWork();
+    }
+
+    AbstractExchange(Endpoint fromEndpoint) {
+        this.context = fromEndpoint.getCamelContext();
+        this.pattern = ExchangePattern.InOnly;
+        this.created = System.currentTimeMillis();
+        this.fromEndpoint = fromEndpoint;
+    }
+
+    AbstractExchange(Endpoint fromEndpoint, ExchangePattern pattern) {
+        this.context = fromEndpoint.getCamelContext();
+        this.pattern = pattern;
+        this.created = System.currentTimeMillis();
+        this.fromEndpoint = fromEndpoint;
+    }
+
+    @Override
+    public String toString() {
+        // do not output information about the message as it may contain sensitive information
+        if (exchangeId != null) {
+            return "Exchange[" + exchangeId + "]";
+        } else {
+            return "Exchange[]";
+        }
+    }
+
+    @Override
+    public long getCreated() {
+        return created;
+    }
+
+    @Override
+    public Exchange copy() {
+        // copies are never pooled as they are not owned by any exchange factory
+        DefaultExchange exchange = new DefaultExchange(this);
+
+        exchange.setIn(getIn().copy());
+        exchange.getIn().setBody(getIn().getBody());
+        if (getIn().hasHeaders()) {
+            exchange.getIn().setHeaders(safeCopyHeaders(getIn().getHeaders()));
+        }
+        if (hasOut()) {
+            exchange.setOut(getOut().copy());
+            exchange.getOut().setBody(getOut().getBody());
+            if (getOut().hasHeaders()) {
+                exchange.getOut().setHeaders(safeCopyHeaders(getOut().getHeaders()));
+            }
+        }
+
+        exchange.setException(exception);
+        exchange.setRouteStop(routeStop);
+        exchange.setRollbackOnly(rollbackOnly);
+        exchange.setRollbackOnlyLast(rollbackOnlyLast);
+        exchange.setNotifyEvent(notifyEvent);
+        exchange.setRedeliveryExhausted(redeliveryExhausted);
+        exchange.setErrorHandlerHandled(errorHandlerHandled);
+
+        // copy properties after body as body may trigger lazy init
+        if (hasProperties()) {
+            safeCopyProperties(exchange);
+        }
+
+        return exchange;
+    }
+
+    private Map<String, Object> safeCopyHeaders(Map<String, Object> headers) {
+        if (headers == null) {
+            return null;
+        }
+
+        if (context != null) {
+            ExtendedCamelContext ecc = (ExtendedCamelContext) context;
+            HeadersMapFactory factory = ecc.getHeadersMapFactory();
+            if (factory != null) {
+                return factory.newMap(headers);
+            }
+        }
+        // should not really happen but some tests dont start camel context
+        return new HashMap<>(headers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void safeCopyProperties(AbstractExchange target) {
+        target.properties.putAll(properties);
+        System.arraycopy(internalProperties, 0, target.internalProperties, 0, internalProperties.length);
+        if (getContext().isMessageHistory()) {
+            // safe copy message history using a defensive copy
+            int index = ExchangePropertyKey.MESSAGE_HISTORY.ordinal();
+            List<MessageHistory> history = (List<MessageHistory>) target.internalProperties[index];
+            if (history != null) {
+                // use thread-safe list as message history may be accessed concurrently
+                target.internalProperties[index] = new CopyOnWriteArrayList<>(history);
+            }
+        }
+    }
+
+    @Override
+    public CamelContext getContext() {
+        return context;
+    }
+
+    @Override
+    public Object getProperty(ExchangePropertyKey key) {
+        return internalProperties[key.ordinal()];
+    }
+
+    @Override
+    public <T> T getProperty(ExchangePropertyKey key, Class<T> type) {
+        return convertProperty(internalProperties[key.ordinal()], null, type);
+    }
+
+    @Override
+    public <T> T getProperty(ExchangePropertyKey key, Object defaultValue, Class<T> type) {
+        return convertProperty(internalProperties[key.ordinal()], defaultValue, type);
+    }
+
+    @Override
+    public void setProperty(ExchangePropertyKey key, Object value) {
+        // a null value removes the property
+        internalProperties[key.ordinal()] = value;
+    }
+
+    @Override
+    public Object removeProperty(ExchangePropertyKey key) {
+        int index = key.ordinal();
+        Object answer = internalProperties[index];
+        internalProperties[index] = null;
+        return answer;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        ExchangePropertyKey key = ExchangePropertyKey.asExchangePropertyKey(name);
+        if (key != null) {
+            return internalProperties[key.ordinal()];
+        }
+        return properties.get(name);
+    }
+
+    @Override
+    public Object getProperty(String name, Object defaultValue) {
+        Object answer = getProperty(name);
+        return answer != null ? answer : defaultValue;
+    }
+
+    @Override
+    public <T> T getProperty(String name, Class<T> type) {
+        return convertProperty(getProperty(name), null, type);
+    }
+
+    @Override
+    public <T> T getProperty(String name, Object defaultValue, Class<T> type) {
+        return convertProperty(getProperty(name), defaultValue, type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T convertProperty(Object value, Object defaultValue, Class<T> type) {
+        if (value == null) {
+            value = defaultValue;
+        }
+        if (value == null) {
+            // lets avoid NullPointerException when converting to boolean for null values
+            if (boolean.class == type) {
+                return (T) Boolean.FALSE;
+            }
+            return null;
+        }
+
+        // eager same instance type test to avoid the overhead of invoking the type converter
+        // if already same type
+        if (type.isInstance(value)) {
+            return (T) value;
+        }
+
+        return ExchangeHelper.convertToType(this, type, value);
+    }
+
+    @Override
+    public void setProperty(String name, Object value) {
+        ExchangePropertyKey key = ExchangePropertyKey.asExchangePropertyKey(name);
+        if (key != null) {
+            internalProperties[key.ordinal()] = value;
+        } else if (value != null) {
+            // avoid the NullPointException
+            properties.put(name, value);
+        } else {
+            // if the value is null, we just remove the key from the map
+            if (name != null) {
+                properties.remove(name);
+            }
+        }
+    }
+
+    @Override
+    public void setProperties(Map<String, Object> properties) {
+        this.properties.clear();
+        Arrays.fill(internalProperties, null);
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            setProperty(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object removeProperty(String name) {
+        ExchangePropertyKey key = ExchangePropertyKey.asExchangePropertyKey(name);
+        if (key != null) {
+            return removeProperty(key);
+        }
+        if (properties.isEmpty()) {
+            return null;
+        }
+        return properties.remove(name);
+    }
+
+    @Override
+    public boolean removeProperties(String pattern) {
+        return removeProperties(pattern, (String[]) null);
+    }
+
+    @Override
+    public boolean removeProperties(String pattern, String... excludePatterns) {
+        if (!hasProperties()) {
+            return false;
+        }
+
+        // special optimized
+        if (excludePatterns == null && "*".equals(pattern)) {
+            properties.clear();
+            Arrays.fill(internalProperties, null);
+            return true;
+        }
+
+        boolean matches = false;
+        for (int i = 0; i < internalProperties.length; i++) {
+            if (internalProperties[i] != null) {
+                String key = INTERNAL_KEYS[i].getName();
+                if (PatternHelper.matchPattern(key, pattern)) {
+                    if (excludePatterns != null && PatternHelper.isExcludePatternMatch(key, excludePatterns)) {
+                        continue;
+                    }
+                    matches = true;
+                    internalProperties[i] = null;
+                }
+            }
+        }
+
+        // store keys to be removed as we cannot loop and remove at the same time in implementations such as HashMap
+        Set<String> toBeRemoved = null;
+        for (String key : properties.keySet()) {
+            if (PatternHelper.matchPattern(key, pattern)) {
+                if (excludePatterns != null && PatternHelper.isExcludePatternMatch(key, excludePatterns)) {
+                    continue;
+                }
+                matches = true;
+                if (toBeRemoved == null) {
+                    toBeRemoved = new HashSet<>();
+                }
+                toBeRemoved.add(key);
+            }
+        }
+
+        if (toBeRemoved != null) {
+            if (toBeRemoved.size() == properties.size()) {
+                // special optimization when all should be removed
+                properties.clear();
+            } else {
+                for (String key : toBeRemoved) {
+                    properties.remove(key);
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        if (allProperties == null) {
+            allProperties = new PropertiesMap();
+        }
+        return allProperties;
+    }
+
+    @Override
+    public boolean hasProperties() {
+        if (!properties.isEmpty()) {
+            return true;
+        }
+        for (Object value : internalProperties) {
+            if (value != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Message getIn() {
+        if (in == null) {
+            in = new DefaultMessage(getContext());
+            configureMessage(in);
+        }
+        return in;
+    }
+
+    @Override
+    public <T> T getIn(Class<T> type) {
+        Message in = getIn();
+
+        // eager same instance type test to avoid the overhead of invoking the type converter
+        // if already same type
+        if (type.isInstance(in)) {
+            return type.cast(in);
+        }
+
+        // fallback to use type converter
+        return context.getTypeConverter().convertTo(type, this, in);
+    }
+
+    @Override
+    public void setIn(Message in) {
+        this.in = in;
+        configureMessage(in);
+    }
+
+    @Override
+    public Message getOut() {
+        // lazy create
+        if (out == null) {
+            out = (in instanceof MessageSupport)
+                    ? ((MessageSupport) in).newInstance() : new DefaultMessage(getContext());
+            configureMessage(out);
+        }
+        return out;
+    }
+
+    @Override
+    public <T> T getOut(Class<T> type) {
+        if (!hasOut()) {
+            return null;
+        }
+
+        Message out = getOut();
+
+        // eager same instance type test to avoid the overhead of invoking the type converter
+        // if already same type
+        if (type.isInstance(out)) {
+            return type.cast(out);
+        }
+
+        // fallback to use type converter
+        return context.getTypeConverter().convertTo(type, this, out);
+    }
+
+    @Override
+    public boolean hasOut() {
+        return out != null;
+    }
+
+    @Override
+    public void setOut(Message out) {
+        this.out = out;
+        configureMessage(out);
+    }
+
+    @Override
+    public Message getMessage() {
+        return hasOut() ? getOut() : getIn();
+    }
+
+    @Override
+    public <T> T getMessage(Class<T> type) {
+        return hasOut() ? getOut(type) : getIn(type);
+    }
+
+    @Override
+    public void setMessage(Message message) {
+        if (hasOut()) {
+            setOut(message);
+        } else {
+            setIn(message);
+        }
+    }
+
+    @Override
+    public Exception getException() {
+        return exception;
+    }
+
+    @Override
+    public <T> T getException(Class<T> type) {
+        return ObjectHelper.getException(type, exception);
+    }
+
+    @Override
+    public void setException(Throwable t) {
+        if (t == null) {
+            this.exception = null;
+        } else if (t instanceof Exception) {
+            this.exception = (Exception) t;
+        } else {
+            // wrap throwable into an exception
+            this.exception = CamelExecutionException.wrapCamelExecutionException(this, t);
+        }
+        if (t instanceof InterruptedException) {
+            // mark the exchange as interrupted due to the interrupt exception
+            setInterrupted(true);
+        }
+    }
+
+    @Override
+    public <T extends Exchange> T adapt(Class<T> type) {
+        return type.cast(this);
+    }
+
+    @Override
+    public ExchangePattern getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public void setPattern(ExchangePattern pattern) {
+        this.pattern = pattern;
+    }
+
+    @Override
+    public Endpoint getFromEndpoint() {
+        return fromEndpoint;
+    }
+
+    @Override
+    public void setFromEndpoint(Endpoint fromEndpoint) {
+        this.fromEndpoint = fromEndpoint;
+    }
+
+    @Override
+    public String getFromRouteId() {
+        return fromRouteId;
+    }
+
+    @Override
+    public void setFromRouteId(String fromRouteId) {
+        this.fromRouteId = fromRouteId;
+    }
+
+    @Override
+    public String getExchangeId() {
+        if (exchangeId == null) {
+            exchangeId = createExchangeId();
+        }
+        return exchangeId;
+    }
+
+    @Override
+    public void setExchangeId(String id) {
+        this.exchangeId = id;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return exception != null;
+    }
+
+    @Override
+    public boolean isTransacted() {
+        return transacted;
+    }
+
+    @Override
+    public void setTransacted(boolean transacted) {
+        this.transacted = true;
+    }
+
+    @Override
+    public boolean isRouteStop() {
+        return routeStop;
+    }
+
+    @Override
+    public void setRouteStop(boolean routeStop) {
+        this.routeStop = routeStop;
+    }
+
+    @Override
+    public boolean isExternalRedelivered() {
+        if (externalRedelivered == null) {
+            // lets avoid adding methods to the Message API, so we use the
+            // DefaultMessage to allow component specific messages to extend
+            // and implement the isExternalRedelivered method.
+            Message msg = getIn();
+            if (msg instanceof DefaultMessage) {
+                externalRedelivered = ((DefaultMessage) msg).isTransactedRedelivered();
+            }
+            // not from a transactional resource so mark it as false by default
+            if (externalRedelivered == null) {
+                externalRedelivered = false;
+            }
+        }
+        return externalRedelivered;
+    }
+
+    @Override
+    public boolean isRollbackOnly() {
+        return rollbackOnly;
+    }
+
+    @Override
+    public void setRollbackOnly(boolean rollbackOnly) {
+        this.rollbackOnly = rollbackOnly;
+    }
+
+    @Override
+    public boolean isRollbackOnlyLast() {
+        return rollbackOnlyLast;
+    }
+
+    @Override
+    public void setRollbackOnlyLast(boolean rollbackOnlyLast) {
+        this.rollbackOnlyLast = rollbackOnlyLast;
+    }
+
+    @Override
+    public UnitOfWork getUnitOfWork() {
+        return unitOfWork;
+    }
+
+    @Override
+    public void setUnitOfWork(UnitOfWork unitOfWork) {
+        this.unitOfWork = unitOfWork;
+        if (unitOfWork != null && onCompletions != null) {
+            // now an unit of work has been assigned so add the on completions
+            // we might have registered already
+            for (Synchronization onCompletion : onCompletions) {
+                unitOfWork.addSynchronization(onCompletion);
+            }
+            // cleanup the temporary on completion list as they now have been registered
+            // on the unit of work
+            onCompletions.clear();
+            onCompletions = null;
+        }
+    }
+
+    @Override
+    public void addOnCompletion(Synchronization onCompletion) {
+        if (unitOfWork == null) {
+            // unit of work not yet registered so we store the on completion temporary
+            // until the unit of work is assigned to this exchange by the unit of work
+            if (onCompletions == null) {
+                onCompletions = new ArrayList<>();
+            }
+            onCompletions.add(onCompletion);
+        } else {
+            getUnitOfWork().addSynchronization(onCompletion);
+        }
+    }
+
+    @Override
+    public boolean containsOnCompletion(Synchronization onCompletion) {
+        if (unitOfWork != null) {
+            // if there is an unit of work then the completions is moved there
+            return unitOfWork.containsSynchronization(onCompletion);
+        } else {
+            // check temporary completions if no unit of work yet
+            return onCompletions != null && onCompletions.contains(onCompletion);
+        }
+    }
+
+    @Override
+    public void handoverCompletions(Exchange target) {
+        if (onCompletions != null) {
+            for (Synchronization onCompletion : onCompletions) {
+                target.adapt(ExtendedExchange.class).addOnCompletion(onCompletion);
+            }
+            // cleanup the temporary on completion list as they have been handed over
+            onCompletions.clear();
+            onCompletions = null;
+        } else if (unitOfWork != null) {
+            // let unit of work handover
+            unitOfWork.handoverSynchronization(target);
+        }
+    }
+
+    @Override
+    public List<Synchronization> handoverCompletions() {
+        List<Synchronization> answer = null;
+        if (onCompletions != null) {
+            answer = new ArrayList<>(onCompletions);
+            onCompletions.clear();
+            onCompletions = null;
+        }
+        return answer;
+    }
+
+    @Override
+    public String getHistoryNodeId() {
+        return historyNodeId;
+    }
+
+    @Override
+    public void setHistoryNodeId(String historyNodeId) {
+        this.historyNodeId = historyNodeId;
+    }
+
+    @Override
+    public String getHistoryNodeLabel() {
+        return historyNodeLabel;
+    }
+
+    @Override
+    public void setHistoryNodeLabel(String historyNodeLabel) {
+        this.historyNodeLabel = historyNodeLabel;
+    }
+
+    @Override
+    public boolean isNotifyEvent() {
+        return notifyEvent;
+    }
+
+    @Override
+    public void setNotifyEvent(boolean notifyEvent) {
+        this.notifyEvent = notifyEvent;
+    }
+
+    @Override
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+
+    @Override
+    public void setInterrupted(boolean interrupted) {
+        if (interruptable) {
+            this.interrupted = interrupted;
+        }
+    }
+
+    @Override
+    public void setInterruptable(boolean interruptable) {
+        this.interruptable = interruptable;
+    }
+
+    @Override
+    public boolean isRedeliveryExhausted() {
+        return redeliveryExhausted;
+    }
+
+    @Override
+    public void setRedeliveryExhausted(boolean redeliveryExhausted) {
+        this.redeliveryExhausted = redeliveryExhausted;
+    }
+
+    public Boolean getErrorHandlerHandled() {
+        return errorHandlerHandled;
+    }
+
+    @Override
+    public boolean isErrorHandlerHandledSet() {
+        return errorHandlerHandled != null;
+    }
+
+    @Override
+    public boolean isErrorHandlerHandled() {
+        return errorHandlerHandled;
+    }
+
+    @Override
+    public void setErrorHandlerHandled(Boolean errorHandlerHandled) {
+        this.errorHandlerHandled = errorHandlerHandled;
+    }
+
+    /**
+     * Configures the message after it has been set on the exchange
+     */
+    protected void configureMessage(Message message) {
+        if (message instanceof MessageSupport) {
+            MessageSupport messageSupport = (MessageSupport) message;
+            messageSupport.setExchange(this);
+            messageSupport.setCamelContext(getContext());
+        }
+    }
+
+    protected String createExchangeId() {
+        return context.getUuidGenerator().generateUuid();
+    }
+
+    /**
+     * A live view of the internal and custom properties as a single map, which is what end users see as the exchange
+     * properties.
+     */
+    private final class PropertiesMap extends AbstractMap<String, Object> {
+
+        private final Set<Map.Entry<String, Object>> entrySet = new PropertiesEntrySet();
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? getProperty((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            // same as ConcurrentHashMap which does not allow null keys or values
+            Objects.requireNonNull(key);
+            Objects.requireNonNull(value);
+            ExchangePropertyKey epk = ExchangePropertyKey.asExchangePropertyKey(key);
+            if (epk != null) {
+                Object answer = internalProperties[epk.ordinal()];
+                internalProperties[epk.ordinal()] = value;
+                return answer;
+            }
+            return properties.put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return key instanceof String ? removeProperty((String) key) : null;
+        }
+
+        @Override
+        public void clear() {
+            properties.clear();
+            Arrays.fill(internalProperties, null);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasProperties();
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            return entrySet;
+        }
+    }
+
+    private final class PropertiesEntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new PropertiesIterator();
+        }
+
+        @Override
+        public int size() {
+            int size = properties.size();
+            for (Object value : internalProperties) {
+                if (value != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+    }
+
+    private final class PropertiesIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private final Iterator<Map.Entry<String, Object>> custom = properties.entrySet().iterator();
+        private int index = -1;
+        // the next internal entry is looked up in advance so hasNext and next agree
+        // even if the property is removed in the meantime
+        private InternalEntry nextInternal;
+        private InternalEntry lastInternal;
+        private boolean canRemove;
+
+        PropertiesIterator() {
+            advance();
+        }
+
+        private void advance() {
+            nextInternal = null;
+            while (++index < internalProperties.length) {
+                Object value = internalProperties[index];
+                if (value != null) {
+                    nextInternal = new InternalEntry(INTERNAL_KEYS[index], value);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextInternal != null || custom.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (nextInternal != null) {
+                lastInternal = nextInternal;
+                canRemove = true;
+                advance();
+                return lastInternal;
+            }
+            if (!custom.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<String, Object> answer = custom.next();
+            lastInternal = null;
+            canRemove = true;
+            return answer;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            canRemove = false;
+            if (lastInternal != null) {
+                internalProperties[lastInternal.index] = null;
+            } else {
+                custom.remove();
+            }
+        }
+    }
+
+    private final class InternalEntry extends AbstractMap.SimpleEntry<String, Object> {
+
+        private final int index;
+
+        InternalEntry(ExchangePropertyKey key, Object value) {
+            super(key.getName(), value);
+            this.index = key.ordinal();
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Objects.requireNonNull(value);
+            internalProperties[index] = value;
+            return super.setValue(value);
+        }
+    }
+
+}
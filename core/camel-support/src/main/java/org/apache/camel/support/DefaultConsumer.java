@@ -22,10 +22,12 @@ import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.PooledExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.RouteAware;
 import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.support.service.ServiceHelper;
@@ -45,6 +47,7 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     private final Endpoint endpoint;
     private final Processor processor;
     private final AsyncProcessor asyncProcessor;
+    private final ExchangeFactory exchangeFactory;
     private ExceptionHandler exceptionHandler;
     private Route route;
     private String routeId;
@@ -54,6 +57,13 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
         this.processor = processor;
         this.asyncProcessor = AsyncProcessorConverterHelper.convert(processor);
         this.exceptionHandler = new LoggingExceptionHandler(endpoint.getCamelContext(), getClass());
+        if (endpoint.getCamelContext() != null) {
+            // each consumer has its own private exchange factory (pool)
+            this.exchangeFactory = endpoint.getCamelContext().adapt(ExtendedCamelContext.class).getExchangeFactory()
+                    .newExchangeFactory(this);
+        } else {
+            this.exchangeFactory = null;
+        }
     }
 
     @Override
@@ -84,6 +94,46 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
         this.routeId = routeId;
     }
 
+    /**
+     * Creates an {@link Exchange} which was received from this consumer.
+     * <p/>
+     * The exchange is created by the {@link ExchangeFactory} which may pool and reuse exchanges. If the exchange is not
+     * auto released then the consumer must call {@link #releaseExchange(Exchange, boolean)} when it is done with the
+     * exchange.
+     *
+     * @param autoRelease whether to auto release the exchange when its done being routed (the unit of work is done)
+     */
+    public Exchange createExchange(boolean autoRelease) {
+        if (exchangeFactory == null) {
+            return endpoint.createExchange();
+        }
+        return exchangeFactory.create(endpoint, autoRelease);
+    }
+
+    /**
+     * Releases the {@link Exchange} when its completed processing and no longer needed.
+     *
+     * @param exchange    the exchange
+     * @param autoRelease whether the exchange was created with auto release
+     */
+    public void releaseExchange(Exchange exchange, boolean autoRelease) {
+        if (exchange != null && exchangeFactory != null) {
+            if (!autoRelease && exchange instanceof PooledExchange) {
+                // if not auto release we must manually force done
+                ((PooledExchange) exchange).done(true);
+            } else {
+                exchangeFactory.release(exchange);
+            }
+        }
+    }
+
+    /**
+     * The {@link ExchangeFactory} this consumer uses for creating exchanges.
+     */
+    public ExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
     /**
      * If the consumer needs to defer done the {@link org.apache.camel.spi.UnitOfWork} on the processed {@link Exchange}
      * then this method should be use to create and start the {@link UnitOfWork} on the exchange.
@@ -149,19 +199,19 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     @Override
     protected void doInit() throws Exception {
         LOG.debug("Init consumer: {}", this);
-        ServiceHelper.initService(processor);
+        ServiceHelper.initService(exchangeFactory, processor);
     }
 
     @Override
     protected void doStop() throws Exception {
         LOG.debug("Stopping consumer: {}", this);
-        ServiceHelper.stopService(processor);
+        ServiceHelper.stopService(exchangeFactory, processor);
     }
 
     @Override
     protected void doStart() throws Exception {
         LOG.debug("Starting consumer: {}", this);
-        ServiceHelper.startService(processor);
+        ServiceHelper.startService(exchangeFactory, processor);
     }
 
     /**
@@ -299,6 +299,14 @@ public class DefaultMessage extends MessageSupport {
         return !headers.isEmpty();
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        if (headers != null) {
+            headers.clear();
+        }
+    }
+
     @Override
     public DefaultMessage newInstance() {
         return new DefaultMessage(camelContext);
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Arrays;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.PooledExchange;
+
+/**
+ * The pooled implementation of {@link Exchange} which is created by a pooled
+ * {@link org.apache.camel.spi.ExchangeFactory} and is reset and reused after it has been released.
+ *
+ * @see DefaultExchange
+ */
+public final class DefaultPooledExchange extends AbstractExchange implements PooledExchange {
+
+    private final ExchangePattern originalPattern;
+    private OnDoneTask onDone;
+    private boolean autoRelease;
+
+    public DefaultPooledExchange(CamelContext context) {
+        super(context);
+        this.originalPattern = getPattern();
+    }
+
+    public DefaultPooledExchange(CamelContext context, ExchangePattern pattern) {
+        super(context, pattern);
+        this.originalPattern = pattern;
+    }
+
+    public DefaultPooledExchange(Endpoint fromEndpoint) {
+        super(fromEndpoint);
+        this.originalPattern = getPattern();
+    }
+
+    public DefaultPooledExchange(Endpoint fromEndpoint, ExchangePattern pattern) {
+        super(fromEndpoint, pattern);
+        this.originalPattern = pattern;
+    }
+
+    @Override
+    public void onDone(OnDoneTask task) {
+        this.onDone = task;
+    }
+
+    @Override
+    public void done(boolean forced) {
+        // created is 0 when the exchange has already been done and not yet reset for reuse
+        if (created > 0 && (forced || autoRelease)) {
+            this.created = 0;
+            this.properties.clear();
+            Arrays.fill(this.internalProperties, null);
+            this.exchangeId = null;
+            if (in instanceof DefaultMessage && in.getClass() == DefaultMessage.class) {
+                // the default message can be reset and reused
+                ((DefaultMessage) in).reset();
+            } else {
+                // component specific messages are always created again
+                this.in = null;
+            }
+            this.out = null;
+            this.exception = null;
+            this.unitOfWork = null;
+            this.pattern = originalPattern;
+            this.fromRouteId = null;
+            this.onCompletions = null;
+            this.externalRedelivered = null;
+            this.historyNodeId = null;
+            this.historyNodeLabel = null;
+            this.transacted = false;
+            this.routeStop = false;
+            this.rollbackOnly = false;
+            this.rollbackOnlyLast = false;
+            this.notifyEvent = false;
+            this.interrupted = false;
+            this.interruptable = true;
+            this.redeliveryExhausted = false;
+            this.errorHandlerHandled = null;
+
+            if (onDone != null) {
+                onDone.onDone(this);
+            }
+        }
+    }
+
+    @Override
+    public void reset(long created) {
+        this.created = created;
+    }
+
+    @Override
+    public boolean isAutoRelease() {
+        return autoRelease;
+    }
+
+    @Override
+    public void setAutoRelease(boolean autoRelease) {
+        this.autoRelease = autoRelease;
+    }
+
+}
@@ -34,16 +34,26 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.VirtualThreadHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
+ * <p/>
+ * Thread pools for profiles with virtual threads enabled, starts a new virtual thread for each task, when virtual
+ * threads are supported on the JVM.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultThreadPoolFactory.class);
+
     private CamelContext camelContext;
+    private volatile boolean virtualThreadsWarned;
 
     @Override
     public CamelContext getCamelContext() {
@@ -62,6 +72,13 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (isVirtualThreads(profile)) {
+            ExecutorService answer = newVirtualThreadPool(factory);
+            if (answer != null) {
+                return answer;
+            }
+        }
+
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -117,6 +134,41 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         return answer;
     }
 
+    /**
+     * Whether thread pools for the given profile should use virtual threads.
+     */
+    protected boolean isVirtualThreads(ThreadPoolProfile profile) {
+        return Boolean.TRUE.equals(profile.getVirtualThreads());
+    }
+
+    /**
+     * Creates a thread pool which starts a new virtual thread for each task.
+     * <p/>
+     * The threads are named using the naming pattern of the given {@link CamelThreadFactory}. Only a
+     * {@link CamelThreadFactory} can create virtual threads, so for any other thread factory <tt>null</tt> is returned,
+     * to create a regular (bounded) thread pool instead of starting a platform thread for each task.
+     *
+     * @param  threadFactory factory for creating threads
+     * @return               the created thread pool, or <tt>null</tt> if virtual threads are not supported on the JVM
+     *                       or by the thread factory
+     */
+    protected ExecutorService newVirtualThreadPool(ThreadFactory threadFactory) {
+        if (!VirtualThreadHelper.isVirtualThreadsSupported()) {
+            if (!virtualThreadsWarned) {
+                virtualThreadsWarned = true;
+                LOG.warn("Virtual threads are not supported on this JVM. Using regular thread pools instead.");
+            }
+            return null;
+        }
+        if (!(threadFactory instanceof CamelThreadFactory)) {
+            LOG.debug("Cannot use virtual threads with thread factory: {}. Using regular thread pool instead.",
+                    threadFactory);
+            return null;
+        }
+        threadFactory = ((CamelThreadFactory) threadFactory).withVirtualThreads();
+        return VirtualThreadHelper.newThreadPerTaskExecutor(threadFactory);
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
@@ -845,19 +845,32 @@ public final class ExchangeHelper {
      */
     public static Exchange copyExchangeAndSetCamelContext(Exchange exchange, CamelContext context, boolean handover) {
         DefaultExchange answer = new DefaultExchange(context, exchange.getPattern());
+        copyExchange(exchange, answer, handover);
+        return answer;
+    }
+
+    /**
+     * Copies the exchange into the given target exchange, such as an exchange created from a
+     * {@link org.apache.camel.spi.ExchangeFactory}.
+     *
+     * @param exchange the source exchange
+     * @param target   the target exchange which should be a new exchange
+     * @param handover whether to handover on completions from the source to the target
+     */
+    public static void copyExchange(Exchange exchange, Exchange target, boolean handover) {
+        target.setPattern(exchange.getPattern());
         if (exchange.hasProperties()) {
-            answer.setProperties(safeCopyProperties(exchange.getProperties()));
+            target.adapt(ExtendedExchange.class).setProperties(safeCopyProperties(exchange.getProperties()));
         }
         if (handover) {
             // Need to hand over the completion for async invocation
-            exchange.adapt(ExtendedExchange.class).handoverCompletions(answer);
+            exchange.adapt(ExtendedExchange.class).handoverCompletions(target);
         }
-        answer.setIn(exchange.getIn().copy());
+        target.setIn(exchange.getIn().copy());
         if (exchange.hasOut()) {
-            answer.setOut(exchange.getOut().copy());
+            target.setOut(exchange.getOut().copy());
         }
-        answer.setException(exchange.getException());
-        return answer;
+        target.setException(exchange.getException());
     }
 
     /**
@@ -254,6 +254,15 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         this.typeConverter = camelContext.getTypeConverter();
     }
 
+    /**
+     * Resets the message so it can be reused, such as by a pooled {@link Exchange}.
+     */
+    public void reset() {
+        body = null;
+        messageId = null;
+        dataType = null;
+    }
+
     /**
      * Returns a new instance
      */
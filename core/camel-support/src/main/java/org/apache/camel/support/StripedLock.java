@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A lock which is divided into a number of stripes (reentrant locks), where each key is hashed to one of the stripes.
+ * <p/>
+ * Use {@link #getLock(Object)} to lock only the stripe for a given key, which allows threads working on keys that
+ * belong to different stripes to run concurrently. Using this class as a {@link Lock} locks all the stripes, which
+ * gives exclusive access across all keys.
+ * <p/>
+ * <b>Important:</b> A thread that holds the stripe of a key must not lock all the stripes, as this can deadlock with
+ * other threads doing the same.
+ */
+public class StripedLock implements Lock {
+
+    private final Lock[] stripes;
+    private final int mask;
+
+    /**
+     * Creates a striped lock.
+     *
+     * @param stripes the number of stripes, which is rounded up to the nearest power of two.
+     */
+    public StripedLock(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripes must be a positive number, was: " + stripes);
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the lock for the stripe the given key belongs to.
+     *
+     * @param  key the key
+     * @return     the lock for the stripe
+     */
+    public Lock getLock(Object key) {
+        int h = key.hashCode();
+        // spread the higher bits as only the lower bits are used to select the stripe
+        h ^= h >>> 16;
+        return stripes[h & mask];
+    }
+
+    /**
+     * Number of stripes
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    @Override
+    public void lock() {
+        for (Lock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        int i = 0;
+        try {
+            for (; i < stripes.length; i++) {
+                stripes[i].lockInterruptibly();
+            }
+        } catch (InterruptedException e) {
+            unlock(i);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean tryLock() {
+        for (int i = 0; i < stripes.length; i++) {
+            if (!stripes[i].tryLock()) {
+                unlock(i);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(time);
+        int i = 0;
+        try {
+            for (; i < stripes.length; i++) {
+                if (!stripes[i].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    unlock(i);
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            unlock(i);
+            throw e;
+        }
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        unlock(stripes.length);
+    }
+
+    private void unlock(int count) {
+        // unlock in reverse order of locking
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+        return "StripedLock[stripes=" + stripes.length + "]";
+    }
+}
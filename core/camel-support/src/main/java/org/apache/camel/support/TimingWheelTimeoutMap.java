@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Comparator.comparing;
+import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
+import static org.apache.camel.TimeoutMap.Listener.Type.Put;
+import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
+
+/**
+ * A {@link TimeoutMap} based on a hashed timing wheel, which is suited for maps holding a large number of entries.
+ * <p/>
+ * The {@link DefaultTimeoutMap} scans the entire map on every purge, whereas this implementation keeps the entries in
+ * buckets (one bucket per tick of the purge poll time) organized as a wheel, where each entry is linked into the bucket
+ * of the tick it expires. Adding, refreshing and removing an entry is therefore O(1), and a purge only visits the
+ * buckets of the ticks that have elapsed since the last purge. Entries which expire more than a full rotation of the
+ * wheel ahead are kept in their bucket until the wheel comes around to their tick.
+ * <p/>
+ * This implementation supports thread safe and non thread safe, in the manner you can enable locking or not. By default
+ * locking is enabled and thus we are thread safe.
+ * <p/>
+ * You must provide a {@link java.util.concurrent.ScheduledExecutorService} in the constructor which is used to schedule
+ * a background task which purges the expired entries. You must also invoke {@link #start()} to startup the timeout map,
+ * before its ready to be used. And you must invoke {@link #stop()} to stop the map when no longer in use.
+ */
+public class TimingWheelTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
+
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final Map<K, WheelEntry<K, V>> map = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+    private volatile ScheduledFuture<?> future;
+    private final long purgePollTime;
+    private final Lock lock;
+    private final WheelEntry<K, V>[] wheel;
+    private final int mask;
+    // the last tick where all its entries has been purged
+    private long lastTick;
+
+    private final List<Listener<K, V>> listeners = new ArrayList<>(2);
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor) {
+        this(executor, 1000);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        this(executor, requestMapPollTimeMillis, true);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, boolean useLock) {
+        this(executor, requestMapPollTimeMillis, useLock ? new ReentrantLock() : NoLock.INSTANCE);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, Lock lock) {
+        this(executor, requestMapPollTimeMillis, lock, DEFAULT_WHEEL_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, Lock lock,
+                                 int wheelSize) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        if (requestMapPollTimeMillis <= 0) {
+            throw new IllegalArgumentException("RequestMapPollTimeMillis must be a positive number");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("WheelSize must be a positive number");
+        }
+        this.executor = executor;
+        this.purgePollTime = requestMapPollTimeMillis;
+        this.lock = lock;
+        // round up to power of two so the bucket can be selected by masking the tick
+        int size = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.wheel = new WheelEntry[size];
+        for (int i = 0; i < size; i++) {
+            // each bucket is a circular doubly linked list with a sentinel head
+            this.wheel[i] = new WheelEntry<>(null, null, 0);
+        }
+        this.mask = size - 1;
+        this.lastTick = System.currentTimeMillis() / purgePollTime - 1;
+    }
+
+    @Override
+    public V get(K key) {
+        WheelEntry<K, V> entry;
+        lock.lock();
+        try {
+            entry = map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            updateExpireTime(entry);
+            schedule(entry);
+        } finally {
+            lock.unlock();
+        }
+        return entry.getValue();
+    }
+
+    @Override
+    public V put(K key, V value, long timeoutMillis) {
+        WheelEntry<K, V> entry = new WheelEntry<>(key, value, timeoutMillis);
+        lock.lock();
+        try {
+            updateExpireTime(entry);
+            WheelEntry<K, V> result = map.put(key, entry);
+            if (result != null) {
+                result.unlink();
+            }
+            schedule(entry);
+            return unwrap(result);
+        } finally {
+            lock.unlock();
+            emitEvent(Put, key, value);
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value, long timeoutMillis) {
+        WheelEntry<K, V> entry = new WheelEntry<>(key, value, timeoutMillis);
+        WheelEntry<K, V> result = null;
+        lock.lock();
+        try {
+            updateExpireTime(entry);
+            //Just make sure we don't override the old entry
+            result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                schedule(entry);
+            }
+            return unwrap(result);
+        } finally {
+            lock.unlock();
+            if (result == null) {
+                emitEvent(Put, key, value); // conditional on map being changed
+            }
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        V value = null;
+        lock.lock();
+        try {
+            WheelEntry<K, V> entry = map.remove(key);
+            if (entry != null) {
+                entry.unlink();
+                value = entry.getValue();
+            }
+            return value;
+        } finally {
+            lock.unlock();
+            if (value != null) {
+                emitEvent(Remove, key, value); // conditional on map being changed
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * The timer task which purges old requests and schedules another poll
+     */
+    private void purgeTask() {
+        // only purge if allowed
+        if (!isRunAllowed()) {
+            log.trace("Purge task not allowed to run");
+            return;
+        }
+
+        log.trace("Running purge task to see if any entries have been timed out");
+        try {
+            purge();
+        } catch (Throwable t) {
+            // must catch and log exception otherwise the executor will now schedule next purgeTask
+            log.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    protected void purge() {
+        log.trace("There are {} in the timeout map", map.size());
+
+        long now = currentTime();
+        long nowTick = now / purgePollTime;
+
+        List<TimeoutMapEntry<K, V>> expired = null;
+        List<WheelEntry<K, V>> retry = null;
+        lock.lock();
+        try {
+            // visit the buckets of the elapsed ticks including the current tick, but at most one rotation of the wheel
+            long from = Math.max(lastTick + 1, nowTick - mask);
+            for (long tick = from; tick <= nowTick; tick++) {
+                WheelEntry<K, V> head = wheel[(int) (tick & mask)];
+                WheelEntry<K, V> entry = head.next;
+                while (entry != head) {
+                    WheelEntry<K, V> next = entry.next;
+                    if (entry.getExpireTime() < now) {
+                        if (isValidForEviction(entry)) {
+                            log.debug("Evicting inactive entry ID: {}", entry);
+                            entry.unlink();
+                            map.remove(entry.getKey());
+                            if (expired == null) {
+                                expired = new ArrayList<>();
+                            }
+                            expired.add(entry);
+                        } else {
+                            // check again on the next tick
+                            entry.unlink();
+                            if (retry == null) {
+                                retry = new ArrayList<>();
+                            }
+                            retry.add(entry);
+                        }
+                    }
+                    entry = next;
+                }
+            }
+            // the current tick is not fully elapsed so its bucket must be visited again on next purge
+            lastTick = nowTick - 1;
+            if (retry != null) {
+                for (WheelEntry<K, V> entry : retry) {
+                    link(entry, nowTick + 1);
+                }
+            }
+
+            // if we found any expired then we need to sort so we got the first expired first
+            if (expired != null) {
+                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+            }
+        } finally {
+            lock.unlock();
+            if (expired != null) {
+                for (TimeoutMapEntry<K, V> entry : expired) {
+                    emitEvent(Evict, entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public long getPurgePollTime() {
+        return purgePollTime;
+    }
+
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Number of buckets in the wheel
+     */
+    public int getWheelSize() {
+        return wheel.length;
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private static <K, V> V unwrap(TimeoutMapEntry<K, V> entry) {
+        return entry == null ? null : entry.getValue();
+    }
+
+    /**
+     * Links the entry into the bucket of the tick it expires, which must be done while holding the lock.
+     */
+    private void schedule(WheelEntry<K, V> entry) {
+        entry.unlink();
+        // an entry that expires in a tick that has already been purged must go into the next bucket to purge
+        long tick = Math.max(entry.getExpireTime() / purgePollTime, lastTick + 1);
+        link(entry, tick);
+    }
+
+    private void link(WheelEntry<K, V> entry, long tick) {
+        WheelEntry<K, V> head = wheel[(int) (tick & mask)];
+        // add last so entries with the same expire time are evicted in the order they were added
+        entry.prev = head.prev;
+        entry.next = head;
+        head.prev.next = entry;
+        head.prev = entry;
+    }
+
+    @Override
+    public void addListener(Listener<K, V> listener) {
+        this.listeners.add(listener);
+    }
+
+    private void emitEvent(Listener.Type type, K key, V value) {
+        for (Listener<K, V> listener : listeners) {
+            try {
+                listener.timeoutMapEvent(type, key, value);
+            } catch (Throwable t) {
+                // Ignore
+            }
+        }
+    }
+
+    /**
+     * lets schedule each time to allow folks to change the time at runtime
+     */
+    protected void schedulePoll() {
+        future = executor.scheduleWithFixedDelay(this::purgeTask, 0, purgePollTime, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A hook to allow derivations to avoid evicting the current entry
+     */
+    protected boolean isValidForEviction(TimeoutMapEntry<K, V> entry) {
+        return true;
+    }
+
+    protected void updateExpireTime(TimeoutMapEntry<K, V> entry) {
+        long now = currentTime();
+        entry.setExpireTime(entry.getTimeout() + now);
+    }
+
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        schedulePoll();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        // clear map if we stop
+        lock.lock();
+        try {
+            map.clear();
+            for (WheelEntry<K, V> head : wheel) {
+                head.next = head;
+                head.prev = head;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Entry which is linked into a bucket of the wheel.
+     */
+    private static final class WheelEntry<K, V> extends TimeoutMapEntry<K, V> {
+
+        private WheelEntry<K, V> prev = this;
+        private WheelEntry<K, V> next = this;
+
+        private WheelEntry(K id, V handler, long timeout) {
+            super(id, handler, timeout);
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.camel.spi.ThreadPoolProfile;
+
+/**
+ * Factory for thread pools that starts a new virtual thread for each task, when virtual threads are supported on the
+ * JVM. Otherwise regular thread pools are created as by {@link DefaultThreadPoolFactory}.
+ * <p/>
+ * Virtual threads are used by all thread pools, except for scheduled thread pools, and profiles which have virtual
+ * threads explicit disabled (such as fixed and single threaded pools).
+ */
+public class VirtualThreadPoolFactory extends DefaultThreadPoolFactory {
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        ExecutorService answer = newVirtualThreadPool(threadFactory);
+        if (answer == null) {
+            answer = super.newCachedThreadPool(threadFactory);
+        }
+        return answer;
+    }
+
+    @Override
+    protected boolean isVirtualThreads(ThreadPoolProfile profile) {
+        return !Boolean.FALSE.equals(profile.getVirtualThreads());
+    }
+
+}
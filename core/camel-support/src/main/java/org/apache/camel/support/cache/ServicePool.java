@@ -16,13 +16,14 @@
  */
 package org.apache.camel.support.cache;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
@@ -38,6 +39,8 @@ import org.slf4j.LoggerFactory;
 /**
  * A base class for a pool for either producers or consumers used by {@link org.apache.camel.spi.ProducerCache} and
  * {@link org.apache.camel.spi.ConsumerCache}.
+ * <p/>
+ * The pools do not lock when acquiring and releasing, so many threads can send to the same endpoint concurrently.
  */
 abstract class ServicePool<S extends Service> extends ServiceSupport implements NonManagedService {
 
@@ -49,6 +52,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     // keep track of all singleton endpoints with a pooled producer that are evicted
     // for multi pool then they have their own house-keeping for evictions (more complex)
     private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
     private int capacity;
     private Map<S, S> cache;
 
@@ -70,7 +76,16 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         this.creator = creator;
         this.getEndpoint = getEndpoint;
         this.capacity = capacity;
-        this.cache = capacity > 0 ? LRUCacheFactory.newLRUCache(capacity, this::onEvict) : null;
+        this.cache = capacity > 0 ? createCache(capacity) : null;
+    }
+
+    private Map<S, S> createCache(int capacity) {
+        Map<S, S> answer = LRUCacheFactory.newLRUCache(capacity, this::onEvict);
+        if (!(answer instanceof LRUCache)) {
+            // the default LRU cache is not thread-safe, and the services are added from many threads
+            answer = Collections.synchronizedMap(answer);
+        }
+        return answer;
     }
 
     /**
@@ -146,6 +161,36 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         return pool.values().stream().mapToInt(Pool::size).sum();
     }
 
+    /**
+     * Number of times a producer/consumer was acquired from the pool
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times a new producer/consumer was created as none was available in the pool
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of producers/consumers which have been evicted from the pool
+     */
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    /**
+     * Resets the hits, misses and evicted counters
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
     /**
      * Cleanup the pool (removing stale instances that should be evicted)
      */
@@ -202,18 +247,25 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public S acquire() throws Exception {
             cleanupEvicts();
 
-            if (s == null) {
+            S answer = s;
+            if (answer == null) {
                 synchronized (this) {
-                    if (s == null) {
+                    answer = s;
+                    if (answer == null) {
                         LOG.trace("Creating service from endpoint: {}", endpoint);
-                        S tempS = creator.apply(endpoint);
-                        endpoint.getCamelContext().addService(tempS, true, true);
-                        s = tempS;
+                        answer = creator.apply(endpoint);
+                        endpoint.getCamelContext().addService(answer, true, true);
+                        s = answer;
+                        misses.increment();
+                    } else {
+                        hits.increment();
                     }
                 }
+            } else {
+                hits.increment();
             }
-            LOG.trace("Acquired service: {}", s);
-            return s;
+            LOG.trace("Acquired service: {}", answer);
+            return answer;
         }
 
         @Override
@@ -251,11 +303,14 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         }
 
         private void cleanupEvicts() {
-            singlePoolEvicted.forEach((e, p) -> {
-                doStop(e);
-                p.stop();
-                singlePoolEvicted.remove(e);
-            });
+            if (!singlePoolEvicted.isEmpty()) {
+                singlePoolEvicted.forEach((e, p) -> {
+                    doStop(e);
+                    p.stop();
+                    singlePoolEvicted.remove(e);
+                    evicted.increment();
+                });
+            }
         }
 
         void doStop(Service s) {
@@ -273,29 +328,33 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     /**
      * Pool used for non-singleton producers or consumers which are not thread-safe and can only be used by one worker
      * thread at any given time.
+     * <p/>
+     * The idle producers or consumers are kept in a lock-free queue bounded by the capacity. There is no thread
+     * affinity as a producer is often released by another thread than the one that acquired it, when routing
+     * asynchronously.
      */
     private class MultiplePool implements Pool<S> {
         private final Endpoint endpoint;
-        private final BlockingQueue<S> queue;
-        private final List<S> evicts;
+        private final Queue<S> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queueSize = new AtomicInteger();
+        private final Queue<S> evicts = new ConcurrentLinkedQueue<>();
 
         MultiplePool(Endpoint endpoint) {
             this.endpoint = endpoint;
-            this.queue = new ArrayBlockingQueue<>(capacity);
-            this.evicts = new ArrayList<>();
         }
 
         private void cleanupEvicts() {
             if (!evicts.isEmpty()) {
-                synchronized (this) {
-                    if (!evicts.isEmpty()) {
-                        evicts.forEach(this::doStop);
-                        evicts.forEach(queue::remove);
-                        evicts.clear();
-                        if (queue.isEmpty()) {
-                            pool.remove(endpoint);
-                        }
+                S s;
+                while ((s = evicts.poll()) != null) {
+                    doStop(s);
+                    if (queue.remove(s)) {
+                        queueSize.decrementAndGet();
                     }
+                    evicted.increment();
+                }
+                if (queue.isEmpty()) {
+                    pool.remove(endpoint);
                 }
             }
         }
@@ -305,9 +364,13 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             cleanupEvicts();
 
             S s = queue.poll();
-            if (s == null) {
+            if (s != null) {
+                queueSize.decrementAndGet();
+                hits.increment();
+            } else {
                 s = creator.apply(endpoint);
                 s.start();
+                misses.increment();
             }
             return s;
         }
@@ -316,21 +379,29 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public void release(S s) {
             cleanupEvicts();
 
-            if (!queue.offer(s)) {
+            // reserve room in the queue before adding so the capacity is never exceeded
+            if (queueSize.incrementAndGet() <= capacity) {
+                queue.offer(s);
+            } else {
+                queueSize.decrementAndGet();
                 // there is no room so lets just stop and discard this
                 doStop(s);
+                evicted.increment();
             }
         }
 
         @Override
         public int size() {
-            return queue.size();
+            return queueSize.get();
         }
 
         @Override
         public void stop() {
-            queue.forEach(this::doStop);
-            queue.clear();
+            S s;
+            while ((s = queue.poll()) != null) {
+                queueSize.decrementAndGet();
+                doStop(s);
+            }
             pool.remove(endpoint);
         }
 
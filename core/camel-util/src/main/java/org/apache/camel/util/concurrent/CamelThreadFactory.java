@@ -23,6 +23,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
+ * <p/>
+ * The factory can create virtual threads instead of platform threads, when virtual threads are supported on the JVM
+ * (see {@link VirtualThreadHelper}).
  */
 public final class CamelThreadFactory implements ThreadFactory {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
@@ -30,18 +33,45 @@ public final class CamelThreadFactory implements ThreadFactory {
     private final String pattern;
     private final String name;
     private final boolean daemon;
+    private final boolean virtual;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    /**
+     * Creates the thread factory
+     *
+     * @param pattern the thread name pattern
+     * @param name    the name
+     * @param daemon  whether platform threads are daemon threads (virtual threads are always daemon threads)
+     * @param virtual whether to create virtual threads, which is ignored if virtual threads are not supported on the
+     *                JVM
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
+        this.virtual = virtual && VirtualThreadHelper.isVirtualThreadsSupported();
+    }
+
+    /**
+     * Creates a copy of this thread factory which creates virtual threads (if supported) using the same naming pattern.
+     */
+    public CamelThreadFactory withVirtualThreads() {
+        return new CamelThreadFactory(pattern, name, daemon, true);
     }
 
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
-        Thread answer = new Thread(runnable, threadName);
-        answer.setDaemon(daemon);
+        Thread answer;
+        if (virtual) {
+            answer = VirtualThreadHelper.newVirtualThread(threadName, runnable);
+        } else {
+            answer = new Thread(runnable, threadName);
+            answer.setDaemon(daemon);
+        }
 
         LOG.trace("Created thread[{}] -> {}", threadName, answer);
         return answer;
@@ -51,8 +81,15 @@ public final class CamelThreadFactory implements ThreadFactory {
         return name;
     }
 
+    /**
+     * Whether this factory creates virtual threads
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
     @Override
     public String toString() {
-        return "CamelThreadFactory[" + name + "]";
+        return "CamelThreadFactory[" + name + (virtual ? ", virtual" : "") + "]";
     }
 }
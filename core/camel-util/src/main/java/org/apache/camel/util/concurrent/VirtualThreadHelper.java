@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Helper for virtual threads.
+ * <p/>
+ * Virtual threads are only available on newer JDKs, and are therefore looked up using reflection. Use
+ * {@link #isVirtualThreadsSupported()} to check whether virtual threads can be used on the current JVM.
+ */
+public final class VirtualThreadHelper {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadHelper.class);
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        ThreadFactory factory = null;
+        Method method = null;
+        try {
+            // Thread.ofVirtual().factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            factory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            // Executors.newThreadPerTaskExecutor(ThreadFactory)
+            method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // virtual threads is a preview feature on some JDKs, so check that we can create a thread
+            factory.newThread(() -> {
+            });
+            LOG.debug("Virtual threads are supported on this JVM");
+        } catch (Throwable e) {
+            LOG.debug("Virtual threads are not supported on this JVM due to: {}", e.getMessage());
+            factory = null;
+            method = null;
+        }
+        VIRTUAL_THREAD_FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = method;
+    }
+
+    private VirtualThreadHelper() {
+    }
+
+    /**
+     * Whether virtual threads are supported on the current JVM.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    /**
+     * Creates a new (unstarted) virtual thread
+     *
+     * @param  name                          the thread name
+     * @param  runnable                      the task the thread should run
+     * @return                               the created virtual thread
+     * @throws UnsupportedOperationException is thrown if virtual threads are not supported on the current JVM
+     */
+    public static Thread newVirtualThread(String name, Runnable runnable) {
+        if (VIRTUAL_THREAD_FACTORY == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported on this JVM");
+        }
+        Thread answer = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+        answer.setName(name);
+        return answer;
+    }
+
+    /**
+     * Creates an executor service which starts a new thread for each task, using the given thread factory.
+     *
+     * @param  threadFactory                 the thread factory, which should create virtual threads
+     * @return                               the created executor service
+     * @throws UnsupportedOperationException is thrown if virtual threads are not supported on the current JVM
+     */
+    public static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        if (NEW_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported on this JVM");
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (InvocationTargetException e) {
+            throw new UnsupportedOperationException("Cannot create thread per task executor", e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException("Cannot create thread per task executor", e);
+        }
+    }
+
+}
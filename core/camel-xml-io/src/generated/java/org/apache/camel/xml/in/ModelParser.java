@@ -80,6 +80,7 @@ public class ModelParser extends BaseParser {
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripes": def.setLockStripes(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "strategyMethodAllowNull": def.setStrategyMethodAllowNull(val); break;
@@ -543,6 +544,7 @@ public class ModelParser extends BaseParser {
         return doParse(new LoadBalanceDefinition(),
             processorDefinitionAttributeHandler(), (def, key) -> {
             switch (key) {
+                case "adaptive": def.setLoadBalancerType(doParseAdaptiveLoadBalancerDefinition()); break;
                 case "failover": def.setLoadBalancerType(doParseFailoverLoadBalancerDefinition()); break;
                 case "random": def.setLoadBalancerType(doParseRandomLoadBalancerDefinition()); break;
                 case "customLoadBalancer": def.setLoadBalancerType(doParseCustomLoadBalancerDefinition()); break;
@@ -598,6 +600,7 @@ public class ModelParser extends BaseParser {
         return doParse(new MulticastDefinition(), (def, key, val) -> {
             switch (key) {
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
+                case "maxInFlight": def.setMaxInFlight(val); break;
                 case "onPrepareRef": def.setOnPrepareRef(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
@@ -1186,6 +1189,7 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "delimiter": def.setDelimiter(val); break;
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
+                case "maxInFlight": def.setMaxInFlight(val); break;
                 case "onPrepareRef": def.setOnPrepareRef(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
@@ -1239,6 +1243,7 @@ public class ModelParser extends BaseParser {
                 case "rejectedPolicy": def.setRejectedPolicy(val); break;
                 case "threadName": def.setThreadName(val); break;
                 case "timeUnit": def.setTimeUnit(val); break;
+                case "virtualThreads": def.setVirtualThreads(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -1250,7 +1255,9 @@ public class ModelParser extends BaseParser {
                 case "asyncDelayed": def.setAsyncDelayed(val); break;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); break;
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
+                case "leaseSize": def.setLeaseSize(val); break;
                 case "rejectExecution": def.setRejectExecution(val); break;
+                case "stateRepositoryRef": def.setStateRepositoryRef(val); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
@@ -1679,13 +1686,20 @@ public class ModelParser extends BaseParser {
                 case "capacity": def.setCapacity(val); break;
                 case "comparatorRef": def.setComparatorRef(val); break;
                 case "deliveryAttemptInterval": def.setDeliveryAttemptInterval(val); break;
+                case "deliveryThreads": def.setDeliveryThreads(val); break;
                 case "ignoreInvalidExchanges": def.setIgnoreInvalidExchanges(val); break;
                 case "rejectOld": def.setRejectOld(val); break;
                 case "timeout": def.setTimeout(val); break;
                 default: return false;
             }
             return true;
-        }, noElementHandler(), noValueHandler());
+        }, (def, key) -> {
+            if ("groupExpression".equals(key)) {
+                def.setGroupExpression(doParseExpressionSubElementDefinition());
+                return true;
+            }
+            return false;
+        }, noValueHandler());
     }
     protected ASN1DataFormat doParseASN1DataFormat() throws IOException, XmlPullParserException {
         return doParse(new ASN1DataFormat(), (def, key, val) -> {
@@ -2496,6 +2510,16 @@ public class ModelParser extends BaseParser {
             return true;
         }, noElementHandler(), expressionDefinitionValueHandler());
     }
+    protected AdaptiveLoadBalancerDefinition doParseAdaptiveLoadBalancerDefinition() throws IOException, XmlPullParserException {
+        return doParse(new AdaptiveLoadBalancerDefinition(), (def, key, val) -> {
+            switch (key) {
+                case "coolDownPeriod": def.setCoolDownPeriod(val); break;
+                case "errorThreshold": def.setErrorThreshold(val); break;
+                default: return identifiedTypeAttributeHandler().accept(def, key, val);
+            }
+            return true;
+        }, noElementHandler(), noValueHandler());
+    }
     protected CustomLoadBalancerDefinition doParseCustomLoadBalancerDefinition() throws IOException, XmlPullParserException {
         return doParse(new CustomLoadBalancerDefinition(), (def, key, val) -> {
             if ("ref".equals(key)) {
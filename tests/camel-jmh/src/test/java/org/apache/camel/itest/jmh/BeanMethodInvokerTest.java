@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests invoking bean methods using the generated method invoker compared to using reflection.
+ * <p/>
+ * The reflective path is used for beans of a non-public class, which cannot use the generated method invoker.
+ */
+public class BeanMethodInvokerTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // Specify which benchmarks to run.
+                // You can be more specific if you'd like to run only one benchmark per test.
+                .include(this.getClass().getName() + ".*")
+                // Set the following options as needed
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(2)
+                .measurementTime(TimeValue.seconds(5))
+                .measurementIterations(3)
+                .threads(1)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        CamelContext camel;
+        PublicService service;
+        Processor invoker;
+        Processor reflection;
+        Exchange exchange;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            ExtendedCamelContext ecc = camel.adapt(ExtendedCamelContext.class);
+            service = new PublicService();
+            invoker = ecc.getBeanProcessorFactory().createBeanProcessor(camel, service,
+                    PublicService.class.getMethod("handle", String.class));
+            ServiceHelper.startService(invoker);
+            reflection = ecc.getBeanProcessorFactory().createBeanProcessor(camel, new PackagePrivateService(),
+                    PackagePrivateService.class.getMethod("handle", String.class));
+            ServiceHelper.startService(reflection);
+
+            exchange = new DefaultExchange(camel);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            ServiceHelper.stopService(invoker, reflection);
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void direct(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.service.handle("World"));
+    }
+
+    @Benchmark
+    public void beanInvoker(BenchmarkState state, Blackhole bh) throws Exception {
+        state.exchange.getIn().setBody("World");
+        state.invoker.process(state.exchange);
+        bh.consume(state.exchange.getMessage().getBody());
+    }
+
+    @Benchmark
+    public void beanReflection(BenchmarkState state, Blackhole bh) throws Exception {
+        state.exchange.getIn().setBody("World");
+        state.reflection.process(state.exchange);
+        bh.consume(state.exchange.getMessage().getBody());
+    }
+
+    public static class PublicService {
+
+        public String handle(String body) {
+            return "Hello " + body;
+        }
+    }
+
+    static class PackagePrivateService {
+
+        public String handle(String body) {
+            return "Hello " + body;
+        }
+    }
+
+}
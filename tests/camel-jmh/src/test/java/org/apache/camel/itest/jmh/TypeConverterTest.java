@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import org.w3c.dom.Document;
@@ -78,6 +79,7 @@ public class TypeConverterTest {
     public static class BenchmarkCamelContextState {
         Integer someInteger = 12345;
         String someIntegerString = String.valueOf(someInteger);
+        UUID someObject = UUID.randomUUID();
         ByteArrayInputStream bos;
         String xmlAsString;
         byte[] xmlAsBytes;
@@ -172,4 +174,16 @@ public class TypeConverterTest {
         bh.consume(arr);
         bh.consume(reader);
     }
+
+    @Benchmark
+    public void typeConvertObjectToStringUsingFallback(BenchmarkCamelContextState state, Blackhole bh) {
+        String string = state.camel.getTypeConverter().convertTo(String.class, state.someObject);
+        bh.consume(string);
+    }
+
+    @Benchmark
+    public void typeTryConvertNotPossible(BenchmarkCamelContextState state, Blackhole bh) {
+        Object[] arr = state.camel.getTypeConverter().tryConvertTo(Object[].class, state.someIntegerString);
+        bh.consume(arr);
+    }
 }
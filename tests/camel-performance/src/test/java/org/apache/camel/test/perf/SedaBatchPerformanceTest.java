@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.test.perf;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Test;
+
+public class SedaBatchPerformanceTest extends AbstractBasePerformanceTest {
+
+    private final int count = 200000;
+
+    @Test
+    public void testSeda() throws Exception {
+        runTest("single");
+    }
+
+    @Test
+    public void testSedaBatch() throws Exception {
+        runTest("batch");
+    }
+
+    private void runTest(String name) throws Exception {
+        template.setDefaultEndpointUri("seda:" + name);
+
+        // warm up with 1 message so that the JIT compiler kicks in
+        resetMock(1);
+        execute(1);
+        context.getRouteController().startRoute(name);
+        assertMockEndpointsSatisfied();
+        context.getRouteController().stopRoute(name);
+
+        // fill up the queue before the consumer is started, so only the consumer is measured
+        resetMock(count);
+        execute(count);
+
+        StopWatch watch = new StopWatch();
+        context.getRouteController().startRoute(name);
+
+        assertMockEndpointsSatisfied();
+        log.warn("Consumed {} messages from seda:{} in {}ms", count, name, watch.taken());
+        context.getRouteController().stopRoute(name);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                from("seda:single?size=" + count).routeId("single").noAutoStartup()
+                        .to("mock:end");
+
+                from("seda:batch?size=" + count + "&maxBatchSize=100").routeId("batch").noAutoStartup()
+                        .to("mock:end");
+            }
+        };
+    }
+}